@@ -0,0 +1,61 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.QuantityExpression;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.ConversionTable;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>Measures evaluating <i>a + b - c * 2</i> on quantities in different units: converting every operand and
+ * creating a quantity per step, with the arithmetic methods of {@code DigitalQuantity}, and with a reused
+ * {@link QuantityExpression}.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class ArithmeticBenchmark {
+	
+	private final ConversionTable table = ConversionTable.forScreenResolution(BenchmarkDefaults.SCREEN_RESOLUTION);
+	private final UnitConverter converter = new DpiConverterFactory(BenchmarkDefaults.SCREEN_RESOLUTION).factory(UnitEnum.PIXEL);
+	private final QuantityExpression expression = new QuantityExpression(UnitEnum.PIXEL, table);
+	private final DigitalQuantity a = new DigitalQuantity(UnitEnum.PIXEL, 317.5);
+	private final DigitalQuantity b = new DigitalQuantity(UnitEnum.POINT, 12.25);
+	private final DigitalQuantity c = new DigitalQuantity(UnitEnum.MILLIMETER, 3.3);
+	
+	@Benchmark
+	public DigitalQuantity convertEachStep() {
+		DigitalQuantity sum = new DigitalQuantity(UnitEnum.PIXEL, a.getValue() + converter.convertFrom(b).getValue());
+		DigitalQuantity twice = new DigitalQuantity(UnitEnum.PIXEL, converter.convertFrom(c).getValue() * 2);
+		return new DigitalQuantity(UnitEnum.PIXEL, sum.getValue() - twice.getValue());
+	}
+	
+	@Benchmark
+	public DigitalQuantity methods() {
+		return a.plus(b, table).minus(c.times(2), table);
+	}
+	
+	@Benchmark
+	public DigitalQuantity expression() {
+		return expression.reset().plus(a).plus(b).minus(c, 2).toDigitalQuantity();
+	}
+
+}
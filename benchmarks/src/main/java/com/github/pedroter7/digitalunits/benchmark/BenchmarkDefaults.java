@@ -0,0 +1,19 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+/**
+ * <p>Settings shared by the benchmarks.
+ * 
+ * @since 1.1
+ */
+final class BenchmarkDefaults {
+	
+	/**
+	 * <p>A fixed screen resolution, so benchmarks give the same results on every machine and run
+	 * on machines without a display.
+	 */
+	static final int SCREEN_RESOLUTION = 96;
+	
+	private BenchmarkDefaults() {
+	}
+
+}
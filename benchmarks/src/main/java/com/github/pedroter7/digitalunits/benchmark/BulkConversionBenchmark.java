@@ -0,0 +1,73 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>Compares converting an array of values one {@code DigitalQuantity} at a time with the
+ * bulk {@link UnitConverter#convertFrom(UnitEnum, double[], int, double[], int, int)}.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class BulkConversionBenchmark {
+	
+	@Param({ "1000", "100000" })
+	public int size;
+	
+	@Param({ "POINT" })
+	public UnitEnum from;
+	
+	@Param({ "PIXEL" })
+	public UnitEnum to;
+	
+	protected UnitConverter converter;
+	protected double[] source;
+	protected double[] destination;
+	
+	@Setup
+	public void setUp() {
+		converter = new DpiConverterFactory(BenchmarkDefaults.SCREEN_RESOLUTION).factory(to);
+		Random random = new Random(size);
+		source = new double[size];
+		destination = new double[size];
+		for (int i = 0; i < size; i++) source[i] = DigitalQuantity.round(random.nextDouble() * 1000);
+	}
+	
+	@Benchmark
+	public double[] scalar() {
+		for (int i = 0; i < size; i++) {
+			destination[i] = converter.convertFrom(new DigitalQuantity(from, source[i])).getValue();
+		}
+		return destination;
+	}
+	
+	@Benchmark
+	public double[] bulk() {
+		converter.convertFrom(from, source, 0, destination, 0, size);
+		return destination;
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.CachingUnitConverter;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>Compares converting values drawn from a set of {@code distinct} values directly and through a
+ * {@link CachingUnitConverter} of 4096 results, with and without statistics, both when the set fits in the
+ * cache and when it doesn't.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class CachingConverterBenchmark {
+	
+	private static final int SIZE = 10_000;
+	
+	@Param({ "16", "1000000" })
+	public int distinct;
+	
+	private UnitConverter converter;
+	private CachingUnitConverter cachingConverter;
+	private CachingUnitConverter recordingConverter;
+	private double[] values;
+	
+	@Setup
+	public void setUp() {
+		converter = new DpiConverterFactory(BenchmarkDefaults.SCREEN_RESOLUTION).factory(UnitEnum.PIXEL);
+		cachingConverter = new CachingUnitConverter(converter, 4096);
+		recordingConverter = new CachingUnitConverter(converter, 4096, true);
+		Random random = new Random(distinct);
+		values = new double[SIZE];
+		// Font sizes and the like, in steps of half a point
+		for (int i = 0; i < SIZE; i++) values[i] = DigitalQuantity.round(random.nextInt(distinct) * 0.5);
+	}
+	
+	@Benchmark
+	public double direct() {
+		double sum = 0;
+		for (double value : values) sum += converter.convertFrom(UnitEnum.POINT, value);
+		return sum;
+	}
+	
+	@Benchmark
+	public double cached() {
+		double sum = 0;
+		for (double value : values) sum += cachingConverter.convertFrom(UnitEnum.POINT, value);
+		return sum;
+	}
+	
+	@Benchmark
+	public double cachedWithStatistics() {
+		double sum = 0;
+		for (double value : values) sum += recordingConverter.convertFrom(UnitEnum.POINT, value);
+		return sum;
+	}
+
+}
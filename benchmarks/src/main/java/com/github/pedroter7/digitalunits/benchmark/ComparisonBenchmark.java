@@ -0,0 +1,65 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Measures {@link DigitalQuantity#compareTo(DigitalQuantity)} for equal, smaller and
+ * greater quantities.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class ComparisonBenchmark {
+	
+	@Param({ "PIXEL", "CENTIMETER", "POINT" })
+	public UnitEnum unit;
+	
+	@Param({ "equal", "smaller", "greater" })
+	public String shape;
+	
+	private DigitalQuantity left;
+	private DigitalQuantity right;
+	
+	@Setup
+	public void setUp() {
+		left = new DigitalQuantity(unit, 12.5);
+		switch (shape) {
+		case "smaller":
+			right = new DigitalQuantity(unit, 144);
+			break;
+			
+		case "greater":
+			right = new DigitalQuantity(unit, -3.25);
+			break;
+			
+		default:
+			right = new DigitalQuantity(unit, 12.5);
+		}
+	}
+	
+	@Benchmark
+	public int compareTo() {
+		return left.compareTo(right);
+	}
+
+}
@@ -0,0 +1,60 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+import com.github.pedroter7.digitalunits.converter.UnitConverterFactory;
+
+/**
+ * <p>Measures {@link UnitConverter#convertFrom(DigitalQuantity)} for every pair of units.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+	
+	@Param({ "PIXEL", "METER", "CENTIMETER", "MILLIMETER", "POINT", "INCH" })
+	public UnitEnum from;
+	
+	@Param({ "PIXEL", "METER", "CENTIMETER", "MILLIMETER", "POINT", "INCH" })
+	public UnitEnum to;
+	
+	@Param({ "182", "12.01", "-50.54", "15874.125" })
+	public double value;
+	
+	private UnitConverter converter;
+	private DigitalQuantity quantity;
+	
+	@Setup
+	public void setUp() {
+		UnitConverterFactory factory = new DpiConverterFactory(BenchmarkDefaults.SCREEN_RESOLUTION);
+		converter = factory.factory(to);
+		quantity = new DigitalQuantity(from, value);
+	}
+	
+	@Benchmark
+	public DigitalQuantity convertFrom() {
+		return converter.convertFrom(quantity);
+	}
+
+}
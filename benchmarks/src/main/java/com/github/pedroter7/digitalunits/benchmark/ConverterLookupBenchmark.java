@@ -0,0 +1,104 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.ConversionEngine;
+import com.github.pedroter7.digitalunits.converter.ConversionTable;
+import com.github.pedroter7.digitalunits.converter.ConverterRegistry;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>Measures getting a converter and converting a single quantity with it, from several threads at
+ * once, when a converter like the library ones is created on every call and when it is taken from
+ * {@link ConverterRegistry}, or from {@link ConversionEngine} for a fractional resolution.
+ * The converter is handed to a {@code Blackhole}, as callers that keep or pass it on do, so its
+ * allocation can't be optimized away.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@Threads(4)
+@State(Scope.Benchmark)
+public class ConverterLookupBenchmark {
+	
+	@Param({ "96", "2400" })
+	public int screenDpi;
+	
+	private ConversionTable table;
+	private final ConverterRegistry registry = ConverterRegistry.getDefault();
+	private final ConversionEngine engine = ConversionEngine.getDefault();
+	private final DigitalQuantity quantity = new DigitalQuantity(UnitEnum.POINT, 12.5);
+	
+	@Setup
+	public void setUp() {
+		table = ConversionTable.forScreenResolution(screenDpi);
+	}
+	
+	@Benchmark
+	public DigitalQuantity createPerCall(Blackhole blackhole) {
+		UnitConverter converter = new TableConverter(UnitEnum.PIXEL, table);
+		blackhole.consume(converter);
+		return converter.convertFrom(quantity);
+	}
+	
+	@Benchmark
+	public DigitalQuantity registry(Blackhole blackhole) {
+		UnitConverter converter = registry.getConverter(UnitEnum.PIXEL, screenDpi);
+		blackhole.consume(converter);
+		return converter.convertFrom(quantity);
+	}
+
+	@Benchmark
+	public DigitalQuantity engine(Blackhole blackhole) {
+		// A fractional scaling of the resolution
+		UnitConverter converter = engine.getConverter(UnitEnum.PIXEL, screenDpi * 1.25);
+		blackhole.consume(converter);
+		return converter.convertFrom(quantity);
+	}
+	
+	/**
+	 * <p>Converts like the converters of the library do, with a single multiplication and rounding.
+	 */
+	private static final class TableConverter implements UnitConverter {
+		
+		private final UnitEnum goalUnit;
+		private final ConversionTable table;
+		
+		TableConverter(UnitEnum goalUnit, ConversionTable table) {
+			this.goalUnit = goalUnit;
+			this.table = table;
+		}
+		
+		@Override
+		public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+			return new DigitalQuantity(goalUnit, table.convert(digitalQuantity.getValue(), digitalQuantity.getUnit(), goalUnit));
+		}
+		
+		@Override
+		public UnitEnum getGoalUnit() {
+			return goalUnit;
+		}
+		
+	}
+
+}
@@ -0,0 +1,102 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.FixedLength;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Compares summing and offsetting lengths as {@code DigitalQuantity} objects with doing so on
+ * {@link FixedLength} fixed point lengths, and measures converting values to and from fixed point lengths.
+ *
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class FixedLengthBenchmark {
+
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private DigitalQuantity[] quantities;
+	private DigitalQuantity offset;
+	private double[] values;
+	private long[] lengths;
+	private long lengthOffset;
+	private double[] destination;
+	private long[] lengthDestination;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(size);
+		quantities = new DigitalQuantity[size];
+		values = new double[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = DigitalQuantity.round(random.nextDouble() * 1000);
+			quantities[i] = new DigitalQuantity(UnitEnum.PIXEL, values[i]);
+		}
+		offset = new DigitalQuantity(UnitEnum.PIXEL, 0.5);
+		lengths = new long[size];
+		FixedLength.of(UnitEnum.PIXEL, values, 0, lengths, 0, size, BenchmarkDefaults.SCREEN_RESOLUTION);
+		lengthOffset = FixedLength.of(offset, BenchmarkDefaults.SCREEN_RESOLUTION);
+		destination = new double[size];
+		lengthDestination = new long[size];
+	}
+
+	@Benchmark
+	public DigitalQuantity sumQuantities() {
+		DigitalQuantity sum = new DigitalQuantity(UnitEnum.PIXEL, 0);
+		for (DigitalQuantity quantity : quantities) sum = sum.plus(quantity);
+		return sum;
+	}
+
+	@Benchmark
+	public long sumFixedLengths() {
+		return FixedLength.sum(lengths, 0, size);
+	}
+
+	@Benchmark
+	public DigitalQuantity[] offsetQuantities() {
+		DigitalQuantity[] result = new DigitalQuantity[size];
+		for (int i = 0; i < size; i++) result[i] = quantities[i].plus(offset);
+		return result;
+	}
+
+	@Benchmark
+	public long[] offsetFixedLengths() {
+		System.arraycopy(lengths, 0, lengthDestination, 0, size);
+		FixedLength.add(lengthDestination, 0, size, lengthOffset);
+		return lengthDestination;
+	}
+
+	@Benchmark
+	public long[] toFixedLengths() {
+		FixedLength.of(UnitEnum.PIXEL, values, 0, lengthDestination, 0, size, BenchmarkDefaults.SCREEN_RESOLUTION);
+		return lengthDestination;
+	}
+
+	@Benchmark
+	public double[] fromFixedLengths() {
+		FixedLength.toUnit(UnitEnum.PIXEL, lengths, 0, destination, 0, size, BenchmarkDefaults.SCREEN_RESOLUTION);
+		return destination;
+	}
+
+}
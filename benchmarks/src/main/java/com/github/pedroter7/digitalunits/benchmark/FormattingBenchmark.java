@@ -0,0 +1,77 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.QuantityFormatter;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Measures {@link DigitalQuantity#getHumanRepresentation(boolean, int, Locale)}, the {@code String.format}
+ * call it used to make, and appending with a shared {@link QuantityFormatter}.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class FormattingBenchmark {
+	
+	@Param({ "-32.533333", "20.5522", "15874.125" })
+	public double value;
+	
+	@Param({ "0", "2", "5" })
+	public int decimalPlaces;
+	
+	@Param({ "true", "false" })
+	public boolean useSpace;
+	
+	@Param({ "en", "pt" })
+	public String languageTag;
+	
+	private DigitalQuantity quantity;
+	private Locale locale;
+	private QuantityFormatter formatter;
+	private final StringBuilder builder = new StringBuilder();
+	
+	@Setup
+	public void setUp() {
+		quantity = new DigitalQuantity(UnitEnum.CENTIMETER, value);
+		locale = Locale.forLanguageTag(languageTag);
+		formatter = new QuantityFormatter(useSpace, decimalPlaces, locale);
+	}
+	
+	@Benchmark
+	public String getHumanRepresentation() {
+		return quantity.getHumanRepresentation(useSpace, decimalPlaces, locale);
+	}
+	
+	@Benchmark
+	public String stringFormat() {
+		String formatterString = "%1$." + decimalPlaces + "f" + (useSpace ? " " : "") + "%2$s";
+		return String.format(locale, formatterString, quantity.getValue(), quantity.getUnit().getSymbol());
+	}
+	
+	@Benchmark
+	public StringBuilder formatterAppend() {
+		builder.setLength(0);
+		return formatter.appendTo(builder, quantity);
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityParser;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Compares reading inputs of which a share is malformed with {@link DigitalQuantity#valueOf(String)},
+ * catching its exceptions, with {@link DigitalQuantityParser#tryParse(CharSequence, int, int)} and with
+ * {@link DigitalQuantityParser#validate(CharSequence[], int, int, int[], byte[])}.
+ *
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class MalformedInputBenchmark {
+
+	private static final String[] MALFORMED = { "", "12", "px", "12.5.3pt", "3em", "1e400px", "auto" };
+
+	@Param({ "1000" })
+	public int size;
+
+	@Param({ "0", "5", "10" })
+	public int malformedPercent;
+
+	private final DigitalQuantityParser parser = new DigitalQuantityParser();
+	private String[] inputs;
+	private int[] failedIndices;
+	private byte[] reasons;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(size);
+		UnitEnum[] units = UnitEnum.values();
+		inputs = new String[size];
+		for (int i = 0; i < size; i++) {
+			inputs[i] = random.nextInt(100) < malformedPercent ? MALFORMED[random.nextInt(MALFORMED.length)]
+					: DigitalQuantity.round(random.nextDouble() * 1000) + units[random.nextInt(units.length)].getSymbol();
+		}
+		failedIndices = new int[size];
+		reasons = new byte[size];
+	}
+
+	@Benchmark
+	public double valueOf() {
+		double sum = 0;
+		for (String input : inputs) {
+			try {
+				sum += DigitalQuantity.valueOf(input).getValue();
+			} catch (RuntimeException e) {
+				sum--;
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double tryParse() {
+		double sum = 0;
+		for (String input : inputs) {
+			if (parser.tryParse(input, 0, input.length()) < 0) sum--;
+			else sum += parser.getValue();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int validate() {
+		return parser.validate(inputs, 0, inputs.length, failedIndices, reasons);
+	}
+
+}
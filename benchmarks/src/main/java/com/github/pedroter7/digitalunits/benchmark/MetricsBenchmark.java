@@ -0,0 +1,98 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.QuantityFormatter;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+import com.github.pedroter7.digitalunits.metrics.Metrics;
+
+/**
+ * <p>Measures the cost of the {@link Metrics} hooks, running each operation in a JVM with metrics disabled and in
+ * another one with metrics enabled.
+ *
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+	private static final String ENABLED = "-D" + Metrics.ENABLED_PROPERTY + "=true";
+
+	private static final int SIZE = 1000;
+
+	private UnitConverter converter;
+	private DigitalQuantity quantity;
+	private QuantityFormatter formatter;
+	private double[] source;
+	private double[] destination;
+	private final StringBuilder builder = new StringBuilder();
+
+	@Setup
+	public void setUp() {
+		converter = new DpiConverterFactory(BenchmarkDefaults.SCREEN_RESOLUTION).factory(UnitEnum.PIXEL);
+		quantity = new DigitalQuantity(UnitEnum.POINT, 20.5522);
+		formatter = new QuantityFormatter(true, 2, Locale.US);
+		Random random = new Random(SIZE);
+		source = new double[SIZE];
+		destination = new double[SIZE];
+		for (int i = 0; i < SIZE; i++) source[i] = DigitalQuantity.round(random.nextDouble() * 1000);
+	}
+
+	@Benchmark
+	public DigitalQuantity convertDisabled() {
+		return converter.convertFrom(quantity);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", ENABLED })
+	public DigitalQuantity convertEnabled() {
+		return converter.convertFrom(quantity);
+	}
+
+	@Benchmark
+	public double[] bulkDisabled() {
+		converter.convertFrom(UnitEnum.POINT, source, 0, destination, 0, SIZE);
+		return destination;
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", ENABLED })
+	public double[] bulkEnabled() {
+		converter.convertFrom(UnitEnum.POINT, source, 0, destination, 0, SIZE);
+		return destination;
+	}
+
+	@Benchmark
+	public StringBuilder formatDisabled() {
+		builder.setLength(0);
+		return formatter.appendTo(builder, quantity);
+	}
+
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", ENABLED })
+	public StringBuilder formatEnabled() {
+		builder.setLength(0);
+		return formatter.appendTo(builder, quantity);
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.ParallelUnitConverter;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>Measures how the bulk conversion of a {@link ParallelUnitConverter} scales with the number of threads of its
+ * pool, against the sequential bulk conversion of the converter it wraps. Numbers of threads above the number of
+ * cores of the machine only show the cost of splitting the conversion.
+ *
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx2g" })
+@State(Scope.Benchmark)
+public class ParallelConversionBenchmark {
+
+	@Param({ "10000000" })
+	public int size;
+
+	@Param({ "1", "2", "4", "8" })
+	public int threads;
+
+	private UnitConverter converter;
+	private ParallelUnitConverter parallelConverter;
+	private ForkJoinPool pool;
+	private double[] source;
+	private double[] destination;
+
+	@Setup
+	public void setUp() {
+		converter = new DpiConverterFactory(BenchmarkDefaults.SCREEN_RESOLUTION).factory(UnitEnum.PIXEL);
+		pool = new ForkJoinPool(threads);
+		parallelConverter = new ParallelUnitConverter(converter, pool,
+				ParallelUnitConverter.DEFAULT_THRESHOLD, ParallelUnitConverter.DEFAULT_CHUNK_SIZE);
+		Random random = new Random(size);
+		source = new double[size];
+		destination = new double[size];
+		for (int i = 0; i < size; i++) source[i] = DigitalQuantity.round(random.nextDouble() * 1000);
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public double[] sequential() {
+		converter.convertFrom(UnitEnum.POINT, source, 0, destination, 0, size);
+		return destination;
+	}
+
+	@Benchmark
+	public double[] parallel() {
+		parallelConverter.convertFrom(UnitEnum.POINT, source, 0, destination, 0, size);
+		return destination;
+	}
+
+}
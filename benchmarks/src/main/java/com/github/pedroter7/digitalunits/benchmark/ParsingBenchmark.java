@@ -0,0 +1,62 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityParser;
+
+/**
+ * <p>Measures {@link DigitalQuantity#valueOf(String)} and {@link DigitalQuantityParser} for differently
+ * shaped inputs.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class ParsingBenchmark {
+	
+	@Param({ "15px", "145.20 cm", "  366      in    ", "-50.54mm", "12.01pt", "144m", "0.000352777pt" })
+	public String input;
+	
+	private final DigitalQuantityParser parser = new DigitalQuantityParser();
+	private char[] chars;
+	
+	@Setup
+	public void setUp() {
+		chars = input.toCharArray();
+	}
+	
+	@Benchmark
+	public DigitalQuantity valueOf() {
+		return DigitalQuantity.valueOf(input);
+	}
+	
+	@Benchmark
+	public double parseCharSequence() {
+		parser.parse(input, 0, input.length());
+		return parser.getValue();
+	}
+	
+	@Benchmark
+	public double parseCharArray() {
+		parser.parse(chars, 0, chars.length);
+		return parser.getValue();
+	}
+
+}
@@ -0,0 +1,85 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityArray;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>Compares a {@code List<DigitalQuantity>} with a {@link DigitalQuantityArray} holding the same
+ * quantities, when summing them and when converting them to another unit.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class QuantityArrayBenchmark {
+	
+	@Param({ "1000000" })
+	public int size;
+	
+	private final UnitConverter converter = new DpiConverterFactory(BenchmarkDefaults.SCREEN_RESOLUTION).factory(UnitEnum.PIXEL);
+	private List<DigitalQuantity> list;
+	private DigitalQuantityArray array;
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(size);
+		list = new ArrayList<>(size);
+		array = new DigitalQuantityArray(size);
+		for (int i = 0; i < size; i++) {
+			DigitalQuantity quantity = new DigitalQuantity(UnitEnum.POINT, random.nextDouble() * 1000);
+			list.add(quantity);
+			array.add(quantity);
+		}
+	}
+	
+	@Benchmark
+	public DigitalQuantity sumList() {
+		double sum = 0;
+		for (DigitalQuantity quantity : list) sum += quantity.getValue();
+		return new DigitalQuantity(UnitEnum.POINT, sum);
+	}
+	
+	@Benchmark
+	public DigitalQuantity sumArray() {
+		return array.sum();
+	}
+	
+	@Benchmark
+	public List<DigitalQuantity> convertList() {
+		List<DigitalQuantity> converted = new ArrayList<>(size);
+		for (DigitalQuantity quantity : list) converted.add(converter.convertFrom(quantity));
+		return converted;
+	}
+	
+	@Benchmark
+	public DigitalQuantityArray convertArray() {
+		DigitalQuantityArray converted = new DigitalQuantityArray(array);
+		converted.convert(converter);
+		return converted;
+	}
+
+}
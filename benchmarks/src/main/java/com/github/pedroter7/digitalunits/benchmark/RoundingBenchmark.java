@@ -0,0 +1,95 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+
+/**
+ * <p>Compares {@link DigitalQuantity#round(double)} with rounding through a new
+ * {@link BigDecimal}, which is what the {@code DigitalQuantity} constructor used to do.
+ * 
+ * <p>The setup fails if both ways of rounding disagree on any bit of any input, so a
+ * successful run also proves they are compatible for the generated inputs.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class RoundingBenchmark {
+	
+	private static final int SIZE = 1024;
+	
+	/**
+	 * <p>{@code layout} are values between -10000 and 10000, {@code integer} are whole
+	 * numbers of pixels and {@code full-range} are random finite bit patterns.
+	 */
+	@Param({ "layout", "integer", "full-range" })
+	public String shape;
+	
+	private final double[] values = new double[SIZE];
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			switch (shape) {
+			case "integer":
+				values[i] = random.nextInt(4096);
+				break;
+				
+			case "full-range":
+				double value;
+				do {
+					value = Double.longBitsToDouble(random.nextLong());
+				} while (!Double.isFinite(value));
+				values[i] = value;
+				break;
+				
+			default:
+				values[i] = (random.nextDouble() - 0.5) * 20000;
+			}
+		}
+		
+		MathContext mathContext = new MathContext(8);
+		for (double value : values) {
+			double expected = new BigDecimal(value, mathContext).doubleValue();
+			if (Double.doubleToRawLongBits(expected) != Double.doubleToRawLongBits(DigitalQuantity.round(value)))
+				throw new IllegalStateException("DigitalQuantity.round(" + value + ") differs from BigDecimal rounding");
+		}
+	}
+	
+	@Benchmark
+	public void bigDecimal(Blackhole blackhole) {
+		for (double value : values) {
+			blackhole.consume(new BigDecimal(value, new MathContext(8)).doubleValue());
+		}
+	}
+	
+	@Benchmark
+	public void round(Blackhole blackhole) {
+		for (double value : values) {
+			blackhole.consume(DigitalQuantity.round(value));
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityScanner;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Measures extracting every quantity from a generated style sheet with {@link DigitalQuantityScanner},
+ * against matching them with a regular expression and reading each match with
+ * {@link DigitalQuantity#valueOf(String)}.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class ScanningBenchmark {
+	
+	private static final Pattern QUANTITY = Pattern.compile("-?\\d+(\\.\\d+)?\\s*(px|cm|mm|pt|in|m)\\b");
+	
+	private final DigitalQuantityScanner scanner = new DigitalQuantityScanner();
+	private String text;
+	private ByteBuffer bytes;
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(11);
+		UnitEnum[] units = UnitEnum.values();
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 10_000; i++) {
+			builder.append(".rule-").append(i).append(" { margin: ")
+					.append(Math.round(random.nextDouble() * 10000) / 100.0)
+					.append(units[random.nextInt(units.length)].getSymbol())
+					.append("; color: #a0b0c0; z-index: ").append(i).append("; }\n");
+		}
+		text = builder.toString();
+		bytes = ByteBuffer.allocateDirect(text.length());
+		bytes.put(text.getBytes(StandardCharsets.US_ASCII)).flip();
+	}
+	
+	@Benchmark
+	public long scanCharSequence(Blackhole blackhole) {
+		return scanner.scan(text, (offset, unit, value) -> blackhole.consume(value));
+	}
+	
+	@Benchmark
+	public long scanByteBuffer(Blackhole blackhole) {
+		return scanner.scan(bytes, (offset, unit, value) -> blackhole.consume(value));
+	}
+	
+	@Benchmark
+	public long regexAndValueOf(Blackhole blackhole) {
+		long count = 0;
+		Matcher matcher = QUANTITY.matcher(text);
+		while (matcher.find()) {
+			blackhole.consume(DigitalQuantity.valueOf(matcher.group()).getValue());
+			count++;
+		}
+		return count;
+	}
+
+}
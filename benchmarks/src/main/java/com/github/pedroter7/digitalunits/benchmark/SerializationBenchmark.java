@@ -0,0 +1,153 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityArray;
+import com.github.pedroter7.digitalunits.DigitalQuantityCodec;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Compares writing and reading quantities with the default Java serialization of a unit and a value, which is
+ * how {@code DigitalQuantity} used to be serialized, with its serialization proxy, and with
+ * {@link DigitalQuantityCodec} over a {@code DataOutput} and a {@code ByteBuffer}.
+ *
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+	/**
+	 * <p>Has the same fields as {@code DigitalQuantity}, so it is serialized in its former default form.
+	 */
+	private static final class DefaultForm implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final UnitEnum unit;
+		private final double value;
+
+		private DefaultForm(UnitEnum unit, double value) {
+			this.unit = unit;
+			this.value = value;
+		}
+
+	}
+
+	@Param({ "10000" })
+	public int size;
+
+	private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	private List<DefaultForm> defaultForms;
+	private List<DigitalQuantity> quantities;
+	private DigitalQuantityArray array;
+	private ByteBuffer buffer;
+	private ByteBuffer encoded;
+	private byte[] defaultSerialized;
+	private byte[] proxySerialized;
+
+	@Setup
+	public void setUp() throws IOException {
+		Random random = new Random(size);
+		defaultForms = new ArrayList<>(size);
+		quantities = new ArrayList<>(size);
+		array = new DigitalQuantityArray(size);
+		for (int i = 0; i < size; i++) {
+			UnitEnum unit = UnitEnum.values()[random.nextInt(UnitEnum.values().length)];
+			// Layout values usually have a couple of decimal places
+			DigitalQuantity quantity = new DigitalQuantity(unit, random.nextInt(100000) / 100.0);
+			defaultForms.add(new DefaultForm(unit, quantity.getValue()));
+			quantities.add(quantity);
+			array.add(quantity);
+		}
+		buffer = ByteBuffer.allocate(size * DigitalQuantityCodec.MAX_ENCODED_BYTES + 5);
+		encoded = ByteBuffer.allocate(buffer.capacity());
+		DigitalQuantityCodec.encode(array, encoded);
+		encoded.flip();
+		defaultSerialized = serialize(defaultForms);
+		proxySerialized = serialize(quantities);
+	}
+
+	private byte[] serialize(Object object) throws IOException {
+		bytes.reset();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(object);
+		}
+		return bytes.toByteArray();
+	}
+
+	private Object deserialize(byte[] serialized) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+			return input.readObject();
+		}
+	}
+
+	@Benchmark
+	public int writeDefaultForm() throws IOException {
+		return serialize(defaultForms).length;
+	}
+
+	@Benchmark
+	public int writeProxy() throws IOException {
+		return serialize(quantities).length;
+	}
+
+	@Benchmark
+	public int writeCodecDataOutput() throws IOException {
+		bytes.reset();
+		DigitalQuantityCodec.encode(array, new DataOutputStream(bytes));
+		return bytes.size();
+	}
+
+	@Benchmark
+	public int writeCodecByteBuffer() {
+		buffer.clear();
+		DigitalQuantityCodec.encode(array, buffer);
+		return buffer.position();
+	}
+
+	@Benchmark
+	public Object readDefaultForm() throws IOException, ClassNotFoundException {
+		return deserialize(defaultSerialized);
+	}
+
+	@Benchmark
+	public Object readProxy() throws IOException, ClassNotFoundException {
+		return deserialize(proxySerialized);
+	}
+
+	@Benchmark
+	public DigitalQuantityArray readCodecByteBuffer() {
+		encoded.rewind();
+		return DigitalQuantityCodec.decodeArray(encoded);
+	}
+
+}
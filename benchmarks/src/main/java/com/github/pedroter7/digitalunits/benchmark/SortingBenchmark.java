@@ -0,0 +1,83 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.CrossUnitComparator;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>Compares sorting a list of quantities in mixed units by converting every quantity to a single unit first,
+ * with {@code List.sort} and a {@link CrossUnitComparator}, and with the radix sort of {@code CrossUnitComparator}.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx2g" })
+@State(Scope.Benchmark)
+public class SortingBenchmark {
+	
+	@Param({ "10000", "1000000" })
+	public int size;
+	
+	private final CrossUnitComparator comparator = CrossUnitComparator.forScreenResolution(BenchmarkDefaults.SCREEN_RESOLUTION);
+	private final UnitConverter converter = new DpiConverterFactory(BenchmarkDefaults.SCREEN_RESOLUTION).factory(UnitEnum.PIXEL);
+	private List<DigitalQuantity> quantities;
+	private List<DigitalQuantity> list;
+	
+	@Setup
+	public void setUp() {
+		Random random = new Random(size);
+		quantities = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			UnitEnum unit = UnitEnum.values()[random.nextInt(UnitEnum.values().length)];
+			quantities.add(new DigitalQuantity(unit, random.nextDouble() * 1000));
+		}
+	}
+	
+	@Setup(Level.Invocation)
+	public void copy() {
+		list = new ArrayList<>(quantities);
+	}
+	
+	@Benchmark
+	public List<DigitalQuantity> convertThenSort() {
+		list.replaceAll(converter::convertFrom);
+		list.sort(null);
+		return list;
+	}
+	
+	@Benchmark
+	public List<DigitalQuantity> listSort() {
+		list.sort(comparator);
+		return list;
+	}
+	
+	@Benchmark
+	public List<DigitalQuantity> radixSort() {
+		comparator.sort(list);
+		return list;
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Measures {@link UnitEnum#getUnit(String)} and its {@code char} overloads against the linear lookup
+ * that {@code DigitalQuantity.valueOf} used before, which lowered the case of the symbol and compared it
+ * to every {@code UnitEnum} of a fresh {@code values()} array. Unlike the other lookups, {@code getUnit(String)}
+ * is case sensitive and finds no unit for {@code IN}.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Benchmark)
+public class UnitLookupBenchmark {
+	
+	@Param({ "px", "in", "m", "IN", "em" })
+	public String symbol;
+	
+	private char first;
+	private char second;
+	
+	@Setup
+	public void setUp() {
+		first = symbol.charAt(0);
+		second = symbol.length() > 1 ? symbol.charAt(1) : 0;
+	}
+	
+	@Benchmark
+	public UnitEnum linearLookup() {
+		String lowerCase = symbol.toLowerCase();
+		for (UnitEnum u : UnitEnum.values()) {
+			if (u.getSymbol().equals(lowerCase)) return u;
+		}
+		return null;
+	}
+	
+	@Benchmark
+	public UnitEnum getUnitString() {
+		return UnitEnum.getUnit(symbol);
+	}
+	
+	@Benchmark
+	public UnitEnum getUnitChars() {
+		return second == 0 ? UnitEnum.getUnit(first) : UnitEnum.getUnit(first, second);
+	}
+
+}
@@ -0,0 +1,109 @@
+package com.github.pedroter7.digitalunits.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.ConversionTable;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+import com.github.pedroter7.digitalunits.vector.VectorConverterFactory;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>Compares bulk conversion with the scalar loop of the core library, with an
+ * auto-vectorizable multiplication followed by scalar rounding and with the Vector API
+ * converters. The {@code multiply*} benchmarks skip rounding and show the upper bound
+ * of each loop.
+ * 
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "--add-modules=jdk.incubator.vector" })
+@State(Scope.Benchmark)
+public class VectorConversionBenchmark {
+	
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+	
+	@Param({ "1000", "10000", "100000", "1000000", "10000000" })
+	public int size;
+	
+	@Param({ "POINT" })
+	public UnitEnum from;
+	
+	@Param({ "PIXEL" })
+	public UnitEnum to;
+	
+	private UnitConverter scalarConverter;
+	private UnitConverter vectorConverter;
+	private double factor;
+	private double[] source;
+	private double[] destination;
+	
+	@Setup
+	public void setUp() {
+		ConversionTable table = ConversionTable.forScreenResolution(BenchmarkDefaults.SCREEN_RESOLUTION);
+		scalarConverter = new DpiConverterFactory(BenchmarkDefaults.SCREEN_RESOLUTION).factory(to);
+		vectorConverter = new VectorConverterFactory(table).factory(to);
+		factor = table.getFactor(from, to);
+		Random random = new Random(size);
+		source = new double[size];
+		destination = new double[size];
+		for (int i = 0; i < size; i++) source[i] = DigitalQuantity.round(random.nextDouble() * 1000);
+	}
+	
+	@Benchmark
+	public double[] scalar() {
+		scalarConverter.convertFrom(from, source, 0, destination, 0, size);
+		return destination;
+	}
+	
+	@Benchmark
+	public double[] autoVectorized() {
+		for (int i = 0; i < size; i++) destination[i] = source[i] * factor;
+		for (int i = 0; i < size; i++) destination[i] = DigitalQuantity.round(destination[i]);
+		return destination;
+	}
+	
+	@Benchmark
+	public double[] vector() {
+		vectorConverter.convertFrom(from, source, 0, destination, 0, size);
+		return destination;
+	}
+	
+	@Benchmark
+	public double[] multiplyAutoVectorized() {
+		for (int i = 0; i < size; i++) destination[i] = source[i] * factor;
+		return destination;
+	}
+	
+	@Benchmark
+	public double[] multiplyVector() {
+		int bound = SPECIES.loopBound(size);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			DoubleVector.fromArray(SPECIES, source, i).mul(factor).intoArray(destination, i);
+		}
+		for (; i < size; i++) destination[i] = source[i] * factor;
+		return destination;
+	}
+
+}
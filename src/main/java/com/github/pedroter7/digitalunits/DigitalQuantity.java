@@ -1,11 +1,19 @@
 package com.github.pedroter7.digitalunits;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.Locale;
 import java.util.Objects;
 
+import com.github.pedroter7.digitalunits.converter.ConversionTable;
+import com.github.pedroter7.digitalunits.metrics.Metrics;
+
 /**
  * <p>The {@code DigitalQuantity} class is represents a digital measuring unit.
  * 
@@ -22,6 +30,20 @@ import java.util.Objects;
  * different units will cause a {@link UnsupportedOperationException}. A {@code null} value will
  * cause a {@link NullPointerException}.
  * 
+ * <p>Two {@code DigitalQuantity} objects are equal if they have the same unit and the same numerical
+ * value after rounding, so they can be used as keys of hash based collections. As in comparisons,
+ * quantities in different units are never equal, even if they measure the same length.
+ * 
+ * <p>The arithmetic methods, such as {@link DigitalQuantity#plus(DigitalQuantity, ConversionTable)}, give
+ * results in the unit of the quantity they're called on, converting the other operands through the given
+ * {@code ConversionTable}. Their overloads without a {@code ConversionTable} only accept operands in the same
+ * unit, like comparisons do. Each result is rounded once, so to evaluate a long expression without creating
+ * intermediate objects, use a {@link QuantityExpression}.
+ * 
+ * <p>{@link DigitalQuantity#valueOf(UnitEnum, double)} returns shared objects for frequently used
+ * integral values, such as {@code 0px} or {@code 12pt}, and should be preferred to the constructor
+ * when the identity of the object doesn't matter.
+ * 
  * <p>The {@code DigitalQuantity#toString()} method will return a {@code String} representing the digital
  * quantity with the following template: {@code "[unit: x; value: n]"}, where x is the {@code UnitEnum}
  * symbol String and n is the numerical value of the {@code DigitalQuantity}. One can obtain a
@@ -35,16 +57,150 @@ public final class DigitalQuantity implements Serializable, Comparable<DigitalQu
 
 	private static final long serialVersionUID = 8472738932779828798L;
 	
+	// Set precision to 8 to try to prevent overflow issues
+	private static final MathContext MATH_CONTEXT = new MathContext(8);
+	
+	// Every power of ten up to 10^22 is exactly representable as a double
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	
+	// Scaled values closer than this to a rounding tie are handed to BigDecimal
+	private static final double TIE_MARGIN = 1e-7;
+	
+	private static final double LOG10_OF_2 = 0.30102999566398120;
+	
+	/**
+	 * <p>The name of the system property that sets the largest integral value cached by
+	 * {@link DigitalQuantity#valueOf(UnitEnum, double)}. A negative value disables the cache.
+	 * 
+	 * @since 1.1
+	 */
+	public static final String CACHE_HIGH_PROPERTY = "com.github.pedroter7.digitalunits.DigitalQuantity.cacheHigh";
+	
+	/**
+	 * <p>Holds the cached quantities, each one created the first time it is asked for. The arrays
+	 * are only allocated the first time {@link DigitalQuantity#valueOf(UnitEnum, double)} is called.
+	 */
+	private static final class QuantityCache {
+		
+		private static final int LOW = -128;
+		private static final int DEFAULT_HIGH = 1023;
+		private static final int MAX_HIGH = 1 << 16;
+		private static final int HIGH;
+		private static final DigitalQuantity[][] CACHE;
+		
+		static {
+			int high = DEFAULT_HIGH;
+			String property = System.getProperty(CACHE_HIGH_PROPERTY);
+			if (property != null) {
+				try {
+					high = Math.min(Integer.parseInt(property.trim()), MAX_HIGH);
+				} catch (NumberFormatException e) {
+					// Keep the default
+				}
+			}
+			HIGH = high < 0 ? LOW - 1 : high;
+			CACHE = new DigitalQuantity[UnitEnum.values().length][HIGH - LOW + 1];
+		}
+		
+	}
+	
 	private final UnitEnum unit;
 	private final double value;
 	
 	public DigitalQuantity(UnitEnum unit, double value) {
 		Objects.requireNonNull(unit, "To create a new DigitalQuantity, unit can't be null.");
 		this.unit = unit;
-		// Set precision to 8 to try to prevent overflow issues
-		MathContext mathContext = new MathContext(8);
-		value = new BigDecimal(value, mathContext).doubleValue();
-		this.value = value;
+		this.value = round(value);
+	}
+
+	/**
+	 * <p>Rounds the given value to the precision used by {@code DigitalQuantity}, that is,
+	 * 8 significant digits rounded half up. The result is always the same as
+	 * {@code new BigDecimal(value, new MathContext(8)).doubleValue()}.
+	 * 
+	 * <p>Most values are rounded with plain {@code double} arithmetic, without allocating.
+	 * Values whose scaled representation lies too close to a rounding tie, and values too small
+	 * or too large to be scaled by an exact power of ten, are rounded through {@link BigDecimal}.
+	 * 
+	 * <p>Since {@link BigDecimal} can't represent them, {@code NaN} and infinite values
+	 * cause a {@link NumberFormatException}.
+	 * 
+	 * @param value The value to be rounded.
+	 * 
+	 * @return The value rounded to 8 significant digits.
+	 * 
+	 * @since 1.1
+	 */
+	public static double round(double value) {
+		// BigDecimal has no negative zero
+		if (value == 0) return 0.0;
+		double magnitude = Math.abs(value);
+		if (!(magnitude < Double.POSITIVE_INFINITY)) return roundWithBigDecimal(value);
+		
+		// Estimate never exceeds floor(log10(magnitude)) and is at most one below it
+		int exponent = (int) Math.floor(Math.getExponent(magnitude) * LOG10_OF_2);
+		int scale = 7 - exponent;
+		double scaled = scale(magnitude, scale);
+		if (scaled >= 1e8) {
+			scale--;
+			scaled = scale(magnitude, scale);
+		}
+		if (Double.isNaN(scaled)) return roundWithBigDecimal(value);
+		
+		if (Math.abs(scaled - Math.floor(scaled) - 0.5) < TIE_MARGIN) return roundWithBigDecimal(value);
+		// Away from ties adding one half can't carry the scaled value over the wrong integer
+		double rounded = Math.floor(scaled + 0.5);
+		
+		double result = unscale(rounded, scale);
+		return value < 0 ? -result : result;
+	}
+	
+	private static double scale(double magnitude, int scale) {
+		if (scale >= 0) return scale < POWERS_OF_TEN.length ? magnitude * POWERS_OF_TEN[scale] : Double.NaN;
+		return -scale < POWERS_OF_TEN.length ? magnitude / POWERS_OF_TEN[-scale] : Double.NaN;
+	}
+	
+	private static double unscale(double rounded, int scale) {
+		return scale >= 0 ? rounded / POWERS_OF_TEN[scale] : rounded * POWERS_OF_TEN[-scale];
+	}
+	
+	private static double roundWithBigDecimal(double value) {
+		return new BigDecimal(value, MATH_CONTEXT).doubleValue();
+	}
+	
+	/**
+	 * <p>Returns a {@code DigitalQuantity} equal to {@code new DigitalQuantity(unit, value)}.
+	 * 
+	 * <p>Like {@link Integer#valueOf(int)}, quantities whose rounded value is an integer from -128 to
+	 * 1023 are cached, so the same object is usually returned for them. The upper bound can be changed,
+	 * up to 65536, or the cache disabled, with the system property {@value DigitalQuantity#CACHE_HIGH_PROPERTY}.
+	 * 
+	 * @param unit The unit of the quantity.
+	 * @param value The numerical value of the quantity.
+	 * 
+	 * @return A {@code DigitalQuantity} with the given unit and value.
+	 * 
+	 * @since 1.1
+	 */
+	public static DigitalQuantity valueOf(UnitEnum unit, double value) {
+		Objects.requireNonNull(unit, "To create a new DigitalQuantity, unit can't be null.");
+		double rounded = round(value);
+		int integral = (int) rounded;
+		if (integral != rounded || integral < QuantityCache.LOW || integral > QuantityCache.HIGH) {
+			return new DigitalQuantity(unit, rounded);
+		}
+		DigitalQuantity[] cache = QuantityCache.CACHE[unit.ordinal()];
+		int index = integral - QuantityCache.LOW;
+		DigitalQuantity cached = cache[index];
+		if (cached == null) {
+			// Racing threads may cache different but equal objects, which is harmless
+			cached = new DigitalQuantity(unit, rounded);
+			cache[index] = cached;
+		}
+		return cached;
 	}
 
 	public UnitEnum getUnit() {
@@ -85,32 +241,228 @@ public final class DigitalQuantity implements Serializable, Comparable<DigitalQu
 	public static DigitalQuantity valueOf(String fullyQualifiedQuantity) {
 		Objects.requireNonNull(fullyQualifiedQuantity,
 				"To create a new DigitalQuantity from a String, the string must not be null");
-		if (fullyQualifiedQuantity.isBlank()) throw new IllegalArgumentException(
+		if (fullyQualifiedQuantity.isBlank()) throw parseFailure(ParseFailure.EMPTY, new IllegalArgumentException(
 				"To create a new DigitalQuantity from a String, the string must be fully qualified"
 				+ " with a number representing a measure plus a symbol representing a unit."
-				+ " The given string was empty.");
+				+ " The given string was empty."));
 		
-		if (fullyQualifiedQuantity.length() < 2) throw new IllegalArgumentException(
-				"To create a new DigitalQuantity from a String, the string must have length >= 2.");
+		if (fullyQualifiedQuantity.length() < 2) throw parseFailure(ParseFailure.MISSING_UNIT, new IllegalArgumentException(
+				"To create a new DigitalQuantity from a String, the string must have length >= 2."));
 		
 		fullyQualifiedQuantity = fullyQualifiedQuantity.trim();
+		int length = fullyQualifiedQuantity.length();
 		// Get the unit symbol
-		String unitChar1 = String.valueOf(fullyQualifiedQuantity.charAt(fullyQualifiedQuantity.length() - 2));
-		String unitChar2 = String.valueOf(fullyQualifiedQuantity.charAt(fullyQualifiedQuantity.length() - 1));
-		if (!Character.isLetter(unitChar2.codePointAt(0))) throw new IllegalArgumentException(
+		char unitChar1 = fullyQualifiedQuantity.charAt(length - 2);
+		char unitChar2 = fullyQualifiedQuantity.charAt(length - 1);
+		if (!Character.isLetter(unitChar2)) throw parseFailure(ParseFailure.MISSING_UNIT, new IllegalArgumentException(
 				"To create a new DigitalQuantity from a String, the string must be fully qualified"
-				+ " with a number representing a measure plus a symbol representing an unit.");
+				+ " with a number representing a measure plus a symbol representing an unit."));
 		// Allows single char unit symbols such as 'm'
-		String unit = (Character.isLetter(unitChar1.codePointAt(0)) ? unitChar1 : "") + unitChar2;
-		unit = unit.toLowerCase();
-		UnitEnum unitEnum = UnitEnum.getUnit(unit);
-		if (unitEnum == null) throw new UnsupportedOperationException(
+		int unitLength = Character.isLetter(unitChar1) ? 2 : 1;
+		UnitEnum unitEnum = unitLength == 2 ? UnitEnum.getUnit(unitChar1, unitChar2) : UnitEnum.getUnit(unitChar2);
+		if (unitEnum == null) throw parseFailure(ParseFailure.UNSUPPORTED_UNIT, new UnsupportedOperationException(
 				"There is no support for the given measuring unit."
-				+ " The given unit symbol was " + unit);
+				+ " The given unit symbol was " + fullyQualifiedQuantity.substring(length - unitLength).toLowerCase()));
 		
 		// Finally construct the object
-		double qtValue = Double.valueOf(fullyQualifiedQuantity.substring(0, fullyQualifiedQuantity.length() - unit.length()));
-		return new DigitalQuantity(unitEnum, qtValue);
+		double qtValue;
+		try {
+			qtValue = Double.valueOf(fullyQualifiedQuantity.substring(0, length - unitLength));
+		} catch (NumberFormatException e) {
+			throw parseFailure(ParseFailure.MALFORMED_NUMBER, e);
+		}
+		if (!Double.isFinite(qtValue) && Metrics.isEnabled()) Metrics.recordParseFailure(ParseFailure.OUT_OF_RANGE);
+		return valueOf(unitEnum, qtValue);
+	}
+	
+	/**
+	 * <p>Records a failed read, when metrics are enabled, and returns the exception to be thrown.
+	 */
+	static RuntimeException parseFailure(ParseFailure reason, RuntimeException exception) {
+		if (Metrics.isEnabled()) Metrics.recordParseFailure(reason);
+		return exception;
+	}
+
+	/**
+	 * @param other The quantity to be added, in the same unit as this one.
+	 * 
+	 * @return The sum of this quantity and {@code other}.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity plus(DigitalQuantity other) {
+		return valueOf(unit, value + valueIn(other, null));
+	}
+	
+	/**
+	 * @param other The quantity to be added.
+	 * @param table The table used to convert {@code other} to the unit of this quantity.
+	 * 
+	 * @return The sum of this quantity and {@code other}, in the unit of this quantity.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity plus(DigitalQuantity other, ConversionTable table) {
+		return valueOf(unit, value + valueIn(other, Objects.requireNonNull(table)));
+	}
+	
+	/**
+	 * @param other The quantity to be subtracted, in the same unit as this one.
+	 * 
+	 * @return The difference between this quantity and {@code other}.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity minus(DigitalQuantity other) {
+		return valueOf(unit, value - valueIn(other, null));
+	}
+	
+	/**
+	 * @param other The quantity to be subtracted.
+	 * @param table The table used to convert {@code other} to the unit of this quantity.
+	 * 
+	 * @return The difference between this quantity and {@code other}, in the unit of this quantity.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity minus(DigitalQuantity other, ConversionTable table) {
+		return valueOf(unit, value - valueIn(other, Objects.requireNonNull(table)));
+	}
+	
+	/**
+	 * <p>A product too large for a {@code double} causes a {@link NumberFormatException}, as when
+	 * creating a quantity.
+	 * 
+	 * @param factor The number this quantity is multiplied by.
+	 * 
+	 * @return This quantity multiplied by {@code factor}.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity times(double factor) {
+		return valueOf(unit, value * factor);
+	}
+	
+	/**
+	 * <p>A zero {@code divisor} causes an {@link ArithmeticException}.
+	 * 
+	 * @param divisor The number this quantity is divided by.
+	 * 
+	 * @return This quantity divided by {@code divisor}.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity dividedBy(double divisor) {
+		if (divisor == 0) throw new ArithmeticException("A DigitalQuantity can't be divided by zero.");
+		return valueOf(unit, value / divisor);
+	}
+	
+	/**
+	 * @param other A quantity in the same unit as this one.
+	 * 
+	 * @return The smaller of this quantity and {@code other}, this quantity if they're equal.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity min(DigitalQuantity other) {
+		double otherValue = valueIn(other, null);
+		return otherValue < value ? other : this;
+	}
+	
+	/**
+	 * @param other Another quantity.
+	 * @param table The table used to convert {@code other} to the unit of this quantity.
+	 * 
+	 * @return The smaller of this quantity and {@code other}, in the unit of this quantity, this quantity if
+	 * they're equal.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity min(DigitalQuantity other, ConversionTable table) {
+		double otherValue = valueIn(other, Objects.requireNonNull(table));
+		return otherValue < value ? inUnit(other, otherValue) : this;
+	}
+	
+	/**
+	 * @param other A quantity in the same unit as this one.
+	 * 
+	 * @return The larger of this quantity and {@code other}, this quantity if they're equal.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity max(DigitalQuantity other) {
+		double otherValue = valueIn(other, null);
+		return otherValue > value ? other : this;
+	}
+	
+	/**
+	 * @param other Another quantity.
+	 * @param table The table used to convert {@code other} to the unit of this quantity.
+	 * 
+	 * @return The larger of this quantity and {@code other}, in the unit of this quantity, this quantity if
+	 * they're equal.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity max(DigitalQuantity other, ConversionTable table) {
+		double otherValue = valueIn(other, Objects.requireNonNull(table));
+		return otherValue > value ? inUnit(other, otherValue) : this;
+	}
+	
+	/**
+	 * <p>If {@code min} is larger than {@code max}, an {@link IllegalArgumentException} is thrown.
+	 * 
+	 * @param min The smallest quantity allowed, in the same unit as this one.
+	 * @param max The largest quantity allowed, in the same unit as this one.
+	 * 
+	 * @return This quantity if it is between {@code min} and {@code max}, otherwise the nearest of them.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity clamp(DigitalQuantity min, DigitalQuantity max) {
+		return clamp(min, max, valueIn(min, null), valueIn(max, null));
+	}
+	
+	/**
+	 * <p>If {@code min} is larger than {@code max}, an {@link IllegalArgumentException} is thrown.
+	 * 
+	 * @param min The smallest quantity allowed.
+	 * @param max The largest quantity allowed.
+	 * @param table The table used to convert {@code min} and {@code max} to the unit of this quantity.
+	 * 
+	 * @return This quantity if it is between {@code min} and {@code max}, otherwise the nearest of them,
+	 * in the unit of this quantity.
+	 * 
+	 * @since 1.1
+	 */
+	public DigitalQuantity clamp(DigitalQuantity min, DigitalQuantity max, ConversionTable table) {
+		Objects.requireNonNull(table);
+		return clamp(min, max, valueIn(min, table), valueIn(max, table));
+	}
+	
+	private DigitalQuantity clamp(DigitalQuantity min, DigitalQuantity max, double minValue, double maxValue) {
+		if (minValue > maxValue) throw new IllegalArgumentException(
+				"The minimum " + min + " is larger than the maximum " + max);
+		if (value < minValue) return inUnit(min, minValue);
+		if (value > maxValue) return inUnit(max, maxValue);
+		return this;
+	}
+	
+	/**
+	 * <p>Get the unrounded value of {@code other} in the unit of this quantity. Without a {@code table},
+	 * only quantities in the same unit are accepted.
+	 */
+	double valueIn(DigitalQuantity other, ConversionTable table) {
+		Objects.requireNonNull(other);
+		if (other.unit == this.unit) return other.value;
+		if (table == null) throw new UnsupportedOperationException(
+				"Without a ConversionTable, both DigitalQuantity objects' unit must be the same. "
+				+ "The units were " + this.unit.getSymbol() + " and " + other.unit.getSymbol());
+		return other.value * table.getFactor(other.unit, this.unit);
+	}
+	
+	private DigitalQuantity inUnit(DigitalQuantity other, double otherValue) {
+		return other.unit == this.unit ? other : valueOf(this.unit, otherValue);
 	}
 
 	@Override
@@ -124,6 +476,31 @@ public final class DigitalQuantity implements Serializable, Comparable<DigitalQu
 		else return -1;
 	}
 
+	/**
+	 * <p>Two {@code DigitalQuantity} objects are equal if they have the same unit and the same rounded
+	 * numerical value. Units are never converted, so {@code 1in} isn't equal to {@code 72pt}.
+	 * 
+	 * @since 1.1
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) return true;
+		if (!(obj instanceof DigitalQuantity)) return false;
+		DigitalQuantity other = (DigitalQuantity) obj;
+		// Rounding never gives a negative zero nor NaN, so comparing bits is the same as comparing values
+		return this.unit == other.unit
+				&& Double.doubleToLongBits(this.value) == Double.doubleToLongBits(other.value);
+	}
+	
+	/**
+	 * @since 1.1
+	 */
+	@Override
+	public int hashCode() {
+		// The ordinal, unlike the enum hash code, is the same in every JVM
+		return 31 * this.unit.ordinal() + Double.hashCode(this.value);
+	}
+
 	@Override
 	public String toString() {
 		return "[unit: " + this.unit.getSymbol() + "; value: " + this.value + "]";
@@ -199,12 +576,59 @@ public final class DigitalQuantity implements Serializable, Comparable<DigitalQu
 	 * @return String representation of {@code this} {@code DigitalQuantity} with the
 	 * template [numerical_value][unit_symbol] containing or not a space between the
 	 * numerical value and the unit symbol and formatted to the given {@code Locale}.
+	 * @see QuantityFormatter
 	 */
 	public String getHumanRepresentation(boolean useSpace, int decimalPlaces, Locale locale) {
-		decimalPlaces = decimalPlaces < 0 ? 0 : decimalPlaces;
-		String space = useSpace ? " " : "";
-		String formatterString = "%1$." + String.valueOf(decimalPlaces) + "f" + space + "%2$s";
-		return String.format(locale, formatterString, this.value, this.unit.getSymbol());
+		return new QuantityFormatter(useSpace, decimalPlaces, locale).format(this);
+	}
+	
+	/**
+	 * <p>Serialized in place of a {@code DigitalQuantity}, with the compact encoding of
+	 * {@link DigitalQuantityCodec}. It is about a third smaller than the default form and faster to read,
+	 * though a little slower to write, since the serialization has to call {@code writeReplace}. Large numbers
+	 * of quantities are best written with {@code DigitalQuantityCodec} directly. Quantities serialized in the
+	 * default form by older versions can still be read.
+	 */
+	private static final class SerializationProxy implements Externalizable {
+		
+		private static final long serialVersionUID = -3061554427935419112L;
+		
+		private DigitalQuantity digitalQuantity;
+		
+		/**
+		 * <p>Called by the serialization to read a quantity.
+		 */
+		public SerializationProxy() {
+		}
+		
+		private SerializationProxy(DigitalQuantity digitalQuantity) {
+			this.digitalQuantity = digitalQuantity;
+		}
+		
+		@Override
+		public void writeExternal(ObjectOutput output) throws IOException {
+			DigitalQuantityCodec.encode(digitalQuantity, output);
+		}
+		
+		@Override
+		public void readExternal(ObjectInput input) throws IOException {
+			try {
+				digitalQuantity = DigitalQuantityCodec.decode(input);
+			} catch (IllegalArgumentException e) {
+				InvalidObjectException exception = new InvalidObjectException(e.getMessage());
+				exception.initCause(e);
+				throw exception;
+			}
+		}
+		
+		private Object readResolve() {
+			return digitalQuantity;
+		}
+		
+	}
+	
+	private Object writeReplace() {
+		return new SerializationProxy(this);
 	}
 	
 }
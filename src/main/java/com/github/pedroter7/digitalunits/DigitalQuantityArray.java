@@ -0,0 +1,338 @@
+package com.github.pedroter7.digitalunits;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>A growable sequence of quantities stored column by column: the numerical values in a {@code double[]}
+ * and the units in a {@code byte[]} holding one {@code UnitEnum} ordinal per quantity. While every quantity
+ * has the same unit, which is the usual case, the array of units isn't even allocated. A quantity therefore
+ * takes 8 or 9 bytes, instead of a reference plus a {@code DigitalQuantity} object. Once the quantities have the
+ * same unit again, for instance after replacing them with {@link DigitalQuantityArray#set(int, UnitEnum, double)},
+ * the array of units is dropped the next time the units are checked.
+ *
+ * <p>Values are rounded just like the value of a {@code DigitalQuantity}, so {@link DigitalQuantityArray#get(int)}
+ * returns a quantity equal to the added one.
+ *
+ * <p>{@link DigitalQuantityArray#convert(UnitConverter)} converts every quantity in place through the bulk
+ * methods of {@code UnitConverter}, after which the array is uniform in the converter goal unit. As in
+ * {@link DigitalQuantity#compareTo(DigitalQuantity)}, there is no automatic conversion between units, so sorting,
+ * minimum, maximum and sum cause an {@link UnsupportedOperationException} if the quantities have different units,
+ * which is judged by the current units of the quantities.
+ *
+ * <p>Objects of this class aren't thread safe.
+ *
+ * @since 1.1
+ */
+public final class DigitalQuantityArray {
+
+	private static final UnitEnum[] UNITS = UnitEnum.values();
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private double[] values;
+	// null while every quantity has the same unit
+	private byte[] units;
+	// The unit of every quantity while units is null, null if there's no quantity
+	private UnitEnum unit;
+	private int size;
+
+	/**
+	 * <p>Creates an empty array.
+	 */
+	public DigitalQuantityArray() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * <p>Creates an empty array with room for {@code initialCapacity} quantities.
+	 *
+	 * @param initialCapacity The number of quantities that can be added before the array grows.
+	 */
+	public DigitalQuantityArray(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("The initial capacity must not be negative.");
+		this.values = new double[initialCapacity];
+	}
+
+	/**
+	 * <p>Creates a copy of {@code other}.
+	 *
+	 * @param other The array to be copied.
+	 */
+	public DigitalQuantityArray(DigitalQuantityArray other) {
+		Objects.requireNonNull(other);
+		this.values = Arrays.copyOf(other.values, other.size);
+		this.units = other.units == null ? null : Arrays.copyOf(other.units, other.size);
+		this.unit = other.unit;
+		this.size = other.size;
+	}
+
+	/**
+	 * @return The number of quantities in this array.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if there's no quantity in this array.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * <p>Appends a quantity.
+	 *
+	 * @param digitalQuantity The quantity to be appended.
+	 */
+	public void add(DigitalQuantity digitalQuantity) {
+		Objects.requireNonNull(digitalQuantity);
+		add(digitalQuantity.getUnit(), digitalQuantity.getValue());
+	}
+
+	/**
+	 * <p>Appends a quantity.
+	 *
+	 * @param unit The unit of the quantity.
+	 * @param value The numerical value of the quantity.
+	 */
+	public void add(UnitEnum unit, double value) {
+		Objects.requireNonNull(unit);
+		ensureCapacity(size + 1);
+		setUnit(size, unit);
+		values[size++] = DigitalQuantity.round(value);
+	}
+
+	/**
+	 * <p>Appends {@code length} quantities in units of {@code unit}, with the numerical values read from
+	 * {@code values} starting at {@code offset}.
+	 *
+	 * @param unit The unit of the quantities.
+	 * @param values The numerical values of the quantities.
+	 * @param offset The index of the first value to be appended.
+	 * @param length The number of quantities to be appended.
+	 */
+	public void addAll(UnitEnum unit, double[] values, int offset, int length) {
+		Objects.requireNonNull(unit);
+		Objects.checkFromIndexSize(offset, length, values.length);
+		if (length == 0) return;
+		ensureCapacity(size + length);
+		setUnit(size, unit);
+		if (this.units != null) Arrays.fill(this.units, size, size + length, (byte) unit.ordinal());
+		for (int i = 0; i < length; i++) {
+			this.values[size + i] = DigitalQuantity.round(values[offset + i]);
+		}
+		size += length;
+	}
+
+	/**
+	 * @param index The index of a quantity.
+	 *
+	 * @return The quantity at {@code index}.
+	 */
+	public DigitalQuantity get(int index) {
+		Objects.checkIndex(index, size);
+		return DigitalQuantity.valueOf(unitAt(index), values[index]);
+	}
+
+	/**
+	 * @param index The index of a quantity.
+	 *
+	 * @return The unit of the quantity at {@code index}.
+	 */
+	public UnitEnum getUnit(int index) {
+		Objects.checkIndex(index, size);
+		return unitAt(index);
+	}
+
+	/**
+	 * @param index The index of a quantity.
+	 *
+	 * @return The numerical value of the quantity at {@code index}.
+	 */
+	public double getValue(int index) {
+		Objects.checkIndex(index, size);
+		return values[index];
+	}
+
+	/**
+	 * <p>Replaces the quantity at {@code index}.
+	 *
+	 * @param index The index of a quantity.
+	 * @param unit The unit of the new quantity.
+	 * @param value The numerical value of the new quantity.
+	 */
+	public void set(int index, UnitEnum unit, double value) {
+		Objects.requireNonNull(unit);
+		Objects.checkIndex(index, size);
+		setUnit(index, unit);
+		values[index] = DigitalQuantity.round(value);
+	}
+
+	/**
+	 * <p>Removes every quantity.
+	 */
+	public void clear() {
+		size = 0;
+		units = null;
+		unit = null;
+	}
+
+	/**
+	 * @return The unit of every quantity in this array, or {@code null} if the array is empty or if
+	 * the quantities have different units.
+	 */
+	public UnitEnum getUniformUnit() {
+		return isUniform() ? unit : null;
+	}
+
+	/**
+	 * @return A new array with the numerical values of every quantity.
+	 */
+	public double[] toValueArray() {
+		return Arrays.copyOf(values, size);
+	}
+
+	/**
+	 * <p>Converts, in place, every quantity to the goal unit of {@code converter}, with the same results as
+	 * {@link UnitConverter#convertFrom(UnitEnum, double[], int, int)}. Each run of consecutive quantities with the
+	 * same unit is converted in a single bulk call.
+	 *
+	 * @param converter The converter to be used.
+	 */
+	public void convert(UnitConverter converter) {
+		Objects.requireNonNull(converter);
+		UnitEnum goalUnit = Objects.requireNonNull(converter.getGoalUnit());
+		if (size == 0) return;
+		if (units == null) {
+			converter.convertFrom(unit, values, 0, size);
+		} else {
+			int start = 0;
+			while (start < size) {
+				byte ordinal = units[start];
+				int end = start + 1;
+				while (end < size && units[end] == ordinal) end++;
+				converter.convertFrom(UNITS[ordinal], values, start, end - start);
+				start = end;
+			}
+			units = null;
+		}
+		unit = goalUnit;
+	}
+
+	/**
+	 * <p>Sorts the quantities in ascending order of their numerical values. Every quantity must have the same unit.
+	 */
+	public void sort() {
+		requireUniformUnit();
+		Arrays.sort(values, 0, size);
+	}
+
+	/**
+	 * <p>Every quantity must have the same unit and there must be at least one quantity.
+	 *
+	 * @return The smallest quantity.
+	 */
+	public DigitalQuantity min() {
+		requireUniformUnit();
+		if (size == 0) throw new NoSuchElementException("There is no quantity in this array.");
+		double min = values[0];
+		for (int i = 1; i < size; i++) {
+			if (values[i] < min) min = values[i];
+		}
+		return new DigitalQuantity(unit, min);
+	}
+
+	/**
+	 * <p>Every quantity must have the same unit and there must be at least one quantity.
+	 *
+	 * @return The largest quantity.
+	 */
+	public DigitalQuantity max() {
+		requireUniformUnit();
+		if (size == 0) throw new NoSuchElementException("There is no quantity in this array.");
+		double max = values[0];
+		for (int i = 1; i < size; i++) {
+			if (values[i] > max) max = values[i];
+		}
+		return new DigitalQuantity(unit, max);
+	}
+
+	/**
+	 * <p>Every quantity must have the same unit and there must be at least one quantity. The sum is rounded
+	 * once, when the resulting {@code DigitalQuantity} is created.
+	 *
+	 * @return The sum of every quantity.
+	 */
+	public DigitalQuantity sum() {
+		requireUniformUnit();
+		if (size == 0) throw new NoSuchElementException("There is no quantity in this array.");
+		double sum = 0;
+		for (int i = 0; i < size; i++) {
+			sum += values[i];
+		}
+		return new DigitalQuantity(unit, sum);
+	}
+
+	/**
+	 * <p>Shrinks the storage of this array to its size.
+	 */
+	public void trimToSize() {
+		values = Arrays.copyOf(values, size);
+		if (units != null) units = Arrays.copyOf(units, size);
+	}
+
+	private UnitEnum unitAt(int index) {
+		return units == null ? unit : UNITS[units[index]];
+	}
+
+	/**
+	 * <p>Sets the unit of the quantity at {@code index}, which is either an existing quantity or the next one,
+	 * and starts tracking units per quantity the first time they differ.
+	 */
+	private void setUnit(int index, UnitEnum unit) {
+		if (units == null) {
+			if (this.unit == null || (size == 1 && index == 0)) {
+				this.unit = unit;
+				return;
+			}
+			if (this.unit == unit) return;
+			units = new byte[values.length];
+			Arrays.fill(units, 0, size, (byte) this.unit.ordinal());
+			this.unit = null;
+		}
+		units[index] = (byte) unit.ordinal();
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity <= values.length) return;
+		int newCapacity = Math.max(capacity, values.length + (values.length >> 1) + 1);
+		values = Arrays.copyOf(values, newCapacity);
+		if (units != null) units = Arrays.copyOf(units, newCapacity);
+	}
+
+	/**
+	 * <p>Checks the unit of every quantity when they're tracked per quantity, and stops tracking them if they're
+	 * all the same.
+	 */
+	private boolean isUniform() {
+		if (units == null) return true;
+		byte ordinal = units[0];
+		for (int i = 1; i < size; i++) {
+			if (units[i] != ordinal) return false;
+		}
+		units = null;
+		unit = UNITS[ordinal];
+		return true;
+	}
+
+	private void requireUniformUnit() {
+		if (!isUniform()) throw new UnsupportedOperationException(
+				"Every quantity in the array must have the same unit. "
+				+ "There is no automatic conversion between any units.");
+	}
+
+}
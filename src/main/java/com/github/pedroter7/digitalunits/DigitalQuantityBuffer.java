@@ -0,0 +1,264 @@
+package com.github.pedroter7.digitalunits;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>A view of quantities stored outside of the heap, in direct or memory mapped {@code ByteBuffer} s,
+ * in one of two layouts:
+ * <ul>
+ * <li>Records, each one a byte with the {@code UnitEnum} ordinal of the quantity unit followed by the
+ * numerical value of the quantity as a {@code double}, 9 bytes in total with no padding.</li>
+ * <li>Values, each one the numerical value of a quantity as a {@code double}, with every quantity in
+ * the same unit.</li>
+ * </ul>
+ *
+ * <p>Doubles are read and written in the byte order of the viewed buffer, so the memory can be shared as is
+ * with native code. Mapped files use the native byte order.
+ *
+ * <p>Indexes are {@code long} s: a view of a file is split into segments that are mapped separately, so it
+ * may be larger than the 2GB limit of a single {@code ByteBuffer}.
+ *
+ * <p>{@link DigitalQuantityBuffer#convert(UnitConverter)} converts every quantity in place, through
+ * {@link UnitConverter#convertFrom(UnitEnum, double)}, without copying the quantities onto the heap.
+ *
+ * <p>Objects of this class aren't thread safe, and changes to the viewed memory are visible through them.
+ *
+ * @since 1.1
+ */
+public final class DigitalQuantityBuffer {
+
+	/**
+	 * <p>The number of bytes of a record: the unit ordinal plus the numerical value.
+	 */
+	public static final int RECORD_BYTES = 1 + Double.BYTES;
+
+	private static final UnitEnum[] UNITS = UnitEnum.values();
+	// Mapped segments are kept below the 2GB limit of a ByteBuffer
+	private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+	private final ByteBuffer[] segments;
+	private final int elementBytes;
+	private final long elementsPerSegment;
+	private final long size;
+	// The unit of every quantity in the values layout, null in the records layout
+	private UnitEnum unit;
+
+	private DigitalQuantityBuffer(ByteBuffer[] segments, int elementBytes, long elementsPerSegment, long size,
+			UnitEnum unit) {
+		this.segments = segments;
+		this.elementBytes = elementBytes;
+		this.elementsPerSegment = elementsPerSegment;
+		this.size = size;
+		this.unit = unit;
+	}
+
+	/**
+	 * <p>Views the content of {@code buffer}, from its position to its limit, as records. A remainder smaller
+	 * than a record is ignored. The position and the limit of the buffer aren't changed.
+	 *
+	 * @param buffer The buffer holding the records.
+	 *
+	 * @return A view of the records.
+	 */
+	public static DigitalQuantityBuffer ofRecords(ByteBuffer buffer) {
+		Objects.requireNonNull(buffer);
+		long size = buffer.remaining() / RECORD_BYTES;
+		return new DigitalQuantityBuffer(new ByteBuffer[] { slice(buffer) }, RECORD_BYTES, Math.max(size, 1), size, null);
+	}
+
+	/**
+	 * <p>Views the content of {@code buffer}, from its position to its limit, as values in units of {@code unit}.
+	 * A remainder smaller than a {@code double} is ignored. The position and the limit of the buffer aren't changed.
+	 *
+	 * @param buffer The buffer holding the values.
+	 * @param unit The unit of every value.
+	 *
+	 * @return A view of the values.
+	 */
+	public static DigitalQuantityBuffer ofValues(ByteBuffer buffer, UnitEnum unit) {
+		Objects.requireNonNull(buffer);
+		Objects.requireNonNull(unit);
+		long size = buffer.remaining() / Double.BYTES;
+		return new DigitalQuantityBuffer(new ByteBuffer[] { slice(buffer) }, Double.BYTES, Math.max(size, 1), size, unit);
+	}
+
+	/**
+	 * <p>Maps {@code count} records of a file, starting at the byte {@code position}, and views them.
+	 *
+	 * @param channel The channel of the file, opened for reading, and for writing as well to map it
+	 * in {@code READ_WRITE} mode.
+	 * @param mode The mode in which the file is mapped.
+	 * @param position The position of the first record in the file.
+	 * @param count The number of records.
+	 *
+	 * @return A view of the records.
+	 *
+	 * @throws IOException If the file can't be mapped.
+	 */
+	public static DigitalQuantityBuffer mapRecords(FileChannel channel, FileChannel.MapMode mode, long position,
+			long count) throws IOException {
+		return map(channel, mode, position, count, RECORD_BYTES, null, MAX_SEGMENT_BYTES);
+	}
+
+	/**
+	 * <p>Maps {@code count} values in units of {@code unit} of a file, starting at the byte {@code position},
+	 * and views them.
+	 *
+	 * @param channel The channel of the file, opened for reading, and for writing as well to map it
+	 * in {@code READ_WRITE} mode.
+	 * @param mode The mode in which the file is mapped.
+	 * @param position The position of the first value in the file.
+	 * @param count The number of values.
+	 * @param unit The unit of every value.
+	 *
+	 * @return A view of the values.
+	 *
+	 * @throws IOException If the file can't be mapped.
+	 */
+	public static DigitalQuantityBuffer mapValues(FileChannel channel, FileChannel.MapMode mode, long position,
+			long count, UnitEnum unit) throws IOException {
+		Objects.requireNonNull(unit);
+		return map(channel, mode, position, count, Double.BYTES, unit, MAX_SEGMENT_BYTES);
+	}
+
+	static DigitalQuantityBuffer map(FileChannel channel, FileChannel.MapMode mode, long position, long count,
+			int elementBytes, UnitEnum unit, long maxSegmentBytes) throws IOException {
+		Objects.requireNonNull(channel);
+		Objects.requireNonNull(mode);
+		if (position < 0 || count < 0) throw new IllegalArgumentException(
+				"The position and the number of quantities must not be negative.");
+		long elementsPerSegment = Math.max(maxSegmentBytes / elementBytes, 1);
+		int segmentCount = (int) Math.max((count + elementsPerSegment - 1) / elementsPerSegment, 1);
+		ByteBuffer[] segments = new ByteBuffer[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			long elements = Math.min(elementsPerSegment, count - i * elementsPerSegment);
+			segments[i] = channel.map(mode, position + i * elementsPerSegment * elementBytes, elements * elementBytes)
+					.order(ByteOrder.nativeOrder());
+		}
+		return new DigitalQuantityBuffer(segments, elementBytes, elementsPerSegment, count, unit);
+	}
+
+	private static ByteBuffer slice(ByteBuffer buffer) {
+		return buffer.slice().order(buffer.order());
+	}
+
+	/**
+	 * @return The number of quantities in this view.
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * @return The unit of every quantity if this is a view of values, or {@code null} if this is a view of records.
+	 */
+	public UnitEnum getUniformUnit() {
+		return unit;
+	}
+
+	/**
+	 * @param index The index of a quantity.
+	 *
+	 * @return The quantity at {@code index}.
+	 */
+	public DigitalQuantity get(long index) {
+		return DigitalQuantity.valueOf(getUnit(index), getValue(index));
+	}
+
+	/**
+	 * @param index The index of a quantity.
+	 *
+	 * @return The unit of the quantity at {@code index}.
+	 */
+	public UnitEnum getUnit(long index) {
+		checkIndex(index);
+		if (unit != null) return unit;
+		return UNITS[segment(index).get(offset(index))];
+	}
+
+	/**
+	 * @param index The index of a quantity.
+	 *
+	 * @return The numerical value of the quantity at {@code index}.
+	 */
+	public double getValue(long index) {
+		checkIndex(index);
+		return segment(index).getDouble(offset(index) + valueOffset());
+	}
+
+	/**
+	 * <p>Replaces the quantity at {@code index}. In a view of values, {@code unit} must be the unit of every
+	 * quantity, otherwise an {@link IllegalArgumentException} is thrown.
+	 *
+	 * @param index The index of a quantity.
+	 * @param unit The unit of the new quantity.
+	 * @param value The numerical value of the new quantity, which is rounded like the value of a
+	 * {@code DigitalQuantity}.
+	 */
+	public void set(long index, UnitEnum unit, double value) {
+		Objects.requireNonNull(unit);
+		checkIndex(index);
+		ByteBuffer segment = segment(index);
+		int offset = offset(index);
+		if (this.unit == null) {
+			segment.put(offset, (byte) unit.ordinal());
+		} else if (this.unit != unit) {
+			throw new IllegalArgumentException("Every quantity in this view must be in " + this.unit.getSymbol()
+					+ ", the given unit was " + unit.getSymbol());
+		}
+		segment.putDouble(offset + valueOffset(), DigitalQuantity.round(value));
+	}
+
+	/**
+	 * <p>Converts, in place, every quantity to the goal unit of {@code converter}. In a view of records, the unit
+	 * of each record is replaced by the goal unit. In a view of values, the goal unit becomes the unit of this view.
+	 *
+	 * @param converter The converter to be used.
+	 */
+	public void convert(UnitConverter converter) {
+		Objects.requireNonNull(converter);
+		UnitEnum goalUnit = Objects.requireNonNull(converter.getGoalUnit());
+		long remaining = size;
+		for (ByteBuffer segment : segments) {
+			int elements = (int) Math.min(elementsPerSegment, remaining);
+			if (unit == null) {
+				byte goalOrdinal = (byte) goalUnit.ordinal();
+				for (int i = 0, offset = 0; i < elements; i++, offset += RECORD_BYTES) {
+					UnitEnum fromUnit = UNITS[segment.get(offset)];
+					segment.putDouble(offset + 1, converter.convertFrom(fromUnit, segment.getDouble(offset + 1)));
+					segment.put(offset, goalOrdinal);
+				}
+			} else {
+				for (int i = 0, offset = 0; i < elements; i++, offset += Double.BYTES) {
+					segment.putDouble(offset, converter.convertFrom(unit, segment.getDouble(offset)));
+				}
+			}
+			remaining -= elements;
+		}
+		if (unit != null) unit = goalUnit;
+	}
+
+	private void checkIndex(long index) {
+		if (index < 0 || index >= size) throw new IndexOutOfBoundsException(
+				"Index " + index + " out of bounds for size " + size);
+	}
+
+	private ByteBuffer segment(long index) {
+		return segments.length == 1 ? segments[0] : segments[(int) (index / elementsPerSegment)];
+	}
+
+	private int offset(long index) {
+		return (int) (segments.length == 1 ? index : index % elementsPerSegment) * elementBytes;
+	}
+
+	private int valueOffset() {
+		return unit == null ? 1 : 0;
+	}
+
+}
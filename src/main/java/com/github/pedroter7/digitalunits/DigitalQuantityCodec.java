@@ -0,0 +1,370 @@
+package com.github.pedroter7.digitalunits;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * <p>Encodes quantities in a compact binary form, much smaller and faster to write and read than the default
+ * Java serialization, to store or send large numbers of them.
+ *
+ * <p>Each quantity is encoded as a tag byte followed by its numerical value. The low four bits of the tag are
+ * the {@code UnitEnum} ordinal of the unit and the high four bits are the form of the value:
+ * <ul>
+ * <li>0 to 12: the value has that many decimal places and is written as the zigzag encoded variable length integer
+ * of its digits, e.g. <i>145.2</i> is 1452 with one decimal place. Usual layout values take 1 to 4 bytes.</li>
+ * <li>13: the value is exactly a {@code float} and is written as its 4 bytes.</li>
+ * <li>14: any other value is written as the 8 bytes of its {@code double}.</li>
+ * </ul>
+ * Every form decodes to the exact same {@code double}, so a quantity takes from 2 to
+ * {@value DigitalQuantityCodec#MAX_ENCODED_BYTES} bytes. Multi byte values are big endian whatever the order
+ * of the buffer, so the encoding doesn't depend on the platform.
+ *
+ * <p>Arrays of quantities are encoded as their size, as a variable length integer, followed by each quantity.
+ *
+ * <p>Decoding a tag with an unknown unit or form causes an {@link IllegalArgumentException}. If a
+ * {@code ByteBuffer} doesn't have room for a quantity, a {@link BufferOverflowException} is thrown before
+ * anything of that quantity is written.
+ *
+ * @since 1.1
+ */
+public final class DigitalQuantityCodec {
+
+	/**
+	 * <p>The largest number of bytes of an encoded quantity.
+	 */
+	public static final int MAX_ENCODED_BYTES = 1 + Double.BYTES;
+
+	private static final UnitEnum[] UNITS = UnitEnum.values();
+	private static final int MAX_DECIMAL_PLACES = 12;
+	private static final int FLOAT_FORM = 13;
+	private static final int DOUBLE_FORM = 14;
+	// Digits up to 2^53 are exact as doubles, and their zigzag encoding takes at most 8 bytes
+	private static final double MAX_DIGITS = 0x1p53;
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12
+	};
+
+	private DigitalQuantityCodec() {
+	}
+
+	/**
+	 * @param unit The unit of a quantity.
+	 * @param value The numerical value of a quantity.
+	 *
+	 * @return The number of bytes of the encoded quantity.
+	 */
+	public static int encodedSize(UnitEnum unit, double value) {
+		Objects.requireNonNull(unit);
+		int form = form(value);
+		if (form == DOUBLE_FORM) return 1 + Double.BYTES;
+		if (form == FLOAT_FORM) return 1 + Float.BYTES;
+		return 1 + varintSize(zigzag(digits(value, form)));
+	}
+
+	/**
+	 * <p>Writes a quantity at the position of {@code buffer}, which is advanced past it.
+	 *
+	 * @param digitalQuantity The quantity to be written.
+	 * @param buffer The buffer the quantity is written to.
+	 */
+	public static void encode(DigitalQuantity digitalQuantity, ByteBuffer buffer) {
+		encode(digitalQuantity.getUnit(), digitalQuantity.getValue(), buffer);
+	}
+
+	/**
+	 * <p>Writes a quantity at the position of {@code buffer}, which is advanced past it.
+	 *
+	 * @param unit The unit of the quantity.
+	 * @param value The numerical value of the quantity.
+	 * @param buffer The buffer the quantity is written to.
+	 */
+	public static void encode(UnitEnum unit, double value, ByteBuffer buffer) {
+		Objects.requireNonNull(unit);
+		int form = form(value);
+		if (form == DOUBLE_FORM) {
+			requireRemaining(buffer, 1 + Double.BYTES);
+			buffer.put(tag(unit, form));
+			putLong(buffer, Double.doubleToRawLongBits(value));
+		} else if (form == FLOAT_FORM) {
+			requireRemaining(buffer, 1 + Float.BYTES);
+			buffer.put(tag(unit, form));
+			putInt(buffer, Float.floatToRawIntBits((float) value));
+		} else {
+			long zigzag = zigzag(digits(value, form));
+			requireRemaining(buffer, 1 + varintSize(zigzag));
+			buffer.put(tag(unit, form));
+			putVarint(buffer, zigzag);
+		}
+	}
+
+	/**
+	 * <p>Reads a quantity at the position of {@code buffer}, which is advanced past it.
+	 *
+	 * @param buffer The buffer the quantity is read from.
+	 *
+	 * @return The quantity read.
+	 */
+	public static DigitalQuantity decode(ByteBuffer buffer) {
+		int tag = buffer.get() & 0xFF;
+		return DigitalQuantity.valueOf(unit(tag), readValue(tag, buffer));
+	}
+
+	/**
+	 * <p>Writes every quantity of {@code array}, preceded by their number, at the position of {@code buffer},
+	 * which is advanced past them.
+	 *
+	 * @param array The quantities to be written.
+	 * @param buffer The buffer the quantities are written to.
+	 */
+	public static void encode(DigitalQuantityArray array, ByteBuffer buffer) {
+		int size = array.size();
+		requireRemaining(buffer, varintSize(size));
+		putVarint(buffer, size);
+		for (int i = 0; i < size; i++) {
+			encode(array.getUnit(i), array.getValue(i), buffer);
+		}
+	}
+
+	/**
+	 * <p>Reads quantities written by {@link DigitalQuantityCodec#encode(DigitalQuantityArray, ByteBuffer)} at the
+	 * position of {@code buffer}, which is advanced past them.
+	 *
+	 * @param buffer The buffer the quantities are read from.
+	 *
+	 * @return An array with the quantities read.
+	 */
+	public static DigitalQuantityArray decodeArray(ByteBuffer buffer) {
+		int size = readSize(getVarint(buffer));
+		// The size isn't trusted for more room than the buffer could hold
+		DigitalQuantityArray array = new DigitalQuantityArray(Math.min(size, buffer.remaining() / 2));
+		for (int i = 0; i < size; i++) {
+			int tag = buffer.get() & 0xFF;
+			array.add(unit(tag), readValue(tag, buffer));
+		}
+		return array;
+	}
+
+	/**
+	 * <p>Writes a quantity to {@code output}.
+	 *
+	 * @param digitalQuantity The quantity to be written.
+	 * @param output The output the quantity is written to.
+	 *
+	 * @throws IOException If {@code output} can't be written.
+	 */
+	public static void encode(DigitalQuantity digitalQuantity, DataOutput output) throws IOException {
+		encode(digitalQuantity.getUnit(), digitalQuantity.getValue(), output);
+	}
+
+	/**
+	 * <p>Writes a quantity to {@code output}.
+	 *
+	 * @param unit The unit of the quantity.
+	 * @param value The numerical value of the quantity.
+	 * @param output The output the quantity is written to.
+	 *
+	 * @throws IOException If {@code output} can't be written.
+	 */
+	public static void encode(UnitEnum unit, double value, DataOutput output) throws IOException {
+		Objects.requireNonNull(unit);
+		int form = form(value);
+		output.writeByte(tag(unit, form));
+		if (form == DOUBLE_FORM) {
+			output.writeLong(Double.doubleToRawLongBits(value));
+		} else if (form == FLOAT_FORM) {
+			output.writeInt(Float.floatToRawIntBits((float) value));
+		} else {
+			long zigzag = zigzag(digits(value, form));
+			while ((zigzag & ~0x7FL) != 0) {
+				output.writeByte((int) (zigzag & 0x7F) | 0x80);
+				zigzag >>>= 7;
+			}
+			output.writeByte((int) zigzag);
+		}
+	}
+
+	/**
+	 * <p>Reads a quantity from {@code input}.
+	 *
+	 * @param input The input the quantity is read from.
+	 *
+	 * @return The quantity read.
+	 *
+	 * @throws IOException If {@code input} can't be read or ends before the quantity.
+	 */
+	public static DigitalQuantity decode(DataInput input) throws IOException {
+		int tag = input.readUnsignedByte();
+		return DigitalQuantity.valueOf(unit(tag), readValue(tag, input));
+	}
+
+	/**
+	 * <p>Writes every quantity of {@code array}, preceded by their number, to {@code output}. The bytes are
+	 * gathered in a buffer and written in blocks, which is much faster for most outputs than writing
+	 * them one by one.
+	 *
+	 * @param array The quantities to be written.
+	 * @param output The output the quantities are written to.
+	 *
+	 * @throws IOException If {@code output} can't be written.
+	 */
+	public static void encode(DigitalQuantityArray array, DataOutput output) throws IOException {
+		int size = array.size();
+		ByteBuffer block = ByteBuffer.allocate(Math.min(8192, Math.max(size, 1) * MAX_ENCODED_BYTES + 5));
+		putVarint(block, size);
+		for (int i = 0; i < size; i++) {
+			if (block.remaining() < MAX_ENCODED_BYTES) {
+				output.write(block.array(), 0, block.position());
+				block.clear();
+			}
+			encode(array.getUnit(i), array.getValue(i), block);
+		}
+		output.write(block.array(), 0, block.position());
+	}
+
+	/**
+	 * <p>Reads quantities written by {@link DigitalQuantityCodec#encode(DigitalQuantityArray, DataOutput)}
+	 * from {@code input}.
+	 *
+	 * @param input The input the quantities are read from.
+	 *
+	 * @return An array with the quantities read.
+	 *
+	 * @throws IOException If {@code input} can't be read or ends before the quantities.
+	 */
+	public static DigitalQuantityArray decodeArray(DataInput input) throws IOException {
+		int size = readSize(getVarint(input));
+		// The size isn't trusted for more room than a reasonable first block
+		DigitalQuantityArray array = new DigitalQuantityArray(Math.min(size, 1 << 16));
+		for (int i = 0; i < size; i++) {
+			int tag = input.readUnsignedByte();
+			array.add(unit(tag), readValue(tag, input));
+		}
+		return array;
+	}
+
+	/**
+	 * <p>Finds the most compact form that gives back exactly {@code value}.
+	 */
+	private static int form(double value) {
+		double magnitude = Math.abs(value);
+		if (magnitude < MAX_DIGITS) {
+			for (int places = 0; places <= MAX_DECIMAL_PLACES; places++) {
+				double scaled = value * POWERS_OF_TEN[places];
+				if (Math.abs(scaled) >= MAX_DIGITS) break;
+				if (Math.rint(scaled) / POWERS_OF_TEN[places] == value) {
+					// Excludes the negative zero, which the digits can't represent
+					return value == 0 && Double.doubleToRawLongBits(value) != 0 ? FLOAT_FORM : places;
+				}
+			}
+		}
+		return (float) value == value || Double.isNaN(value) ? FLOAT_FORM : DOUBLE_FORM;
+	}
+
+	private static long digits(double value, int places) {
+		return (long) Math.rint(value * POWERS_OF_TEN[places]);
+	}
+
+	private static byte tag(UnitEnum unit, int form) {
+		return (byte) (form << 4 | unit.ordinal());
+	}
+
+	private static UnitEnum unit(int tag) {
+		int ordinal = tag & 0x0F;
+		if (ordinal >= UNITS.length || (tag >>> 4) > DOUBLE_FORM) throw new IllegalArgumentException(
+				"Malformed encoded quantity, the tag was 0x" + Integer.toHexString(tag));
+		return UNITS[ordinal];
+	}
+
+	private static double readValue(int tag, ByteBuffer buffer) {
+		int form = tag >>> 4;
+		if (form == DOUBLE_FORM) return Double.longBitsToDouble(getLong(buffer));
+		if (form == FLOAT_FORM) return Float.intBitsToFloat(getInt(buffer));
+		return unzigzag(getVarint(buffer)) / POWERS_OF_TEN[form];
+	}
+
+	private static double readValue(int tag, DataInput input) throws IOException {
+		int form = tag >>> 4;
+		if (form == DOUBLE_FORM) return Double.longBitsToDouble(input.readLong());
+		if (form == FLOAT_FORM) return Float.intBitsToFloat(input.readInt());
+		return unzigzag(getVarint(input)) / POWERS_OF_TEN[form];
+	}
+
+	private static int readSize(long size) {
+		if (size > Integer.MAX_VALUE) throw new IllegalArgumentException(
+				"Malformed encoded array, the size was " + size);
+		return (int) size;
+	}
+
+	private static long zigzag(long value) {
+		return value << 1 ^ value >> 63;
+	}
+
+	private static long unzigzag(long value) {
+		return value >>> 1 ^ -(value & 1);
+	}
+
+	private static int varintSize(long value) {
+		// Seven bits per byte, and at least one byte
+		return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+	}
+
+	private static void requireRemaining(ByteBuffer buffer, int bytes) {
+		if (buffer.remaining() < bytes) throw new BufferOverflowException();
+	}
+
+	private static void putVarint(ByteBuffer buffer, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) (value & 0x7F | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	private static long getVarint(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) return value;
+		}
+		throw new IllegalArgumentException("Malformed encoded quantity, a variable length integer is too long.");
+	}
+
+	private static long getVarint(DataInput input) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += 7) {
+			byte b = input.readByte();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) return value;
+		}
+		throw new IllegalArgumentException("Malformed encoded quantity, a variable length integer is too long.");
+	}
+
+	/*
+	 * Multi byte values are big endian whatever the order of the buffer
+	 */
+
+	private static void putInt(ByteBuffer buffer, int value) {
+		buffer.putInt(buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value));
+	}
+
+	private static void putLong(ByteBuffer buffer, long value) {
+		buffer.putLong(buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value));
+	}
+
+	private static int getInt(ByteBuffer buffer) {
+		int value = buffer.getInt();
+		return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value);
+	}
+
+	private static long getLong(ByteBuffer buffer) {
+		long value = buffer.getLong();
+		return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+	}
+
+}
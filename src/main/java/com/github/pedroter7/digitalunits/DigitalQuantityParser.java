@@ -0,0 +1,585 @@
+package com.github.pedroter7.digitalunits;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import com.github.pedroter7.digitalunits.metrics.Metrics;
+
+/**
+ * <p>Reads fully qualified quantities, such as <i>"15 cm"</i> or <i>"12.5pt"</i>, in place from
+ * a range of a {@code CharSequence}, a {@code char[]}, a {@code byte[]} or a {@code ByteBuffer}, without creating
+ * intermediate {@code String} s.
+ *
+ * <p>A quantity is read as optional leading white spaces, a number in decimal notation,
+ * optional white spaces and a unit symbol. The number may have a sign, a fractional part and
+ * an exponent, e.g. <i>"-1.5e2"</i>. The unit symbol is every letter that follows the number
+ * and is matched to a {@code UnitEnum} regardless of case. White space means any character up to
+ * and including {@code ' '}, the same that {@link String#trim()} removes. Bytes are read as ASCII.
+ *
+ * <p>To find every quantity in a larger text, see {@link DigitalQuantityScanner}.
+ *
+ * <p>Each call to one of the {@code parse} overloads returns the index right after the unit symbol,
+ * so callers can keep scanning from there. The numerical value and the unit of the last read
+ * quantity are available through {@link DigitalQuantityParser#getValue()} and
+ * {@link DigitalQuantityParser#getUnit()}. The numerical value is rounded just like the value of
+ * a {@code DigitalQuantity} and it is the same value that {@link DigitalQuantity#valueOf(String)}
+ * produces for the read characters.
+ *
+ * <p>Numbers with up to 15 significant digits and a decimal exponent up to 22 are converted with
+ * exact {@code double} arithmetic. Other numbers are handed to {@link Double#parseDouble(String)},
+ * which is the only case where a {@code String} is created.
+ *
+ * <p>As in {@link DigitalQuantity#valueOf(String)}, a range that doesn't hold a fully qualified
+ * quantity causes an {@link IllegalArgumentException}, which is a {@link NumberFormatException}
+ * when the number is malformed, and a unit symbol with no {@code UnitEnum} representation causes an
+ * {@link UnsupportedOperationException}. A {@code null} parameter causes a {@link NullPointerException}
+ * and a range out of bounds causes an {@link IndexOutOfBoundsException}.
+ *
+ * <p>Where malformed input is expected, e.g. in untrusted style sheets, the {@code tryParse} overloads read
+ * the same quantities without throwing: they return {@code -1} when the characters can't be read, and
+ * {@link DigitalQuantityParser#getFailure()} tells why. Creating an exception and its stack trace costs far
+ * more than reading a quantity. {@link DigitalQuantityParser#validate(CharSequence[], int, int, int[], byte[])}
+ * checks many inputs at once, reporting the failures in primitive arrays.
+ *
+ * <p>Objects of this class hold the state of the last read quantity, thus they are not thread safe.
+ * A single object can be reused for any number of reads.
+ *
+ * @since 1.1
+ */
+public final class DigitalQuantityParser {
+
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+
+	// Every integer with up to 15 digits is exactly representable as a double
+	private static final int MAX_EXACT_DIGITS = 15;
+	// More digits than a long holds are only kept track of by the exponent
+	private static final int MAX_DIGITS = 18;
+	// Exponents beyond this are out of the double range anyway
+	private static final int MAX_EXPONENT = 100_000;
+
+	// Status codes of read(int, int)
+	static final int EMPTY = -1;
+	static final int MALFORMED_NUMBER = -2;
+	static final int MISSING_UNIT = -3;
+	static final int UNSUPPORTED_UNIT = -4;
+	static final int OUT_OF_RANGE = -5;
+
+	// Indexed by -status - 1
+	private static final ParseFailure[] PARSE_FAILURES = ParseFailure.values();
+
+	private CharSequence charSequence;
+	private char[] chars;
+	private byte[] bytes;
+	private ByteBuffer byteBuffer;
+
+	private int readExponent;
+	private int numberStart;
+	private int numberEnd;
+	private int stopIndex;
+
+	private UnitEnum unit;
+	private double value;
+	private int endIndex;
+	private ParseFailure failure;
+
+	/**
+	 * <p>Reads a quantity from {@code text}, starting at {@code start} and not going past {@code end}.
+	 *
+	 * @param text The characters to read from.
+	 * @param start The index of the first character to read.
+	 * @param end The index after the last character that may be read.
+	 *
+	 * @return The index right after the unit symbol of the read quantity.
+	 */
+	public int parse(CharSequence text, int start, int end) {
+		Objects.requireNonNull(text);
+		Objects.checkFromToIndex(start, end, text.length());
+		setSource(text);
+		try {
+			return parse(start, end);
+		} finally {
+			clearSource();
+		}
+	}
+
+	/**
+	 * <p>Reads a quantity from {@code text}, starting at {@code start} and not going past {@code end}.
+	 *
+	 * @param text The characters to read from.
+	 * @param start The index of the first character to read.
+	 * @param end The index after the last character that may be read.
+	 *
+	 * @return The index right after the unit symbol of the read quantity.
+	 */
+	public int parse(char[] text, int start, int end) {
+		Objects.requireNonNull(text);
+		Objects.checkFromToIndex(start, end, text.length);
+		setSource(text);
+		try {
+			return parse(start, end);
+		} finally {
+			clearSource();
+		}
+	}
+
+	/**
+	 * <p>Reads a quantity from ASCII encoded {@code text}, starting at {@code start} and not
+	 * going past {@code end}.
+	 *
+	 * @param text The bytes to read from.
+	 * @param start The index of the first byte to read.
+	 * @param end The index after the last byte that may be read.
+	 *
+	 * @return The index right after the unit symbol of the read quantity.
+	 */
+	public int parse(byte[] text, int start, int end) {
+		Objects.requireNonNull(text);
+		Objects.checkFromToIndex(start, end, text.length);
+		setSource(text);
+		try {
+			return parse(start, end);
+		} finally {
+			clearSource();
+		}
+	}
+
+	/**
+	 * <p>Reads a quantity from the ASCII encoded content of {@code buffer}, starting at the absolute
+	 * index {@code start} and not going past the absolute index {@code end}. The position and the
+	 * limit of the buffer aren't changed, which allows reading memory mapped files.
+	 *
+	 * @param buffer The buffer to read from.
+	 * @param start The absolute index of the first byte to read.
+	 * @param end The absolute index after the last byte that may be read.
+	 *
+	 * @return The absolute index right after the unit symbol of the read quantity.
+	 */
+	public int parse(ByteBuffer buffer, int start, int end) {
+		Objects.requireNonNull(buffer);
+		Objects.checkFromToIndex(start, end, buffer.limit());
+		setSource(buffer);
+		try {
+			return parse(start, end);
+		} finally {
+			clearSource();
+		}
+	}
+
+	/**
+	 * <p>Reads a quantity from {@code text}, starting at {@code start} and not going past {@code end},
+	 * without throwing exceptions for malformed input. If the characters can't be read, the last read
+	 * quantity is kept and {@link DigitalQuantityParser#getFailure()} tells why.
+	 *
+	 * @param text The characters to read from.
+	 * @param start The index of the first character to read.
+	 * @param end The index after the last character that may be read.
+	 *
+	 * @return The index right after the unit symbol of the read quantity, or {@code -1} if no quantity could be read.
+	 *
+	 * @since 1.1
+	 */
+	public int tryParse(CharSequence text, int start, int end) {
+		Objects.requireNonNull(text);
+		Objects.checkFromToIndex(start, end, text.length());
+		setSource(text);
+		try {
+			return tryParse(start, end);
+		} finally {
+			clearSource();
+		}
+	}
+
+	/**
+	 * <p>Reads a quantity from {@code text}, starting at {@code start} and not going past {@code end},
+	 * without throwing exceptions for malformed input. If the characters can't be read, the last read
+	 * quantity is kept and {@link DigitalQuantityParser#getFailure()} tells why.
+	 *
+	 * @param text The characters to read from.
+	 * @param start The index of the first character to read.
+	 * @param end The index after the last character that may be read.
+	 *
+	 * @return The index right after the unit symbol of the read quantity, or {@code -1} if no quantity could be read.
+	 *
+	 * @since 1.1
+	 */
+	public int tryParse(char[] text, int start, int end) {
+		Objects.requireNonNull(text);
+		Objects.checkFromToIndex(start, end, text.length);
+		setSource(text);
+		try {
+			return tryParse(start, end);
+		} finally {
+			clearSource();
+		}
+	}
+
+	/**
+	 * <p>Reads a quantity from {@code text}, which is ASCII encoded, starting at {@code start} and not going past {@code end},
+	 * without throwing exceptions for malformed input. If the characters can't be read, the last read
+	 * quantity is kept and {@link DigitalQuantityParser#getFailure()} tells why.
+	 *
+	 * @param text The bytes to read from.
+	 * @param start The index of the first byte to read.
+	 * @param end The index after the last byte that may be read.
+	 *
+	 * @return The index right after the unit symbol of the read quantity, or {@code -1} if no quantity could be read.
+	 *
+	 * @since 1.1
+	 */
+	public int tryParse(byte[] text, int start, int end) {
+		Objects.requireNonNull(text);
+		Objects.checkFromToIndex(start, end, text.length);
+		setSource(text);
+		try {
+			return tryParse(start, end);
+		} finally {
+			clearSource();
+		}
+	}
+
+	/**
+	 * <p>Reads a quantity from the ASCII encoded content of {@code buffer}, starting at the absolute
+	 * index {@code start} and not going past the absolute index {@code end}, without throwing exceptions
+	 * for malformed input. If the characters can't be read, the last read quantity is kept and
+	 * {@link DigitalQuantityParser#getFailure()} tells why. The position and the limit of the buffer
+	 * aren't changed.
+	 *
+	 * @param buffer The buffer to read from.
+	 * @param start The absolute index of the first byte to read.
+	 * @param end The absolute index after the last byte that may be read.
+	 *
+	 * @return The absolute index right after the unit symbol of the read quantity, or {@code -1} if no
+	 * quantity could be read.
+	 *
+	 * @since 1.1
+	 */
+	public int tryParse(ByteBuffer buffer, int start, int end) {
+		Objects.requireNonNull(buffer);
+		Objects.checkFromToIndex(start, end, buffer.limit());
+		setSource(buffer);
+		try {
+			return tryParse(start, end);
+		} finally {
+			clearSource();
+		}
+	}
+
+	/**
+	 * <p>Checks whether each of {@code length} inputs, starting at {@code inputs[offset]}, is a single
+	 * quantity, optionally surrounded by white spaces, and reports the ones that aren't. No exceptions are
+	 * thrown for malformed inputs, and a {@code null} input fails as {@link ParseFailure#EMPTY}.
+	 *
+	 * <p>The indices in {@code inputs} of the failed inputs are written in order to {@code failedIndices},
+	 * and the {@link ParseFailure#ordinal()} of why each one failed to the same index of {@code reasons}. At most
+	 * {@code failedIndices.length} failures are written, though all of them are counted. The last read
+	 * quantity of this parser is left undefined.
+	 *
+	 * @param inputs The inputs to check.
+	 * @param offset The index of the first input to check.
+	 * @param length The number of inputs to check.
+	 * @param failedIndices Where to write the indices of the failed inputs.
+	 * @param reasons Where to write the reasons of the failures, at least as long as {@code failedIndices}.
+	 *
+	 * @return The number of failed inputs, which may be more than were written.
+	 *
+	 * @since 1.1
+	 */
+	public int validate(CharSequence[] inputs, int offset, int length, int[] failedIndices, byte[] reasons) {
+		Objects.requireNonNull(inputs);
+		Objects.requireNonNull(failedIndices);
+		Objects.requireNonNull(reasons);
+		Objects.checkFromIndexSize(offset, length, inputs.length);
+		if (reasons.length < failedIndices.length) throw new IllegalArgumentException(
+				"There must be room for as many reasons as failed indices.");
+		int failures = 0;
+		for (int i = offset; i < offset + length; i++) {
+			ParseFailure reason = check(inputs[i]);
+			if (reason == null) continue;
+			if (failures < failedIndices.length) {
+				failedIndices[failures] = i;
+				reasons[failures] = (byte) reason.ordinal();
+			}
+			failures++;
+		}
+		return failures;
+	}
+
+	private ParseFailure check(CharSequence input) {
+		if (input == null) return fail(ParseFailure.EMPTY);
+		int end = input.length();
+		setSource(input);
+		try {
+			int index = tryParse(0, end);
+			if (index < 0) return failure;
+			if (skipWhitespaces(index, end) < end) return fail(ParseFailure.TRAILING_CHARACTERS);
+			return null;
+		} finally {
+			clearSource();
+		}
+	}
+
+	/**
+	 * @return The unit of the last read quantity, or {@code null} if no quantity was read yet.
+	 */
+	public UnitEnum getUnit() {
+		return unit;
+	}
+
+	/**
+	 * @return The numerical value of the last read quantity.
+	 */
+	public double getValue() {
+		return value;
+	}
+
+	/**
+	 * @return The index right after the unit symbol of the last read quantity.
+	 */
+	public int getEndIndex() {
+		return endIndex;
+	}
+
+	/**
+	 * @return Why the last call to {@code tryParse} or {@code parse} couldn't read a quantity, or {@code null}
+	 * if it did.
+	 *
+	 * @since 1.1
+	 */
+	public ParseFailure getFailure() {
+		return failure;
+	}
+
+	/**
+	 * <p>Creates a {@code DigitalQuantity} from the last read quantity.
+	 *
+	 * <p>If no quantity was read yet, an {@link IllegalStateException} is thrown.
+	 *
+	 * @return A {@code DigitalQuantity} with the unit and the numerical value of the last read quantity.
+	 */
+	public DigitalQuantity toDigitalQuantity() {
+		if (unit == null) throw new IllegalStateException("No quantity has been read by this parser.");
+		return DigitalQuantity.valueOf(unit, value);
+	}
+
+	void setSource(CharSequence text) {
+		this.charSequence = text;
+	}
+
+	void setSource(char[] text) {
+		this.chars = text;
+	}
+
+	void setSource(byte[] text) {
+		this.bytes = text;
+	}
+
+	void setSource(ByteBuffer buffer) {
+		this.byteBuffer = buffer;
+	}
+
+	void clearSource() {
+		this.charSequence = null;
+		this.chars = null;
+		this.bytes = null;
+		this.byteBuffer = null;
+	}
+
+	char charAt(int index) {
+		if (chars != null) return chars[index];
+		if (bytes != null) return (char) (bytes[index] & 0xff);
+		if (byteBuffer != null) return (char) (byteBuffer.get(index) & 0xff);
+		return charSequence.charAt(index);
+	}
+
+	private String substring(int start, int end) {
+		if (chars != null) return new String(chars, start, end - start);
+		if (bytes != null) return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+		if (byteBuffer != null) {
+			byte[] copy = new byte[end - start];
+			for (int i = 0; i < copy.length; i++) copy[i] = byteBuffer.get(start + i);
+			return new String(copy, StandardCharsets.ISO_8859_1);
+		}
+		return charSequence.subSequence(start, end).toString();
+	}
+
+	boolean isLetter(char c) {
+		if (bytes != null || byteBuffer != null) return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+		return Character.isLetter(c);
+	}
+
+	static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c <= ' ';
+	}
+
+	private int skipWhitespaces(int index, int end) {
+		while (index < end && isWhitespace(charAt(index))) index++;
+		return index;
+	}
+
+	private int tryParse(int start, int end) {
+		int result = read(start, end);
+		if (result >= 0) {
+			failure = null;
+			return result;
+		}
+		fail(PARSE_FAILURES[-result - 1]);
+		return -1;
+	}
+
+	private ParseFailure fail(ParseFailure reason) {
+		failure = reason;
+		if (Metrics.isEnabled()) Metrics.recordParseFailure(reason);
+		return reason;
+	}
+
+	private int parse(int start, int end) {
+		int result = read(start, end);
+		failure = result >= 0 ? null : PARSE_FAILURES[-result - 1];
+		if (result >= 0) return result;
+		switch (result) {
+		case EMPTY:
+			throw DigitalQuantity.parseFailure(ParseFailure.EMPTY, new IllegalArgumentException(
+					"To read a DigitalQuantity, the characters must be fully qualified"
+					+ " with a number representing a measure plus a symbol representing a unit."
+					+ " The given range was empty."));
+		case MALFORMED_NUMBER:
+			throw DigitalQuantity.parseFailure(ParseFailure.MALFORMED_NUMBER, new NumberFormatException(
+					"To read a DigitalQuantity, the characters must start with a number in decimal notation."));
+		case OUT_OF_RANGE:
+			throw DigitalQuantity.parseFailure(ParseFailure.OUT_OF_RANGE, new NumberFormatException(
+					"The number " + substring(numberStart, numberEnd) + " is out of the double range."));
+		case MISSING_UNIT:
+			throw DigitalQuantity.parseFailure(ParseFailure.MISSING_UNIT, new IllegalArgumentException(
+					"To read a DigitalQuantity, the characters must be fully qualified"
+					+ " with a number representing a measure plus a symbol representing an unit."));
+		default:
+			throw DigitalQuantity.parseFailure(ParseFailure.UNSUPPORTED_UNIT, new UnsupportedOperationException(
+					"There is no support for the given measuring unit."
+					+ " The given unit symbol was " + substring(numberEnd, stopIndex).trim()));
+		}
+	}
+
+	/**
+	 * <p>Reads a quantity from the current source without throwing exceptions for malformed input.
+	 *
+	 * @return The index right after the unit symbol, or one of the negative status codes.
+	 */
+	int read(int start, int end) {
+		int index = skipWhitespaces(start, end);
+		numberStart = index;
+		numberEnd = index;
+		stopIndex = index;
+		if (index == end) return EMPTY;
+
+		// Read the number
+		char c = charAt(index);
+		boolean negative = c == '-';
+		if (negative || c == '+') index++;
+		long mantissa = 0;
+		int digits = 0;
+		int exponent = 0;
+		boolean hasDigits = false;
+		boolean truncated = false;
+		boolean fraction = false;
+		for (; index < end; index++) {
+			c = charAt(index);
+			if (c == '.' && !fraction) {
+				fraction = true;
+				continue;
+			}
+			if (!isDigit(c)) break;
+			hasDigits = true;
+			if (mantissa == 0 && c == '0') {
+				// Leading zeros aren't significant
+				if (fraction) exponent--;
+			} else if (digits < MAX_DIGITS) {
+				mantissa = mantissa * 10 + (c - '0');
+				digits++;
+				if (fraction) exponent--;
+			} else {
+				truncated |= c != '0';
+				if (!fraction) exponent++;
+			}
+		}
+		stopIndex = index;
+		if (!hasDigits) return MALFORMED_NUMBER;
+		index = parseExponent(index, end);
+		numberEnd = index;
+		exponent += Math.max(-MAX_EXPONENT, Math.min(MAX_EXPONENT, readExponent));
+
+		double number;
+		if (!truncated && digits <= MAX_EXACT_DIGITS && Math.abs(exponent) < POWERS_OF_TEN.length) {
+			// Both operands are exact, so the result is correctly rounded like Double.parseDouble
+			number = exponent >= 0 ? mantissa * POWERS_OF_TEN[exponent] : mantissa / POWERS_OF_TEN[-exponent];
+			if (negative) number = -number;
+		} else {
+			number = Double.parseDouble(substring(numberStart, numberEnd));
+		}
+
+		// Read the unit symbol
+		index = skipWhitespaces(index, end);
+		int unitStart = index;
+		while (index < end && isLetter(charAt(index))) index++;
+		stopIndex = index;
+		if (index == unitStart) return MISSING_UNIT;
+		UnitEnum unitEnum = findUnit(unitStart, index);
+		if (unitEnum == null) return UNSUPPORTED_UNIT;
+		if (!Double.isFinite(number)) return OUT_OF_RANGE;
+
+		this.value = DigitalQuantity.round(number);
+		this.unit = unitEnum;
+		this.endIndex = index;
+		return index;
+	}
+
+	/**
+	 * @return The index where the last read stopped looking at characters, whether it succeeded or not.
+	 */
+	int getStopIndex() {
+		return stopIndex;
+	}
+
+	/**
+	 * <p>Reads an exponent such as <i>"e-3"</i> into {@code readExponent}. An <i>'e'</i> that isn't
+	 * followed by digits is left alone, since it may start a unit symbol.
+	 */
+	private int parseExponent(int index, int end) {
+		readExponent = 0;
+		if (index >= end || (charAt(index) != 'e' && charAt(index) != 'E')) return index;
+		int digitsStart = index + 1;
+		boolean negative = false;
+		if (digitsStart < end && (charAt(digitsStart) == '-' || charAt(digitsStart) == '+')) {
+			negative = charAt(digitsStart) == '-';
+			digitsStart++;
+		}
+		int digitsEnd = digitsStart;
+		int exponent = 0;
+		while (digitsEnd < end && isDigit(charAt(digitsEnd))) {
+			if (exponent < MAX_EXPONENT) exponent = exponent * 10 + (charAt(digitsEnd) - '0');
+			digitsEnd++;
+		}
+		if (digitsEnd == digitsStart) return index;
+		readExponent = negative ? -exponent : exponent;
+		return digitsEnd;
+	}
+
+	private UnitEnum findUnit(int start, int end) {
+		switch (end - start) {
+		case 1:
+			return UnitEnum.getUnit(charAt(start));
+		case 2:
+			return UnitEnum.getUnit(charAt(start), charAt(start + 1));
+		default:
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,278 @@
+package com.github.pedroter7.digitalunits;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * <p>Finds every quantity, such as <i>"12.5pt"</i> or <i>"3 mm"</i>, in a text in a single pass. Each
+ * quantity found is reported with its offset, unit and numerical value, either to a
+ * {@link DigitalQuantityScanner.Handler} or into arrays, without creating a {@code String} or a
+ * {@code DigitalQuantity} per quantity.
+ *
+ * <p>Quantities are read with the grammar of {@link DigitalQuantityParser}: a number in decimal notation,
+ * optional white spaces and a unit symbol with a {@code UnitEnum} representation. A quantity is only
+ * recognized where its number doesn't continue a word or another number, so <i>"h1px"</i> and the
+ * <i>"2px"</i> in <i>"1.2px"</i> aren't reported twice. Anything that isn't followed by a supported unit
+ * symbol, like <i>"12em"</i>, is skipped.
+ *
+ * <p>Besides any {@code CharSequence}, which includes {@code CharBuffer}, a scanner reads ASCII encoded
+ * {@code ByteBuffer} s and files. Files are memory mapped in windows, so they may be larger than both
+ * the heap and the 2GB limit of a single mapping.
+ *
+ * <p>Objects of this class aren't thread safe, but a single object can be reused for any number of scans.
+ *
+ * @since 1.1
+ */
+public final class DigitalQuantityScanner {
+
+	/**
+	 * <p>Receives each quantity found by a {@code DigitalQuantityScanner}.
+	 */
+	@FunctionalInterface
+	public interface Handler {
+
+		/**
+		 * @param offset The index of the first character of the quantity in the scanned text.
+		 * @param unit The unit of the quantity.
+		 * @param value The numerical value of the quantity, rounded like the value of a {@code DigitalQuantity}.
+		 */
+		void quantity(long offset, UnitEnum unit, double value);
+
+	}
+
+	/**
+	 * <p>The size of the windows in which files are mapped by default, 256 MiB.
+	 */
+	public static final int DEFAULT_WINDOW_SIZE = 1 << 28;
+
+	private final DigitalQuantityParser parser = new DigitalQuantityParser();
+	private final int windowSize;
+
+	private long found;
+	private long maxFound;
+	private int nextIndex;
+
+	/**
+	 * <p>Creates a scanner that maps files in windows of {@link DigitalQuantityScanner#DEFAULT_WINDOW_SIZE} bytes.
+	 */
+	public DigitalQuantityScanner() {
+		this(DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * <p>Creates a scanner that maps files in windows of {@code windowSize} bytes. A window is temporarily
+	 * enlarged when a single quantity doesn't fit in it.
+	 *
+	 * @param windowSize The number of bytes of a file that are mapped at once, must be positive.
+	 */
+	public DigitalQuantityScanner(int windowSize) {
+		if (windowSize <= 0) throw new IllegalArgumentException("The window size must be positive.");
+		this.windowSize = windowSize;
+	}
+
+	/**
+	 * <p>Reports every quantity in {@code text} to {@code handler}.
+	 *
+	 * @param text The text to scan.
+	 * @param handler The receiver of the quantities found.
+	 *
+	 * @return The number of quantities found.
+	 */
+	public long scan(CharSequence text, Handler handler) {
+		Objects.requireNonNull(text);
+		return scan(text, 0, text.length(), handler);
+	}
+
+	/**
+	 * <p>Reports every quantity in the range from {@code start} to {@code end} of {@code text} to {@code handler}.
+	 *
+	 * @param text The text to scan.
+	 * @param start The index of the first character to scan.
+	 * @param end The index after the last character to scan.
+	 * @param handler The receiver of the quantities found.
+	 *
+	 * @return The number of quantities found.
+	 */
+	public long scan(CharSequence text, int start, int end, Handler handler) {
+		Objects.requireNonNull(text);
+		Objects.requireNonNull(handler);
+		Objects.checkFromToIndex(start, end, text.length());
+		parser.setSource(text);
+		try {
+			return scan(start, end, handler);
+		} finally {
+			parser.clearSource();
+		}
+	}
+
+	/**
+	 * <p>Writes the quantities in the range from {@code start} to {@code end} of {@code text} into the given
+	 * arrays, from their first position on, until either the range ends or the shortest array is full.
+	 * In the latter case the scan can be resumed from {@link DigitalQuantityScanner#getNextIndex()}.
+	 *
+	 * @param text The text to scan.
+	 * @param start The index of the first character to scan.
+	 * @param end The index after the last character to scan.
+	 * @param offsets The array that receives the index of the first character of each quantity.
+	 * @param units The array that receives the unit of each quantity.
+	 * @param values The array that receives the numerical value of each quantity.
+	 *
+	 * @return The number of quantities written to the arrays.
+	 */
+	public int scan(CharSequence text, int start, int end, int[] offsets, UnitEnum[] units, double[] values) {
+		Objects.requireNonNull(text);
+		Objects.requireNonNull(offsets);
+		Objects.requireNonNull(units);
+		Objects.requireNonNull(values);
+		Objects.checkFromToIndex(start, end, text.length());
+		parser.setSource(text);
+		try {
+			maxFound = Math.min(offsets.length, Math.min(units.length, values.length));
+			found = 0;
+			nextIndex = scanRange(start, end, ' ', true, 0, (offset, unit, value) -> {
+				int i = (int) found;
+				offsets[i] = (int) offset;
+				units[i] = unit;
+				values[i] = value;
+			});
+			return (int) found;
+		} finally {
+			parser.clearSource();
+		}
+	}
+
+	/**
+	 * <p>Reports every quantity in the ASCII encoded content of {@code buffer}, from its position to its limit,
+	 * to {@code handler}. Offsets are absolute indexes in the buffer. The position and the limit of the
+	 * buffer aren't changed.
+	 *
+	 * @param buffer The buffer to scan.
+	 * @param handler The receiver of the quantities found.
+	 *
+	 * @return The number of quantities found.
+	 */
+	public long scan(ByteBuffer buffer, Handler handler) {
+		Objects.requireNonNull(buffer);
+		Objects.requireNonNull(handler);
+		parser.setSource(buffer);
+		try {
+			return scan(buffer.position(), buffer.limit(), handler);
+		} finally {
+			parser.clearSource();
+		}
+	}
+
+	/**
+	 * <p>Reports every quantity in the ASCII encoded content of {@code channel} to {@code handler}. Offsets
+	 * are positions in the file. The channel is memory mapped in windows and its position isn't changed.
+	 *
+	 * @param channel A channel opened for reading.
+	 * @param handler The receiver of the quantities found.
+	 *
+	 * @return The number of quantities found.
+	 *
+	 * @throws IOException If the channel can't be mapped.
+	 */
+	public long scan(FileChannel channel, Handler handler) throws IOException {
+		Objects.requireNonNull(channel);
+		Objects.requireNonNull(handler);
+		long size = channel.size();
+		long position = 0;
+		long window = windowSize;
+		char previous = ' ';
+		found = 0;
+		maxFound = Long.MAX_VALUE;
+		while (position < size) {
+			int length = (int) Math.min(window, size - position);
+			boolean last = position + length == size || length == Integer.MAX_VALUE;
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+			parser.setSource(buffer);
+			try {
+				int stop = scanRange(0, length, previous, last, position, handler);
+				if (stop == 0 && !last) {
+					// A quantity starting right at the window doesn't fit in it
+					window = Math.min(window * 2, Integer.MAX_VALUE);
+					continue;
+				}
+				previous = parser.charAt(stop - 1);
+				position += stop;
+				window = windowSize;
+			} finally {
+				parser.clearSource();
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * <p>Reports every quantity in the ASCII encoded file at {@code path} to {@code handler}. Offsets are
+	 * positions in the file.
+	 *
+	 * @param path The path of the file to scan.
+	 * @param handler The receiver of the quantities found.
+	 *
+	 * @return The number of quantities found.
+	 *
+	 * @throws IOException If the file can't be opened or mapped.
+	 */
+	public long scan(Path path, Handler handler) throws IOException {
+		Objects.requireNonNull(path);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return scan(channel, handler);
+		}
+	}
+
+	/**
+	 * @return The index where the last scan into arrays stopped.
+	 */
+	public int getNextIndex() {
+		return nextIndex;
+	}
+
+	private long scan(int start, int end, Handler handler) {
+		found = 0;
+		maxFound = Long.MAX_VALUE;
+		nextIndex = scanRange(start, end, ' ', true, 0, handler);
+		return found;
+	}
+
+	/**
+	 * <p>Scans the source of the parser. When {@code complete} is {@code false}, the text may continue after
+	 * {@code end}, so a quantity that reaches it isn't read and its index is returned instead.
+	 *
+	 * @return The index where the scan stopped.
+	 */
+	private int scanRange(int start, int end, char previous, boolean complete, long base, Handler handler) {
+		int index = start;
+		while (index < end && found < maxFound) {
+			char c = parser.charAt(index);
+			if (isNumberStart(c) && !continuesWord(previous)) {
+				int result = parser.read(index, end);
+				if (!complete && parser.getStopIndex() >= end) return index;
+				if (result >= 0) {
+					handler.quantity(base + index, parser.getUnit(), parser.getValue());
+					found++;
+					previous = parser.charAt(result - 1);
+					index = result;
+					continue;
+				}
+			}
+			previous = c;
+			index++;
+		}
+		return index;
+	}
+
+	private static boolean isNumberStart(char c) {
+		return DigitalQuantityParser.isDigit(c) || c == '.' || c == '-' || c == '+';
+	}
+
+	private boolean continuesWord(char previous) {
+		return DigitalQuantityParser.isDigit(previous) || previous == '.' || parser.isLetter(previous);
+	}
+
+}
@@ -0,0 +1,305 @@
+package com.github.pedroter7.digitalunits;
+
+import java.util.Objects;
+
+/**
+ * <p>Converts lengths to and from a fixed point representation: a {@code long} count of a fine canonical unit,
+ * {@code 1 / }{@value FixedLength#UNITS_PER_INCH} of an inch. As in the sub pixel units of browser layout
+ * engines, arithmetic on fixed point lengths is exact, fast and deterministic: they are added, subtracted and
+ * compared with the plain {@code long} operators, sorted with {@link java.util.Arrays#sort(long[])} and they
+ * never accumulate rounding errors.
+ *
+ * <p>The canonical unit is a 64th of the English Metric Unit of office documents, so every whole number of
+ * inches, points ({@value FixedLength#UNITS_PER_POINT} units), millimeters
+ * ({@value FixedLength#UNITS_PER_MILLIMETER} units), centimeters and meters is a whole number of units, and so
+ * is every hundredth of a point and every micrometer. A pixel is {@code UNITS_PER_INCH / screenDpi} units, a
+ * whole number for the usual resolutions of 72, 96, 120, 144, 192, 240, 288, 300 and 384 DPI, and a 64th of a
+ * pixel at 96 DPI is 9525 units. Other values are rounded to the nearest unit, with ties rounding up. A
+ * {@code long} holds lengths up to about 4 million km.
+ *
+ * <p>Lengths are converted back to a unit with a single correctly rounded division, except for pixels at
+ * resolutions that don't divide {@code UNITS_PER_INCH}. Thus, up to about 3900 km, where lengths stop fitting
+ * the 53 bits of a {@code double} significand, a value nearest to a whole number of units, such as
+ * <i>0.1</i> mm, is converted to a fixed point length and back to the same {@code double}.
+ *
+ * <p>Values that are not finite or whose length doesn't fit a {@code long} cause an
+ * {@link IllegalArgumentException}, and a screen resolution that isn't greater than zero causes an
+ * {@link IllegalArgumentException} too. Bulk methods check their ranges like
+ * {@link java.util.Objects#checkFromIndexSize(int, int, int)}, and a bulk conversion that fails leaves the values
+ * before the failing one converted.
+ *
+ * @since 1.1
+ */
+public final class FixedLength {
+
+	/**
+	 * <p>The number of canonical units in an inch.
+	 */
+	public static final long UNITS_PER_INCH = 58_521_600;
+
+	/**
+	 * <p>The number of canonical units in a point, which is 1/72 in.
+	 */
+	public static final long UNITS_PER_POINT = UNITS_PER_INCH / 72;
+
+	/**
+	 * <p>The number of canonical units in a millimeter, which is 1/25.4 in.
+	 */
+	public static final long UNITS_PER_MILLIMETER = UNITS_PER_INCH * 10 / 254;
+
+	// Lengths from this magnitude on don't fit a long
+	private static final double LONG_RANGE = 0x1p63;
+
+	private FixedLength() {
+	}
+
+	/**
+	 * <p>Converts a value to a fixed point length.
+	 *
+	 * @param unit The unit of {@code value}.
+	 * @param value The numerical value to convert.
+	 * @param screenDpi The screen resolution in DPIs, used for pixels.
+	 *
+	 * @return The fixed point length of {@code value}, rounded to the nearest unit.
+	 */
+	public static long of(UnitEnum unit, double value, int screenDpi) {
+		Objects.requireNonNull(unit);
+		checkResolution(screenDpi);
+		long unitsPer = unitsPer(unit, screenDpi);
+		return unitsPer != 0 ? toLength(value * unitsPer, value) : toLength(value * UNITS_PER_INCH / screenDpi, value);
+	}
+
+	/**
+	 * <p>Converts a quantity to a fixed point length.
+	 *
+	 * @param digitalQuantity The quantity to convert.
+	 * @param screenDpi The screen resolution in DPIs, used for pixels.
+	 *
+	 * @return The fixed point length of {@code digitalQuantity}, rounded to the nearest unit.
+	 */
+	public static long of(DigitalQuantity digitalQuantity, int screenDpi) {
+		Objects.requireNonNull(digitalQuantity);
+		return of(digitalQuantity.getUnit(), digitalQuantity.getValue(), screenDpi);
+	}
+
+	/**
+	 * <p>Converts a fixed point length to a value in {@code unit}.
+	 *
+	 * @param length The fixed point length to convert.
+	 * @param unit The unit to convert to.
+	 * @param screenDpi The screen resolution in DPIs, used for pixels.
+	 *
+	 * @return The numerical value of {@code length} in {@code unit}.
+	 */
+	public static double toUnit(long length, UnitEnum unit, int screenDpi) {
+		Objects.requireNonNull(unit);
+		checkResolution(screenDpi);
+		long unitsPer = unitsPer(unit, screenDpi);
+		return unitsPer != 0 ? (double) length / unitsPer : toPixels(length, screenDpi);
+	}
+
+	/**
+	 * <p>Converts a fixed point length to a {@code DigitalQuantity}, whose value is rounded as usual.
+	 *
+	 * @param length The fixed point length to convert.
+	 * @param unit The unit of the quantity.
+	 * @param screenDpi The screen resolution in DPIs, used for pixels.
+	 *
+	 * @return A quantity in {@code unit} with the value of {@code length}.
+	 */
+	public static DigitalQuantity toQuantity(long length, UnitEnum unit, int screenDpi) {
+		return DigitalQuantity.valueOf(unit, toUnit(length, unit, screenDpi));
+	}
+
+	/**
+	 * <p>Converts {@code length} values from {@code source}, starting at {@code sourceOffset}, to fixed point
+	 * lengths in {@code destination}, starting at {@code destinationOffset}.
+	 *
+	 * @param unit The unit of the values.
+	 * @param source The values to convert.
+	 * @param sourceOffset The index of the first value to convert.
+	 * @param destination Where to write the fixed point lengths.
+	 * @param destinationOffset The index of the first fixed point length to write.
+	 * @param length The number of values to convert.
+	 * @param screenDpi The screen resolution in DPIs, used for pixels.
+	 */
+	public static void of(UnitEnum unit, double[] source, int sourceOffset, long[] destination,
+			int destinationOffset, int length, int screenDpi) {
+		Objects.requireNonNull(unit);
+		Objects.requireNonNull(source);
+		Objects.requireNonNull(destination);
+		Objects.checkFromIndexSize(sourceOffset, length, source.length);
+		Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+		checkResolution(screenDpi);
+		long unitsPer = unitsPer(unit, screenDpi);
+		if (unitsPer != 0) {
+			for (int i = 0; i < length; i++) {
+				double value = source[sourceOffset + i];
+				destination[destinationOffset + i] = toLength(value * unitsPer, value);
+			}
+		} else {
+			for (int i = 0; i < length; i++) {
+				double value = source[sourceOffset + i];
+				destination[destinationOffset + i] = toLength(value * UNITS_PER_INCH / screenDpi, value);
+			}
+		}
+	}
+
+	/**
+	 * <p>Converts {@code length} fixed point lengths from {@code source}, starting at {@code sourceOffset}, to
+	 * values in {@code unit} in {@code destination}, starting at {@code destinationOffset}.
+	 *
+	 * @param unit The unit to convert to.
+	 * @param source The fixed point lengths to convert.
+	 * @param sourceOffset The index of the first fixed point length to convert.
+	 * @param destination Where to write the values.
+	 * @param destinationOffset The index of the first value to write.
+	 * @param length The number of fixed point lengths to convert.
+	 * @param screenDpi The screen resolution in DPIs, used for pixels.
+	 */
+	public static void toUnit(UnitEnum unit, long[] source, int sourceOffset, double[] destination,
+			int destinationOffset, int length, int screenDpi) {
+		Objects.requireNonNull(unit);
+		Objects.requireNonNull(source);
+		Objects.requireNonNull(destination);
+		Objects.checkFromIndexSize(sourceOffset, length, source.length);
+		Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+		checkResolution(screenDpi);
+		long unitsPer = unitsPer(unit, screenDpi);
+		if (unitsPer != 0) {
+			double divisor = unitsPer;
+			for (int i = 0; i < length; i++) {
+				destination[destinationOffset + i] = source[sourceOffset + i] / divisor;
+			}
+		} else {
+			for (int i = 0; i < length; i++) {
+				destination[destinationOffset + i] = toPixels(source[sourceOffset + i], screenDpi);
+			}
+		}
+	}
+
+	/**
+	 * <p>Adds {@code length} fixed point lengths of {@code first} and {@code second} and writes the sums to
+	 * {@code destination}, which may be one of the operands.
+	 *
+	 * @param first The first operands.
+	 * @param firstOffset The index of the first operand in {@code first}.
+	 * @param second The second operands.
+	 * @param secondOffset The index of the first operand in {@code second}.
+	 * @param destination Where to write the sums.
+	 * @param destinationOffset The index of the first sum to write.
+	 * @param length The number of sums.
+	 */
+	public static void add(long[] first, int firstOffset, long[] second, int secondOffset, long[] destination,
+			int destinationOffset, int length) {
+		checkOperands(first, firstOffset, second, secondOffset, destination, destinationOffset, length);
+		for (int i = 0; i < length; i++) {
+			destination[destinationOffset + i] = first[firstOffset + i] + second[secondOffset + i];
+		}
+	}
+
+	/**
+	 * <p>Subtracts {@code length} fixed point lengths of {@code second} from those of {@code first} and writes
+	 * the differences to {@code destination}, which may be one of the operands.
+	 *
+	 * @param first The lengths to subtract from.
+	 * @param firstOffset The index of the first length in {@code first}.
+	 * @param second The lengths to subtract.
+	 * @param secondOffset The index of the first length in {@code second}.
+	 * @param destination Where to write the differences.
+	 * @param destinationOffset The index of the first difference to write.
+	 * @param length The number of differences.
+	 */
+	public static void subtract(long[] first, int firstOffset, long[] second, int secondOffset, long[] destination,
+			int destinationOffset, int length) {
+		checkOperands(first, firstOffset, second, secondOffset, destination, destinationOffset, length);
+		for (int i = 0; i < length; i++) {
+			destination[destinationOffset + i] = first[firstOffset + i] - second[secondOffset + i];
+		}
+	}
+
+	/**
+	 * <p>Adds {@code delta} to {@code length} fixed point lengths of {@code lengths}, e.g. to move the edges of
+	 * laid out boxes.
+	 *
+	 * @param lengths The fixed point lengths to add to.
+	 * @param offset The index of the first length.
+	 * @param length The number of lengths.
+	 * @param delta The fixed point length to add.
+	 */
+	public static void add(long[] lengths, int offset, int length, long delta) {
+		Objects.requireNonNull(lengths);
+		Objects.checkFromIndexSize(offset, length, lengths.length);
+		for (int i = offset; i < offset + length; i++) {
+			lengths[i] += delta;
+		}
+	}
+
+	/**
+	 * @param lengths The fixed point lengths to sum.
+	 * @param offset The index of the first length.
+	 * @param length The number of lengths.
+	 *
+	 * @return The sum of {@code length} fixed point lengths of {@code lengths}.
+	 */
+	public static long sum(long[] lengths, int offset, int length) {
+		Objects.requireNonNull(lengths);
+		Objects.checkFromIndexSize(offset, length, lengths.length);
+		long sum = 0;
+		for (int i = offset; i < offset + length; i++) {
+			sum += lengths[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * @return The whole number of canonical units in one {@code unit}, or 0 if a pixel isn't one.
+	 */
+	private static long unitsPer(UnitEnum unit, int screenDpi) {
+		switch (unit) {
+		case PIXEL:
+			return UNITS_PER_INCH % screenDpi == 0 ? UNITS_PER_INCH / screenDpi : 0;
+		case METER:
+			return UNITS_PER_MILLIMETER * 1000;
+		case CENTIMETER:
+			return UNITS_PER_MILLIMETER * 10;
+		case MILLIMETER:
+			return UNITS_PER_MILLIMETER;
+		case POINT:
+			return UNITS_PER_POINT;
+		case INCH:
+			return UNITS_PER_INCH;
+		default:
+			throw new UnsupportedOperationException("There is no support for the unit " + unit);
+		}
+	}
+
+	private static double toPixels(long length, int screenDpi) {
+		// The product is exact, leaving a single rounding, unless it overflows
+		long limit = Long.MAX_VALUE / screenDpi;
+		if (length >= -limit && length <= limit) return (double) (length * screenDpi) / UNITS_PER_INCH;
+		return (double) length * screenDpi / UNITS_PER_INCH;
+	}
+
+	private static long toLength(double units, double value) {
+		if (!(Math.abs(units) < LONG_RANGE)) throw new IllegalArgumentException(
+				"The value " + value + " has no fixed point length.");
+		return Math.round(units);
+	}
+
+	private static void checkResolution(int screenDpi) {
+		if (screenDpi <= 0) throw new IllegalArgumentException(
+				"The screen resolution must be greater than zero. The given resolution was " + screenDpi);
+	}
+
+	private static void checkOperands(long[] first, int firstOffset, long[] second, int secondOffset,
+			long[] destination, int destinationOffset, int length) {
+		Objects.requireNonNull(first);
+		Objects.requireNonNull(second);
+		Objects.requireNonNull(destination);
+		Objects.checkFromIndexSize(firstOffset, length, first.length);
+		Objects.checkFromIndexSize(secondOffset, length, second.length);
+		Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.github.pedroter7.digitalunits;
+
+/**
+ * <p>The reasons why characters can't be read as a fully qualified quantity.
+ *
+ * @since 1.1
+ */
+public enum ParseFailure {
+
+	/**
+	 * <p>There are no characters, or only white spaces.
+	 */
+	EMPTY,
+
+	/**
+	 * <p>The characters don't start with a number in decimal notation.
+	 */
+	MALFORMED_NUMBER,
+
+	/**
+	 * <p>The number isn't followed by a unit symbol.
+	 */
+	MISSING_UNIT,
+
+	/**
+	 * <p>The unit symbol has no {@code UnitEnum} representation.
+	 */
+	UNSUPPORTED_UNIT,
+
+	/**
+	 * <p>The number is out of the {@code double} range.
+	 */
+	OUT_OF_RANGE,
+
+	/**
+	 * <p>Characters other than white spaces follow the unit symbol, where the whole input must be a single
+	 * quantity.
+	 */
+	TRAILING_CHARACTERS
+
+}
@@ -0,0 +1,217 @@
+package com.github.pedroter7.digitalunits;
+
+import java.util.Objects;
+
+import com.github.pedroter7.digitalunits.converter.ConversionTable;
+
+/**
+ * <p>Evaluates an expression on quantities, such as <i>a + b - c * 2</i>, in a single unit, converting every
+ * operand through a {@code ConversionTable}. The result is accumulated in a {@code double} and rounded only
+ * once, when {@link QuantityExpression#toDigitalQuantity()} or {@link QuantityExpression#getRoundedValue()} is
+ * called, so an expression of any length creates at most one object.
+ *
+ * <p>Operations are applied in the order they're called, on the result so far:
+ * <pre>
+ * DigitalQuantity width = new QuantityExpression(UnitEnum.PIXEL, table)
+ *         .plus(a).plus(b).minus(c, 2)
+ *         .toDigitalQuantity();
+ * </pre>
+ *
+ * <p>Objects of this class aren't thread safe, but a single object can be reused for any number of
+ * expressions through {@link QuantityExpression#reset()}.
+ *
+ * @since 1.1
+ */
+public final class QuantityExpression {
+
+	private final UnitEnum unit;
+	private final ConversionTable table;
+	private double value;
+
+	/**
+	 * <p>Creates an expression whose value is zero.
+	 *
+	 * @param unit The unit of the result.
+	 * @param table The table used to convert the operands to {@code unit}.
+	 */
+	public QuantityExpression(UnitEnum unit, ConversionTable table) {
+		this.unit = Objects.requireNonNull(unit);
+		this.table = Objects.requireNonNull(table);
+	}
+
+	/**
+	 * <p>Sets the value of this expression back to zero.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression reset() {
+		value = 0;
+		return this;
+	}
+
+	/**
+	 * @param quantity The quantity to be added.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression plus(DigitalQuantity quantity) {
+		value += convert(quantity);
+		return this;
+	}
+
+	/**
+	 * @param quantity The quantity to be multiplied by {@code factor} and added.
+	 * @param factor The factor {@code quantity} is multiplied by.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression plus(DigitalQuantity quantity, double factor) {
+		value += convert(quantity) * factor;
+		return this;
+	}
+
+	/**
+	 * @param unit The unit of the quantity to be added.
+	 * @param value The numerical value of the quantity to be added.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression plus(UnitEnum unit, double value) {
+		this.value += convert(unit, value);
+		return this;
+	}
+
+	/**
+	 * @param quantity The quantity to be subtracted.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression minus(DigitalQuantity quantity) {
+		value -= convert(quantity);
+		return this;
+	}
+
+	/**
+	 * @param quantity The quantity to be multiplied by {@code factor} and subtracted.
+	 * @param factor The factor {@code quantity} is multiplied by.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression minus(DigitalQuantity quantity, double factor) {
+		value -= convert(quantity) * factor;
+		return this;
+	}
+
+	/**
+	 * @param unit The unit of the quantity to be subtracted.
+	 * @param value The numerical value of the quantity to be subtracted.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression minus(UnitEnum unit, double value) {
+		this.value -= convert(unit, value);
+		return this;
+	}
+
+	/**
+	 * @param factor The factor the result so far is multiplied by.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression times(double factor) {
+		value *= factor;
+		return this;
+	}
+
+	/**
+	 * <p>A zero {@code divisor} causes an {@link ArithmeticException}.
+	 *
+	 * @param divisor The number the result so far is divided by.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression dividedBy(double divisor) {
+		if (divisor == 0) throw new ArithmeticException("A QuantityExpression can't be divided by zero.");
+		value /= divisor;
+		return this;
+	}
+
+	/**
+	 * <p>Replaces the result so far by {@code quantity} if it is smaller.
+	 *
+	 * @param quantity Another quantity.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression min(DigitalQuantity quantity) {
+		value = Math.min(value, convert(quantity));
+		return this;
+	}
+
+	/**
+	 * <p>Replaces the result so far by {@code quantity} if it is larger.
+	 *
+	 * @param quantity Another quantity.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression max(DigitalQuantity quantity) {
+		value = Math.max(value, convert(quantity));
+		return this;
+	}
+
+	/**
+	 * <p>Replaces the result so far by the nearest of {@code min} and {@code max} if it isn't between them.
+	 * If {@code min} is larger than {@code max}, an {@link IllegalArgumentException} is thrown.
+	 *
+	 * @param min The smallest result allowed.
+	 * @param max The largest result allowed.
+	 *
+	 * @return This expression.
+	 */
+	public QuantityExpression clamp(DigitalQuantity min, DigitalQuantity max) {
+		double minValue = convert(min);
+		double maxValue = convert(max);
+		if (minValue > maxValue) throw new IllegalArgumentException(
+				"The minimum " + min + " is larger than the maximum " + max);
+		value = Math.max(minValue, Math.min(maxValue, value));
+		return this;
+	}
+
+	/**
+	 * @return The unit of the result.
+	 */
+	public UnitEnum getUnit() {
+		return unit;
+	}
+
+	/**
+	 * @return The result so far, not rounded.
+	 */
+	public double getValue() {
+		return value;
+	}
+
+	/**
+	 * @return The result so far, rounded like the value of a {@code DigitalQuantity}.
+	 */
+	public double getRoundedValue() {
+		return DigitalQuantity.round(value);
+	}
+
+	/**
+	 * @return A quantity with the result so far.
+	 */
+	public DigitalQuantity toDigitalQuantity() {
+		return DigitalQuantity.valueOf(unit, value);
+	}
+
+	private double convert(DigitalQuantity quantity) {
+		return convert(quantity.getUnit(), quantity.getValue());
+	}
+
+	private double convert(UnitEnum unit, double value) {
+		return unit == this.unit ? value : value * table.getFactor(unit, this.unit);
+	}
+
+}
@@ -0,0 +1,234 @@
+package com.github.pedroter7.digitalunits;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.pedroter7.digitalunits.metrics.Metrics;
+
+/**
+ * <p>Formats quantities like {@link DigitalQuantity#getHumanRepresentation(boolean, int, Locale)}, with the template
+ * [numerical_value][unit_symbol], for a number of decimal places, a {@link Locale} and whether there's a space
+ * between the numerical value and the unit symbol, all given once when the formatter is created.
+ *
+ * <p>The output is identical to the one of {@code String.format} with the pattern {@code "%.nf"}: the value is
+ * rounded half up to {@code n} decimal places and written with the zero digit and the decimal separator of the
+ * locale, without grouping. Unlike {@code String.format}, no pattern is parsed and no {@code Formatter} is created
+ * on each call, and the text can be appended to a {@code StringBuilder} or any {@code Appendable} without an
+ * intermediate {@code String}.
+ *
+ * <p>Objects of this class are immutable and can be shared between threads.
+ *
+ * @since 1.1
+ */
+public final class QuantityFormatter {
+
+	private static final ConcurrentHashMap<Locale, char[]> SYMBOLS = new ConcurrentHashMap<>();
+	// Zero digit and decimal separator used without a locale, like String.format does
+	private static final char[] PLAIN_SYMBOLS = { '0', '.' };
+	private static final int MAX_SCALE = 18;
+	private static final double MAX_DIGITS = 0x1p53;
+	private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1;
+		for (int i = 1; i <= MAX_SCALE; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	private final boolean useSpace;
+	private final int decimalPlaces;
+	private final Locale locale;
+	private final char zeroDigit;
+	private final char decimalSeparator;
+
+	/**
+	 * <p>Creates a formatter for the default locale, {@link Locale#getDefault()} at the time the formatter is created.
+	 *
+	 * @param useSpace Decides if there should be a space between the numerical value
+	 * and the unit symbol
+	 * @param decimalPlaces The number of decimal places to be used. Any value bellow
+	 * zero is considered to be zero.
+	 */
+	public QuantityFormatter(boolean useSpace, int decimalPlaces) {
+		this(useSpace, decimalPlaces, Locale.getDefault());
+	}
+
+	/**
+	 * @param useSpace Decides if there should be a space between the numerical value
+	 * and the unit symbol
+	 * @param decimalPlaces The number of decimal places to be used. Any value bellow
+	 * zero is considered to be zero.
+	 * @param locale A {@link Locale} for formatting, or {@code null} for no localization.
+	 */
+	public QuantityFormatter(boolean useSpace, int decimalPlaces, Locale locale) {
+		this.useSpace = useSpace;
+		this.decimalPlaces = decimalPlaces < 0 ? 0 : decimalPlaces;
+		this.locale = locale;
+		char[] symbols = locale == null ? PLAIN_SYMBOLS : SYMBOLS.computeIfAbsent(locale, QuantityFormatter::symbols);
+		this.zeroDigit = symbols[0];
+		this.decimalSeparator = symbols[1];
+	}
+
+	private static char[] symbols(Locale locale) {
+		DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+		// String.format doesn't localize the separator for Locale.US
+		return new char[] { symbols.getZeroDigit(), locale.equals(Locale.US) ? '.' : symbols.getDecimalSeparator() };
+	}
+
+	/**
+	 * @return Whether there's a space between the numerical value and the unit symbol.
+	 */
+	public boolean isUseSpace() {
+		return useSpace;
+	}
+
+	/**
+	 * @return The number of decimal places.
+	 */
+	public int getDecimalPlaces() {
+		return decimalPlaces;
+	}
+
+	/**
+	 * @return The locale used for formatting, {@code null} if there's no localization.
+	 */
+	public Locale getLocale() {
+		return locale;
+	}
+
+	/**
+	 * @param digitalQuantity The quantity to be formatted.
+	 *
+	 * @return The quantity formatted.
+	 */
+	public String format(DigitalQuantity digitalQuantity) {
+		return appendTo(new StringBuilder(24), digitalQuantity).toString();
+	}
+
+	/**
+	 * @param builder The builder the quantity is appended to.
+	 * @param digitalQuantity The quantity to be formatted.
+	 *
+	 * @return {@code builder}.
+	 */
+	public StringBuilder appendTo(StringBuilder builder, DigitalQuantity digitalQuantity) {
+		return appendTo(builder, digitalQuantity.getUnit(), digitalQuantity.getValue());
+	}
+
+	/**
+	 * @param builder The builder the quantity is appended to.
+	 * @param unit The unit of the quantity.
+	 * @param value The numerical value of the quantity.
+	 *
+	 * @return {@code builder}.
+	 */
+	public StringBuilder appendTo(StringBuilder builder, UnitEnum unit, double value) {
+		try {
+			appendTo((Appendable) builder, unit, value);
+		} catch (IOException e) {
+			// A StringBuilder never throws
+			throw new UncheckedIOException(e);
+		}
+		return builder;
+	}
+
+	/**
+	 * @param appendable The {@code Appendable} the quantity is appended to.
+	 * @param digitalQuantity The quantity to be formatted.
+	 *
+	 * @throws IOException If {@code appendable} throws it.
+	 */
+	public void appendTo(Appendable appendable, DigitalQuantity digitalQuantity) throws IOException {
+		appendTo(appendable, digitalQuantity.getUnit(), digitalQuantity.getValue());
+	}
+
+	/**
+	 * @param appendable The {@code Appendable} the quantity is appended to.
+	 * @param unit The unit of the quantity.
+	 * @param value The numerical value of the quantity.
+	 *
+	 * @throws IOException If {@code appendable} throws it.
+	 */
+	public void appendTo(Appendable appendable, UnitEnum unit, double value) throws IOException {
+		Objects.requireNonNull(unit);
+		long start = Metrics.isEnabled() ? System.nanoTime() : 0;
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			// String.format writes them without localization
+			appendable.append(Double.isNaN(value) ? "NaN" : value > 0 ? "Infinity" : "-Infinity");
+		} else {
+			// The sign is kept for negative values rounded to zero and for the negative zero
+			if (Double.compare(value, 0.0) < 0) appendable.append('-');
+			appendMagnitude(appendable, Math.abs(value));
+		}
+		if (useSpace) appendable.append(' ');
+		appendable.append(unit.getSymbol());
+		if (Metrics.isEnabled()) Metrics.recordFormat(start);
+	}
+
+	private void appendMagnitude(Appendable appendable, double magnitude) throws IOException {
+		// Finds the shortest decimal that gives back the value, the digits String.format starts from
+		if (magnitude < MAX_DIGITS) {
+			for (int scale = 0; scale <= MAX_SCALE; scale++) {
+				double scaled = magnitude * POWERS_OF_TEN[scale];
+				if (scaled >= MAX_DIGITS) break;
+				double digits = Math.rint(scaled);
+				if (digits / POWERS_OF_TEN[scale] == magnitude) {
+					appendDecimal(appendable, (long) digits, scale);
+					return;
+				}
+			}
+		}
+		// Values with more than 2^53 digits or 18 decimal places are rare enough to use BigDecimal
+		String plain = new BigDecimal(Double.toString(magnitude)).setScale(decimalPlaces, RoundingMode.HALF_UP)
+				.toPlainString();
+		for (int i = 0; i < plain.length(); i++) {
+			char c = plain.charAt(i);
+			appendable.append(c == '.' ? decimalSeparator : (char) (c - '0' + zeroDigit));
+		}
+	}
+
+	/**
+	 * <p>Appends {@code digits / 10^scale} rounded half up to the decimal places of this formatter.
+	 */
+	private void appendDecimal(Appendable appendable, long digits, int scale) throws IOException {
+		int fractionDigits = Math.min(scale, decimalPlaces);
+		if (scale > decimalPlaces) {
+			long divisor = POWERS_OF_TEN[scale - decimalPlaces];
+			long remainder = digits % divisor;
+			digits /= divisor;
+			if (remainder >= divisor - remainder) digits++;
+		}
+		long power = POWERS_OF_TEN[fractionDigits];
+		appendDigits(appendable, digits / power, 1);
+		if (decimalPlaces == 0) return;
+		appendable.append(decimalSeparator);
+		if (fractionDigits > 0) appendDigits(appendable, digits % power, fractionDigits);
+		for (int i = fractionDigits; i < decimalPlaces; i++) {
+			appendable.append(zeroDigit);
+		}
+	}
+
+	/**
+	 * <p>Appends the digits of {@code number}, padded with zeros to at least {@code width} digits.
+	 */
+	private void appendDigits(Appendable appendable, long number, int width) throws IOException {
+		int length = 1;
+		while (length <= MAX_SCALE && number >= POWERS_OF_TEN[length]) {
+			length++;
+		}
+		for (int i = length; i < width; i++) {
+			appendable.append(zeroDigit);
+		}
+		for (int i = length - 1; i >= 0; i--) {
+			appendable.append((char) (number / POWERS_OF_TEN[i] % 10 + zeroDigit));
+		}
+	}
+
+}
@@ -1,5 +1,7 @@
 package com.github.pedroter7.digitalunits;
 
+import java.util.Objects;
+
 /**
  * <p>Represents measuring units. Each {@code UnitEnum} has a symbol {@code String} related to it.
  * 
@@ -25,20 +27,104 @@ public enum UnitEnum {
 		return symbol;
 	}
 	
+	// Symbols have one or two ASCII letters, 0 stands for the missing first letter of one letter symbols
+	private static final int LETTERS = 27;
+	private static final UnitEnum[] BY_SYMBOL = new UnitEnum[LETTERS * LETTERS];
+	
+	static {
+		for (UnitEnum u : values()) {
+			int index = u.symbol.length() == 1
+					? symbolIndex(u.symbol.charAt(0))
+					: symbolIndex(u.symbol.charAt(0), u.symbol.charAt(1));
+			BY_SYMBOL[index] = u;
+		}
+	}
+	
+	private static int letterIndex(char c) {
+		int lowerCase = c | 0x20;
+		return lowerCase >= 'a' && lowerCase <= 'z' ? lowerCase - 'a' + 1 : -1;
+	}
+	
+	private static int symbolIndex(char symbol) {
+		return letterIndex(symbol);
+	}
+	
+	private static int symbolIndex(char first, char second) {
+		int firstIndex = letterIndex(first);
+		int secondIndex = letterIndex(second);
+		return firstIndex < 0 || secondIndex < 0 ? -1 : firstIndex * LETTERS + secondIndex;
+	}
+	
 	/**
 	 * <p>Get the {@code UnitEnum} that represents the unit with the given symbol. If there's no such {@code UnitEnum}
-	 * then {@code null} is returned.
+	 * then {@code null} is returned. The symbol must be in lower case, as returned by {@link UnitEnum#getSymbol()};
+	 * the other overloads ignore case.
 	 * 
 	 * @param symbol A {@code String} representing the unit symbol.
 	 * 
 	 * @return The {@code UnitEnum} that represents the given unit or null if there is no such representation.
 	 */
 	public static UnitEnum getUnit(String symbol) {
-		for (UnitEnum u : values()) {
-			if (u.symbol.equals(symbol)) return u;
+		if (symbol == null) return null;
+		UnitEnum unit = getUnit(symbol, 0, symbol.length());
+		return unit != null && unit.symbol.equals(symbol) ? unit : null;
+	}
+	
+	/**
+	 * <p>Get the {@code UnitEnum} that represents the unit with the symbol in the range from {@code start}
+	 * to {@code end} of {@code text}, regardless of case. If there's no such {@code UnitEnum} then {@code null}
+	 * is returned.
+	 * 
+	 * @param text The characters holding the unit symbol.
+	 * @param start The index of the first character of the symbol.
+	 * @param end The index after the last character of the symbol.
+	 * 
+	 * @return The {@code UnitEnum} that represents the given unit or null if there is no such representation.
+	 * 
+	 * @since 1.1
+	 */
+	public static UnitEnum getUnit(CharSequence text, int start, int end) {
+		Objects.requireNonNull(text);
+		Objects.checkFromToIndex(start, end, text.length());
+		switch (end - start) {
+		case 1:
+			return getUnit(text.charAt(start));
+		case 2:
+			return getUnit(text.charAt(start), text.charAt(start + 1));
+		default:
+			return null;
 		}
-		
-		return null;
+	}
+	
+	/**
+	 * <p>Get the {@code UnitEnum} that represents the unit with the given one letter symbol, regardless of case.
+	 * If there's no such {@code UnitEnum} then {@code null} is returned.
+	 * 
+	 * @param symbol The unit symbol.
+	 * 
+	 * @return The {@code UnitEnum} that represents the given unit or null if there is no such representation.
+	 * 
+	 * @since 1.1
+	 */
+	public static UnitEnum getUnit(char symbol) {
+		int index = symbolIndex(symbol);
+		return index < 0 ? null : BY_SYMBOL[index];
+	}
+	
+	/**
+	 * <p>Get the {@code UnitEnum} that represents the unit with the given two letter symbol, regardless of case.
+	 * If there's no such {@code UnitEnum} then {@code null} is returned.
+	 * 
+	 * @param first The first letter of the unit symbol.
+	 * @param second The second letter of the unit symbol.
+	 * 
+	 * @return The {@code UnitEnum} that represents the given unit or null if there is no such representation.
+	 * 
+	 * @since 1.1
+	 */
+	public static UnitEnum getUnit(char first, char second) {
+		int index = symbolIndex(first, second);
+		return index < 0 ? null : BY_SYMBOL[index];
 	}
 
 }
@@ -13,6 +13,14 @@ import com.github.pedroter7.digitalunits.UnitEnum;
  * method using the {@link java.awt.Toolkit#getDefaultToolkit()} method to
  * obtain a {@code Toolkit} reference.
  * 
+ * <p>The {@code java.desktop} module is an optional dependency of this library, so it must be
+ * present at runtime to use this factory. On headless systems, or to avoid loading AWT,
+ * {@link DpiConverterFactory} can be used instead.
+ * 
+ * <p>The {@code UnitConverter} s are taken from the {@link ConverterRegistry#getDefault() default registry},
+ * so a single converter per goal unit and screen DPI is ever created, no matter how many times
+ * this factory is created or asked for converters.
+ * 
  * @author Pedro T Freidinger (pedrotersetti3@gmail.com)
  * @since 1.0
  */
@@ -26,38 +34,14 @@ public final class AwtConverterFactory implements ScreenResolutionBasedUnitConve
 	 * may throw whatever those methods throw.
 	 */
 	public AwtConverterFactory() {
-		this.screenDpi = Toolkit.getDefaultToolkit().getScreenResolution();;
+		this.screenDpi = Toolkit.getDefaultToolkit().getScreenResolution();
 	}
 	
 
 	@Override
 	public UnitConverter factory(UnitEnum goalUnit) {
 		Objects.requireNonNull(goalUnit);
-		
-		switch (goalUnit) {
-		case PIXEL:
-			return new PixelUnitConverter(this.screenDpi);
-			
-		case CENTIMETER:
-			return new CentimeterUnitConverter(screenDpi);
-			
-		case MILLIMETER:
-			return new MillimiterUnitConverter(screenDpi);
-			
-		case METER:
-			return new MeterUnitConverter(screenDpi);
-			
-		case POINT:
-			return new PointUnitConverter(screenDpi);
-			
-		case INCH:
-			return new InchUnitConverter(screenDpi);
-
-		default:
-			throw new UnsupportedOperationException(
-					"The factory " + getClass().getName() + " can not factory a "
-					+ UnitConverter.class.getName() + " for the goal unit " + goalUnit.getSymbol());
-		}
+		return ConverterRegistry.getDefault().getConverter(goalUnit, screenDpi);
 	}
 
 
@@ -0,0 +1,215 @@
+package com.github.pedroter7.digitalunits.converter;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>An {@code UnitConverter} that remembers the most recent conversions of another converter, for
+ * workloads that convert the same few values, such as font sizes or grid spacings, over and over.
+ *
+ * <p>Results are kept in a table of fixed size, keyed by the bits of the value to be converted and the
+ * ordinal of its unit, so looking a result up neither boxes nor allocates. A key can only be kept in one of
+ * the eight slots that follow its hash. When they're all taken, the slots are swept like a clock: a result
+ * that was used since the last sweep gets a second chance, and the first one that wasn't is replaced.
+ * Lookups and updates take no lock, so a single object can be shared by any number of threads, as long
+ * as the wrapped converter can be shared as well.
+ *
+ * <p>The results are the same as the ones of the wrapped converter, which is only called on a miss. Since
+ * keeping and looking results up has a cost, a converter can be created to record statistics, and then
+ * {@link CachingUnitConverter#getHitCount()} and {@link CachingUnitConverter#getMissCount()} tell whether
+ * caching pays for itself. Counting takes about as long as a cache hit, so statistics should only be
+ * recorded while they're looked at. Bulk conversions count once per call, at almost no cost.
+ *
+ * @since 1.1
+ */
+public final class CachingUnitConverter implements UnitConverter {
+
+	private static final int PROBES = 8;
+
+	private final UnitConverter converter;
+	private final AtomicReferenceArray<Entry> entries;
+	// Set when an entry is used and cleared by the clock, races only affect which entry is evicted
+	private final byte[] referenced;
+	private final int mask;
+	private final boolean recordStatistics;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * <p>A remembered conversion. Objects of this class are immutable.
+	 */
+	private static final class Entry {
+
+		private final long valueBits;
+		private final int fromOrdinal;
+		private final double result;
+
+		private Entry(long valueBits, int fromOrdinal, double result) {
+			this.valueBits = valueBits;
+			this.fromOrdinal = fromOrdinal;
+			this.result = result;
+		}
+
+	}
+
+	/**
+	 * <p>Wraps {@code converter} with a cache of at least {@code capacity} results, rounded up to a power of
+	 * two of at least eight, that doesn't record statistics.
+	 *
+	 * @param converter The converter whose results are cached.
+	 * @param capacity The number of results to be cached, must be positive and at most 2<sup>30</sup>.
+	 */
+	public CachingUnitConverter(UnitConverter converter, int capacity) {
+		this(converter, capacity, false);
+	}
+
+	/**
+	 * <p>Wraps {@code converter} with a cache of at least {@code capacity} results, rounded up to a power of
+	 * two of at least eight.
+	 *
+	 * @param converter The converter whose results are cached.
+	 * @param capacity The number of results to be cached, must be positive and at most 2<sup>30</sup>.
+	 * @param recordStatistics Whether hits and misses are counted.
+	 */
+	public CachingUnitConverter(UnitConverter converter, int capacity, boolean recordStatistics) {
+		Objects.requireNonNull(converter);
+		if (capacity <= 0 || capacity > 1 << 30) throw new IllegalArgumentException(
+				"The capacity must be positive and at most 2^30. The given capacity was " + capacity);
+		int size = Math.max(Integer.highestOneBit(capacity - 1) << 1, PROBES);
+		this.converter = converter;
+		this.entries = new AtomicReferenceArray<>(size);
+		this.referenced = new byte[size];
+		this.mask = size - 1;
+		this.recordStatistics = recordStatistics;
+	}
+
+	@Override
+	public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+		if (digitalQuantity == null) return null;
+		return DigitalQuantity.valueOf(getGoalUnit(), convertFrom(digitalQuantity.getUnit(), digitalQuantity.getValue()));
+	}
+
+	@Override
+	public double convertFrom(UnitEnum fromUnit, double value) {
+		int fromOrdinal = fromUnit.ordinal();
+		long valueBits = Double.doubleToRawLongBits(value);
+		int first = hash(valueBits, fromOrdinal);
+		Entry entry = find(first, valueBits, fromOrdinal);
+		if (entry != null) {
+			if (recordStatistics) hits.increment();
+			return entry.result;
+		}
+		if (recordStatistics) misses.increment();
+		return compute(first, fromUnit, value, valueBits);
+	}
+
+	@Override
+	public void convertFrom(UnitEnum fromUnit, double[] source, int sourceOffset,
+			double[] destination, int destinationOffset, int length) {
+		Objects.requireNonNull(fromUnit);
+		Objects.checkFromIndexSize(sourceOffset, length, source.length);
+		Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+		int fromOrdinal = fromUnit.ordinal();
+		long hitCount = 0;
+		for (int i = 0; i < length; i++) {
+			double value = source[sourceOffset + i];
+			long valueBits = Double.doubleToRawLongBits(value);
+			int first = hash(valueBits, fromOrdinal);
+			Entry entry = find(first, valueBits, fromOrdinal);
+			if (entry != null) {
+				hitCount++;
+				destination[destinationOffset + i] = entry.result;
+			} else {
+				destination[destinationOffset + i] = compute(first, fromUnit, value, valueBits);
+			}
+		}
+		if (recordStatistics) {
+			hits.add(hitCount);
+			misses.add(length - hitCount);
+		}
+	}
+
+	@Override
+	public UnitEnum getGoalUnit() {
+		return converter.getGoalUnit();
+	}
+
+	/**
+	 * @return The number of conversions whose result was found in the cache, always zero if statistics
+	 * aren't recorded.
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return The number of conversions whose result wasn't in the cache and was computed by the
+	 * wrapped converter, always zero if statistics aren't recorded.
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return The number of results that can be cached at once.
+	 */
+	public int getCapacity() {
+		return entries.length();
+	}
+
+	private Entry find(int first, long valueBits, int fromOrdinal) {
+		for (int i = 0; i < PROBES; i++) {
+			int slot = (first + i) & mask;
+			Entry entry = entries.get(slot);
+			// Entries are never removed, only replaced, so the key can't be further
+			if (entry == null) return null;
+			if (entry.valueBits == valueBits && entry.fromOrdinal == fromOrdinal) {
+				// Writing only when needed keeps hot entries from bouncing between caches
+				if (referenced[slot] == 0) referenced[slot] = 1;
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	private double compute(int first, UnitEnum fromUnit, double value, long valueBits) {
+		double result = converter.convertFrom(fromUnit, value);
+		store(first, new Entry(valueBits, fromUnit.ordinal(), result));
+		return result;
+	}
+
+	private void store(int first, Entry entry) {
+		for (int i = 0; i < PROBES; i++) {
+			int slot = (first + i) & mask;
+			if (entries.get(slot) == null && entries.compareAndSet(slot, null, entry)) {
+				referenced[slot] = 0;
+				return;
+			}
+		}
+		// Every slot is taken, sweep them giving a second chance to the used ones
+		int victim = first & mask;
+		for (int i = 0; i < PROBES; i++) {
+			int slot = (first + i) & mask;
+			if (referenced[slot] == 0) {
+				victim = slot;
+				break;
+			}
+			referenced[slot] = 0;
+		}
+		entries.set(victim, entry);
+		referenced[victim] = 0;
+	}
+
+	private int hash(long valueBits, int fromOrdinal) {
+		// The finalizer of MurmurHash3, values usually have long runs of zeros in the low bits
+		long hash = valueBits ^ ((long) fromOrdinal << 32 | fromOrdinal);
+		hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+		hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		return (int) (hash ^ (hash >>> 33));
+	}
+
+}
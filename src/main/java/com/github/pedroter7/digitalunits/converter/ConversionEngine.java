@@ -0,0 +1,203 @@
+package com.github.pedroter7.digitalunits.converter;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Converts quantities for any number of screen resolutions (DPI), which are given with each conversion
+ * instead of being fixed when a converter is created. Resolutions are {@code double} s, so fractional
+ * scalings such as 1.25x or 1.5x of a 96 DPI screen are converted exactly like integer ones.
+ *
+ * <p>The {@code ConversionTable} and the converters for a resolution are created the first time the resolution
+ * is used and kept in a cache of bounded size, so an application can serve thousands of devices without
+ * rebuilding them for each conversion and without its memory growing with the number of devices. The cache
+ * is set associative: a resolution can only be kept in one of four places, chosen by its hash, and when they're
+ * all taken a random one of them is evicted. Looking up a cached resolution takes no lock and doesn't allocate,
+ * so an engine can be shared by any number of threads.
+ *
+ * <p>The results are the same as the ones of a {@code ConversionTable} created for the same resolution,
+ * rounded like the value of a {@code DigitalQuantity}.
+ *
+ * @since 1.1
+ */
+public final class ConversionEngine {
+
+	/**
+	 * <p>The number of resolutions cached by the {@link ConversionEngine#getDefault() default engine}.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+	private static final int WAYS = 4;
+	private static final ConversionEngine DEFAULT = new ConversionEngine();
+	private static final UnitEnum[] UNITS = UnitEnum.values();
+
+	private final AtomicReferenceArray<Entry> entries;
+	private final int bucketMask;
+
+	/**
+	 * <p>Holds the conversion table and every converter for a screen resolution. Objects of this
+	 * class are immutable once created.
+	 */
+	private static final class Entry {
+
+		private final long screenDpiBits;
+		private final ConversionTable conversionTable;
+		private final UnitConverter[] converters = new UnitConverter[UNITS.length];
+
+		private Entry(double screenDpi) {
+			this.screenDpiBits = Double.doubleToLongBits(screenDpi);
+			this.conversionTable = ConversionTable.forScreenResolution(screenDpi);
+			for (UnitEnum goalUnit : UNITS) {
+				converters[goalUnit.ordinal()] = new TableUnitConverter(goalUnit, conversionTable);
+			}
+		}
+
+	}
+
+	/**
+	 * <p>Creates an engine that caches {@link ConversionEngine#DEFAULT_MAXIMUM_SIZE} resolutions.
+	 */
+	public ConversionEngine() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * <p>Creates an engine that caches at least {@code maximumSize} resolutions, rounded up to a power of two
+	 * of at least four.
+	 *
+	 * @param maximumSize The number of resolutions to be cached, must be positive and at most 2<sup>30</sup>.
+	 */
+	public ConversionEngine(int maximumSize) {
+		if (maximumSize <= 0 || maximumSize > 1 << 30) throw new IllegalArgumentException(
+				"The maximum size must be positive and at most 2^30. The given size was " + maximumSize);
+		int capacity = Math.max(Integer.highestOneBit(maximumSize - 1) << 1, WAYS);
+		this.entries = new AtomicReferenceArray<>(capacity);
+		this.bucketMask = capacity / WAYS - 1;
+	}
+
+	/**
+	 * @return The engine shared by the whole application.
+	 */
+	public static ConversionEngine getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @return The number of resolutions that can be cached at once.
+	 */
+	public int getMaximumSize() {
+		return entries.length();
+	}
+
+	/**
+	 * <p>Get the conversion table for the given screen resolution.
+	 *
+	 * @param screenDpi The screen resolution in DPIs, must be finite and greater than zero.
+	 *
+	 * @return The conversion table for {@code screenDpi}.
+	 */
+	public ConversionTable getConversionTable(double screenDpi) {
+		return entry(screenDpi).conversionTable;
+	}
+
+	/**
+	 * <p>Get the converter to {@code goalUnit} for the given screen resolution. The same object is returned
+	 * for the same parameters for as long as the resolution stays in the cache.
+	 *
+	 * @param goalUnit The goal unit of the converter. A {@code null} value causes a {@link NullPointerException}.
+	 * @param screenDpi The screen resolution in DPIs, must be finite and greater than zero.
+	 *
+	 * @return A converter to {@code goalUnit}.
+	 */
+	public UnitConverter getConverter(UnitEnum goalUnit, double screenDpi) {
+		Objects.requireNonNull(goalUnit);
+		return entry(screenDpi).converters[goalUnit.ordinal()];
+	}
+
+	/**
+	 * <p>Converts a numerical value from one unit to another for the given screen resolution.
+	 *
+	 * @param value The numerical value in units of {@code from}.
+	 * @param from The origin unit.
+	 * @param to The goal unit.
+	 * @param screenDpi The screen resolution in DPIs, must be finite and greater than zero.
+	 *
+	 * @return The equivalent numerical value in units of {@code to}, rounded like the value of a
+	 * {@code DigitalQuantity}.
+	 */
+	public double convert(double value, UnitEnum from, UnitEnum to, double screenDpi) {
+		return getConverter(to, screenDpi).convertFrom(Objects.requireNonNull(from), value);
+	}
+
+	/**
+	 * <p>Converts a quantity to another unit for the given screen resolution.
+	 *
+	 * @param digitalQuantity The quantity to be converted.
+	 * @param to The goal unit.
+	 * @param screenDpi The screen resolution in DPIs, must be finite and greater than zero.
+	 *
+	 * @return The equivalent quantity in units of {@code to}.
+	 */
+	public DigitalQuantity convert(DigitalQuantity digitalQuantity, UnitEnum to, double screenDpi) {
+		Objects.requireNonNull(digitalQuantity);
+		return getConverter(to, screenDpi).convertFrom(digitalQuantity);
+	}
+
+	/**
+	 * <p>Converts {@code length} numerical values from one unit to another for the given screen resolution, with
+	 * the same results as {@link UnitConverter#convertFrom(UnitEnum, double[], int, double[], int, int)}.
+	 *
+	 * @param from The origin unit.
+	 * @param to The goal unit.
+	 * @param screenDpi The screen resolution in DPIs, must be finite and greater than zero.
+	 * @param source The array holding the values to be converted.
+	 * @param sourceOffset The index of the first value to be converted.
+	 * @param destination The array that receives the converted values.
+	 * @param destinationOffset The index where the first converted value is written.
+	 * @param length The number of values to be converted.
+	 */
+	public void convert(UnitEnum from, UnitEnum to, double screenDpi, double[] source, int sourceOffset,
+			double[] destination, int destinationOffset, int length) {
+		getConverter(to, screenDpi).convertFrom(Objects.requireNonNull(from), source, sourceOffset,
+				destination, destinationOffset, length);
+	}
+
+	int cachedCount() {
+		int count = 0;
+		for (int i = 0; i < entries.length(); i++) {
+			if (entries.get(i) != null) count++;
+		}
+		return count;
+	}
+
+	private Entry entry(double screenDpi) {
+		long bits = Double.doubleToLongBits(screenDpi);
+		int first = bucket(bits) * WAYS;
+		for (int i = first; i < first + WAYS; i++) {
+			Entry entry = entries.get(i);
+			if (entry != null && entry.screenDpiBits == bits) return entry;
+		}
+		// Validates the resolution before anything is cached
+		Entry entry = new Entry(screenDpi);
+		for (int i = first; i < first + WAYS; i++) {
+			if (entries.compareAndSet(i, null, entry)) return entry;
+			// Another thread may have just cached the same resolution
+			Entry current = entries.get(i);
+			if (current != null && current.screenDpiBits == bits) return current;
+		}
+		entries.set(first + ThreadLocalRandom.current().nextInt(WAYS), entry);
+		return entry;
+	}
+
+	private int bucket(long bits) {
+		// The finalizer of MurmurHash3, resolutions usually have long runs of zeros in the low bits
+		long hash = (bits ^ (bits >>> 33)) * 0xFF51AFD7ED558CCDL;
+		hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		return (int) (hash ^ (hash >>> 33)) & bucketMask;
+	}
+
+}
@@ -0,0 +1,190 @@
+package com.github.pedroter7.digitalunits.converter;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Objects;
+
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Holds the linear factors that convert numerical values between every pair of
+ * {@code UnitEnum} for a given screen resolution (DPI), which may be fractional, such as the
+ * 120 DPI of a 96 DPI screen scaled by 1.25.
+ * 
+ * <p>Every supported conversion is a single multiplication by a factor that only
+ * depends on the origin unit, the goal unit and the screen resolution. Each factor is
+ * derived directly from the exact definitions 1in = 2.54cm = 25.4mm = 0.0254m = 72pt = dpi px
+ * and correctly rounded, so conversions between any pair of units agree with each other. The factors
+ * are computed once, when the table is created, and stored in a flat {@code double}
+ * array indexed by the units ordinals, so converting a value costs one array lookup
+ * and one multiplication.
+ * 
+ * <p>Objects of this class are immutable and can be shared between threads.
+ * 
+ * @since 1.1
+ */
+public final class ConversionTable {
+	
+	private static final UnitEnum[] UNITS = UnitEnum.values();
+	
+	// Enough digits for the exact ratio of a fractional resolution to round correctly to a double
+	private static final MathContext FACTOR_CONTEXT = MathContext.DECIMAL128;
+	
+	private final double screenDpi;
+	private final double[] factors;
+	
+	private ConversionTable(double screenDpi) {
+		this.screenDpi = screenDpi;
+		this.factors = new double[UNITS.length * UNITS.length];
+		for (UnitEnum from : UNITS) {
+			for (UnitEnum to : UNITS) {
+				factors[index(from, to)] = computeFactor(from, to);
+			}
+		}
+	}
+	
+	/**
+	 * <p>Creates a {@code ConversionTable} for the given screen resolution.
+	 * 
+	 * @param screenDpi The screen resolution in DPIs, must be greater than zero.
+	 * 
+	 * @return A new {@code ConversionTable}.
+	 */
+	public static ConversionTable forScreenResolution(int screenDpi) {
+		if (screenDpi <= 0) throw new IllegalArgumentException(
+				"The screen resolution must be greater than zero. The given resolution was " + screenDpi);
+		return new ConversionTable(screenDpi);
+	}
+	
+	/**
+	 * <p>Creates a {@code ConversionTable} for the given screen resolution, which may be fractional.
+	 * 
+	 * @param screenDpi The screen resolution in DPIs, must be finite and greater than zero.
+	 * 
+	 * @return A new {@code ConversionTable}.
+	 */
+	public static ConversionTable forScreenResolution(double screenDpi) {
+		if (!(screenDpi > 0) || Double.isInfinite(screenDpi)) throw new IllegalArgumentException(
+				"The screen resolution must be finite and greater than zero. The given resolution was " + screenDpi);
+		return new ConversionTable(screenDpi);
+	}
+	
+	private static int index(UnitEnum from, UnitEnum to) {
+		return from.ordinal() * UNITS.length + to.ordinal();
+	}
+	
+	private double computeFactor(UnitEnum from, UnitEnum to) {
+		if (from == to) return 1;
+		// Fractional or very large resolutions don't give exact long products
+		if (screenDpi != (long) screenDpi || screenDpi > Integer.MAX_VALUE) {
+			BigDecimal numerator = unitsPerInch(to).multiply(BigDecimal.valueOf(unitsPerInchDenominator(from)));
+			BigDecimal denominator = unitsPerInch(from).multiply(BigDecimal.valueOf(unitsPerInchDenominator(to)));
+			return numerator.divide(denominator, FACTOR_CONTEXT).doubleValue();
+		}
+		// Both products are exact, so the factor is the exact ratio correctly rounded
+		return (double) (unitsPerInchNumerator(to) * unitsPerInchDenominator(from))
+				/ (double) (unitsPerInchNumerator(from) * unitsPerInchDenominator(to));
+	}
+	
+	/*
+	 * The number of units in an inch is the fraction numerator / denominator, after the exact
+	 * definitions 1in = 2.54cm = 25.4mm = 0.0254m = 72pt = dpi px.
+	 */
+	
+	private long unitsPerInchNumerator(UnitEnum unit) {
+		switch (unit) {
+		case PIXEL:
+			return (long) this.screenDpi;
+			
+		case METER:
+		case CENTIMETER:
+		case MILLIMETER:
+			return 254;
+			
+		case POINT:
+			return 72;
+			
+		case INCH:
+			return 1;
+			
+		default:
+			throw unsupportedConversion(unit);
+		}
+	}
+	
+	private BigDecimal unitsPerInch(UnitEnum unit) {
+		// The exact binary value of a fractional resolution
+		return unit == UnitEnum.PIXEL ? new BigDecimal(this.screenDpi) : BigDecimal.valueOf(unitsPerInchNumerator(unit));
+	}
+	
+	private long unitsPerInchDenominator(UnitEnum unit) {
+		switch (unit) {
+		case METER:
+			return 10_000;
+			
+		case CENTIMETER:
+			return 100;
+			
+		case MILLIMETER:
+			return 10;
+			
+		case PIXEL:
+		case POINT:
+		case INCH:
+			return 1;
+			
+		default:
+			throw unsupportedConversion(unit);
+		}
+	}
+	
+	private UnsupportedOperationException unsupportedConversion(UnitEnum unit) {
+		return new UnsupportedOperationException("The class " + getClass().getName()
+				+ " does not support conversion from or to " + unit.getSymbol());
+	}
+	
+	/**
+	 * @return The screen resolution in DPIs that this table was created for, rounded to the
+	 * nearest integer if it is fractional.
+	 */
+	public int getScreenResolution() {
+		return (int) Math.round(screenDpi);
+	}
+	
+	/**
+	 * @return The screen resolution in DPIs that this table was created for, as it was given.
+	 */
+	public double getFractionalScreenResolution() {
+		return screenDpi;
+	}
+	
+	/**
+	 * <p>Get the factor that a numerical value in units of {@code from} must be multiplied
+	 * by to obtain its equivalent in units of {@code to}.
+	 * 
+	 * @param from The origin unit, must not be {@code null}.
+	 * @param to The goal unit, must not be {@code null}.
+	 * 
+	 * @return The conversion factor.
+	 */
+	public double getFactor(UnitEnum from, UnitEnum to) {
+		Objects.requireNonNull(from);
+		Objects.requireNonNull(to);
+		return factors[index(from, to)];
+	}
+	
+	/**
+	 * <p>Converts a raw numerical value from one unit to another. The result is not rounded
+	 * to the {@code DigitalQuantity} precision.
+	 * 
+	 * @param value The numerical value in units of {@code from}.
+	 * @param from The origin unit, must not be {@code null}.
+	 * @param to The goal unit, must not be {@code null}.
+	 * 
+	 * @return The equivalent numerical value in units of {@code to}.
+	 */
+	public double convert(double value, UnitEnum from, UnitEnum to) {
+		return value * getFactor(from, to);
+	}
+
+}
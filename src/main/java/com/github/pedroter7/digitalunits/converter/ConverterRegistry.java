@@ -0,0 +1,147 @@
+package com.github.pedroter7.digitalunits.converter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Holds one {@code UnitConverter} per goal unit and screen resolution (DPI), so converters
+ * don't have to be created again every time they're needed.
+ *
+ * <p>The {@code ConversionTable} and the converters for a screen resolution are created lazily,
+ * the first time that resolution is asked for, and then the same objects are returned for as long
+ * as the registry lives. Screen resolutions up to {@link ConverterRegistry#MAX_INDEXED_RESOLUTION}
+ * are found by array indexing, others in a small fixed size hash table. In both cases looking up a
+ * converter that was already created takes no lock and doesn't allocate, so a registry can be shared
+ * by any number of threads.
+ *
+ * <p>Resolutions above {@code MAX_INDEXED_RESOLUTION} may come from user input or printers, so only the
+ * first {@link ConverterRegistry#MAX_OTHER_RESOLUTIONS} of them are kept, and nothing is ever evicted.
+ * Once that many are kept, the converters for any other such resolution are created on every call
+ * and aren't kept, which bounds the memory of the registry and the cost of its lookups.
+ *
+ * <p>{@link ConverterRegistry#getDefault()} returns the registry shared by the whole application,
+ * which {@link AwtConverterFactory} uses as well.
+ *
+ * @since 1.1
+ */
+public final class ConverterRegistry {
+
+	/**
+	 * <p>The largest screen resolution kept in the array indexed storage.
+	 */
+	public static final int MAX_INDEXED_RESOLUTION = 1200;
+
+	/**
+	 * <p>The largest number of screen resolutions above {@link ConverterRegistry#MAX_INDEXED_RESOLUTION}
+	 * kept by a registry.
+	 */
+	public static final int MAX_OTHER_RESOLUTIONS = 64;
+
+	private static final ConverterRegistry DEFAULT = new ConverterRegistry();
+	private static final UnitEnum[] UNITS = UnitEnum.values();
+	// Twice as many slots as entries, so probe sequences stay short
+	private static final int OTHER_SLOTS = MAX_OTHER_RESOLUTIONS * 2;
+
+	private final AtomicReferenceArray<Entry> indexedEntries = new AtomicReferenceArray<>(MAX_INDEXED_RESOLUTION + 1);
+	// Open addressing with linear probing, entries are never removed so a lookup stops at the first empty slot
+	private final AtomicReferenceArray<Entry> otherEntries = new AtomicReferenceArray<>(OTHER_SLOTS);
+	private final AtomicInteger otherEntryCount = new AtomicInteger();
+
+	/**
+	 * <p>Holds the conversion table and every converter for a screen resolution. Objects of this
+	 * class are immutable once created.
+	 */
+	private static final class Entry {
+
+		private final int screenDpi;
+		private final ConversionTable conversionTable;
+		private final UnitConverter[] converters = new UnitConverter[UNITS.length];
+
+		private Entry(int screenDpi) {
+			this.screenDpi = screenDpi;
+			this.conversionTable = ConversionTable.forScreenResolution(screenDpi);
+			for (UnitEnum goalUnit : UNITS) {
+				converters[goalUnit.ordinal()] = new TableUnitConverter(goalUnit, conversionTable);
+			}
+		}
+
+	}
+
+	/**
+	 * <p>Creates an empty registry. Unless converters must be kept apart from the rest of the
+	 * application, the {@link ConverterRegistry#getDefault() default registry} should be used instead.
+	 */
+	public ConverterRegistry() {
+	}
+
+	/**
+	 * @return The registry shared by the whole application.
+	 */
+	public static ConverterRegistry getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * <p>Get the converter to {@code goalUnit} for the given screen resolution. The same object
+	 * is returned every time for the same parameters, unless the resolution is one of those above
+	 * {@link ConverterRegistry#MAX_INDEXED_RESOLUTION} that aren't kept.
+	 *
+	 * @param goalUnit The goal unit of the converter. A {@code null} value causes a {@link NullPointerException}.
+	 * @param screenDpi The screen resolution in DPIs, must be greater than zero.
+	 *
+	 * @return A converter to {@code goalUnit}.
+	 */
+	public UnitConverter getConverter(UnitEnum goalUnit, int screenDpi) {
+		return entry(screenDpi).converters[goalUnit.ordinal()];
+	}
+
+	/**
+	 * <p>Get the conversion table for the given screen resolution, which is the one used by every
+	 * converter for that resolution.
+	 *
+	 * @param screenDpi The screen resolution in DPIs, must be greater than zero.
+	 *
+	 * @return The conversion table for {@code screenDpi}.
+	 */
+	public ConversionTable getConversionTable(int screenDpi) {
+		return entry(screenDpi).conversionTable;
+	}
+
+	private Entry entry(int screenDpi) {
+		if (screenDpi <= 0) throw new IllegalArgumentException(
+				"The screen resolution must be greater than zero. The given resolution was " + screenDpi);
+		if (screenDpi <= MAX_INDEXED_RESOLUTION) {
+			Entry entry = indexedEntries.get(screenDpi);
+			if (entry != null) return entry;
+			// Only one entry is ever published for a resolution, losers of the race are discarded
+			indexedEntries.compareAndSet(screenDpi, null, new Entry(screenDpi));
+			return indexedEntries.get(screenDpi);
+		}
+		return otherEntry(screenDpi);
+	}
+
+	private Entry otherEntry(int screenDpi) {
+		int slot = (screenDpi * 0x9E3779B9) >>> (Integer.SIZE - Integer.numberOfTrailingZeros(OTHER_SLOTS));
+		while (true) {
+			Entry entry = otherEntries.get(slot);
+			if (entry == null) return addOtherEntry(slot, screenDpi);
+			if (entry.screenDpi == screenDpi) return entry;
+			slot = (slot + 1) & (OTHER_SLOTS - 1);
+		}
+	}
+
+	private Entry addOtherEntry(int slot, int screenDpi) {
+		Entry entry = new Entry(screenDpi);
+		if (otherEntryCount.getAndIncrement() >= MAX_OTHER_RESOLUTIONS) {
+			otherEntryCount.decrementAndGet();
+			return entry;
+		}
+		// Another thread may have taken the slot meanwhile, for this resolution or another one
+		if (otherEntries.compareAndSet(slot, null, entry)) return entry;
+		otherEntryCount.decrementAndGet();
+		return otherEntry(screenDpi);
+	}
+
+}
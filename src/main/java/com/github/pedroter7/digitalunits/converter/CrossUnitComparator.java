@@ -0,0 +1,231 @@
+package com.github.pedroter7.digitalunits.converter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityArray;
+import com.github.pedroter7.digitalunits.FixedLength;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>A {@code Comparator} that orders quantities by the length they measure, whatever their units, for the
+ * screen resolution (DPI) of a {@code ConversionTable}. Unlike {@link DigitalQuantity#compareTo(DigitalQuantity)},
+ * quantities in different units can be compared, so lists with mixed units can be sorted as they are.
+ *
+ * <p>Each quantity is compared through its key, its length as a whole number of the canonical units of
+ * {@link FixedLength}, {@code 1 / }{@value FixedLength#UNITS_PER_INCH} of an inch, without creating a converted
+ * {@code DigitalQuantity}. Every inch, point, millimeter, centimeter and meter is a whole number of canonical units,
+ * as is a pixel at most resolutions, so the key is the value multiplied by an exact factor and rounded to the nearest
+ * unit, which absorbs the rounding error of the multiplication. Quantities that measure the same length, such as
+ * {@code 1in}, {@code 72pt}, {@code 25.4mm} and {@code 96px} at 96 DPI, are thus equivalent for this comparator
+ * even though they aren't equal, and so are quantities less than a canonical unit, about 0.4 nm, apart. Otherwise
+ * quantities with the same unit are in the same order as {@code compareTo} puts them.
+ *
+ * <p>The {@code sort} methods compute the key of each quantity once, as an order preserving {@code long} in a
+ * {@code long} array, and then sort the indexes of the quantities by their keys with a stable radix sort, in linear
+ * time. They are much faster than {@code List.sort(comparator)} for large collections and never box.
+ *
+ * <p>Objects of this class are immutable and can be shared between threads.
+ *
+ * @since 1.1
+ */
+public final class CrossUnitComparator implements Comparator<DigitalQuantity> {
+
+	private static final UnitEnum[] UNITS = UnitEnum.values();
+	private static final int DIGIT_BITS = 11;
+	private static final int DIGIT_MASK = (1 << DIGIT_BITS) - 1;
+
+	// Keys from this magnitude on are whole numbers already
+	private static final double WHOLE_KEYS = 0x1p52;
+
+	private final ConversionTable conversionTable;
+	private final double[] factors = new double[UNITS.length];
+
+	/**
+	 * @param conversionTable The conversion table for the screen resolution used to compare pixels
+	 * with other units.
+	 */
+	public CrossUnitComparator(ConversionTable conversionTable) {
+		this.conversionTable = Objects.requireNonNull(conversionTable);
+		for (UnitEnum unit : UNITS) {
+			factors[unit.ordinal()] = unitsPer(unit, conversionTable.getFractionalScreenResolution());
+		}
+	}
+
+	private static double unitsPer(UnitEnum unit, double screenDpi) {
+		switch (unit) {
+		case PIXEL:
+			// Exact whenever the resolution divides the units per inch
+			return FixedLength.UNITS_PER_INCH / screenDpi;
+		case METER:
+			return FixedLength.UNITS_PER_MILLIMETER * 1000;
+		case CENTIMETER:
+			return FixedLength.UNITS_PER_MILLIMETER * 10;
+		case MILLIMETER:
+			return FixedLength.UNITS_PER_MILLIMETER;
+		case POINT:
+			return FixedLength.UNITS_PER_POINT;
+		case INCH:
+			return FixedLength.UNITS_PER_INCH;
+		default:
+			throw new UnsupportedOperationException("There is no support for the unit " + unit);
+		}
+	}
+
+	/**
+	 * <p>Creates a comparator for the given screen resolution, with the conversion table of the
+	 * {@link ConversionEngine#getDefault() default engine}.
+	 *
+	 * @param screenDpi The screen resolution in DPIs, must be finite and greater than zero.
+	 *
+	 * @return A comparator for {@code screenDpi}.
+	 */
+	public static CrossUnitComparator forScreenResolution(double screenDpi) {
+		return new CrossUnitComparator(ConversionEngine.getDefault().getConversionTable(screenDpi));
+	}
+
+	/**
+	 * @return The conversion table of this comparator.
+	 */
+	public ConversionTable getConversionTable() {
+		return conversionTable;
+	}
+
+	/**
+	 * <p>Get the key that quantities are ordered by, that is, the length of the quantity in canonical units of
+	 * {@link FixedLength}, rounded to a whole number.
+	 *
+	 * @param unit The unit of the quantity.
+	 * @param value The numerical value of the quantity.
+	 *
+	 * @return The key of the quantity.
+	 */
+	public double key(UnitEnum unit, double value) {
+		double key = value * factors[unit.ordinal()];
+		// Rounding is monotonic, so it never inverts the order of two keys, and there's no negative zero
+		return Math.abs(key) < WHOLE_KEYS ? Math.rint(key) + 0.0 : key;
+	}
+
+	@Override
+	public int compare(DigitalQuantity first, DigitalQuantity second) {
+		return Double.compare(key(first.getUnit(), first.getValue()), key(second.getUnit(), second.getValue()));
+	}
+
+	/**
+	 * <p>Sorts {@code list} in ascending order of the length of its quantities. The sort is stable, so equivalent
+	 * quantities keep their order. The list must not contain {@code null} and must support {@code set}.
+	 *
+	 * @param list The list to be sorted.
+	 */
+	public void sort(List<DigitalQuantity> list) {
+		Object[] quantities = list.toArray();
+		long[] sortKeys = new long[quantities.length];
+		for (int i = 0; i < quantities.length; i++) {
+			DigitalQuantity quantity = (DigitalQuantity) quantities[i];
+			sortKeys[i] = sortKey(key(quantity.getUnit(), quantity.getValue()));
+		}
+		int[] indexes = sortIndexes(sortKeys, sortKeys.length);
+		ListIterator<DigitalQuantity> iterator = list.listIterator();
+		for (int index : indexes) {
+			iterator.next();
+			iterator.set((DigitalQuantity) quantities[index]);
+		}
+	}
+
+	/**
+	 * <p>Sorts the quantities of {@code array}, in place, in ascending order of their length. The sort is stable,
+	 * so equivalent quantities keep their order.
+	 *
+	 * @param array The array to be sorted.
+	 */
+	public void sort(DigitalQuantityArray array) {
+		int size = array.size();
+		double[] values = array.toValueArray();
+		UnitEnum[] units = new UnitEnum[size];
+		long[] sortKeys = new long[size];
+		for (int i = 0; i < size; i++) {
+			units[i] = array.getUnit(i);
+			sortKeys[i] = sortKey(key(units[i], values[i]));
+		}
+		int[] indexes = sortIndexes(sortKeys, size);
+		for (int i = 0; i < size; i++) {
+			array.set(i, units[indexes[i]], values[indexes[i]]);
+		}
+	}
+
+	/**
+	 * <p>Get the indexes of the quantities described by {@code units} and {@code values}, both read from their
+	 * first position up to {@code length}, in ascending order of the length of the quantities. Equivalent
+	 * quantities are in ascending order of their indexes.
+	 *
+	 * @param units The units of the quantities.
+	 * @param values The numerical values of the quantities.
+	 * @param length The number of quantities.
+	 *
+	 * @return The indexes of the quantities, sorted.
+	 */
+	public int[] sortedIndexes(UnitEnum[] units, double[] values, int length) {
+		Objects.checkFromIndexSize(0, length, units.length);
+		Objects.checkFromIndexSize(0, length, values.length);
+		long[] sortKeys = new long[length];
+		for (int i = 0; i < length; i++) {
+			sortKeys[i] = sortKey(key(units[i], values[i]));
+		}
+		return sortIndexes(sortKeys, length);
+	}
+
+	/**
+	 * <p>Maps a key to a {@code long} whose unsigned order is the numerical order of the keys.
+	 */
+	static long sortKey(double key) {
+		long bits = Double.doubleToLongBits(key);
+		// Flips every bit of negative keys and the sign bit of the others
+		return bits ^ (bits >> 63 | Long.MIN_VALUE);
+	}
+
+	/**
+	 * <p>Sorts the indexes of {@code sortKeys} with a least significant digit radix sort, which is stable and
+	 * takes linear time. The content of {@code sortKeys} is overwritten.
+	 */
+	static int[] sortIndexes(long[] sortKeys, int length) {
+		int[] indexes = new int[length];
+		if (length == 0) return indexes;
+		for (int i = 0; i < length; i++) {
+			indexes[i] = i;
+		}
+		long[] keyBuffer = new long[length];
+		int[] indexBuffer = new int[length];
+		int[] counts = new int[DIGIT_MASK + 1];
+		for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+			Arrays.fill(counts, 0);
+			for (int i = 0; i < length; i++) {
+				counts[(int) (sortKeys[i] >>> shift) & DIGIT_MASK]++;
+			}
+			// A pass over a digit that every key shares wouldn't change anything
+			if (counts[(int) (sortKeys[0] >>> shift) & DIGIT_MASK] == length) continue;
+			int position = 0;
+			for (int digit = 0; digit <= DIGIT_MASK; digit++) {
+				int count = counts[digit];
+				counts[digit] = position;
+				position += count;
+			}
+			for (int i = 0; i < length; i++) {
+				int target = counts[(int) (sortKeys[i] >>> shift) & DIGIT_MASK]++;
+				keyBuffer[target] = sortKeys[i];
+				indexBuffer[target] = indexes[i];
+			}
+			long[] swapKeys = sortKeys;
+			sortKeys = keyBuffer;
+			keyBuffer = swapKeys;
+			int[] swapIndexes = indexes;
+			indexes = indexBuffer;
+			indexBuffer = swapIndexes;
+		}
+		return indexes;
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.github.pedroter7.digitalunits.converter;
+
+import java.util.Objects;
+import java.util.function.IntSupplier;
+
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>A {@code UnitConverter} factory that gets the screen resolution (DPI) from the application,
+ * either as a fixed value or from an {@code IntSupplier}, instead of asking the windowing system.
+ * 
+ * <p>Unlike {@link AwtConverterFactory}, this factory doesn't need the {@code java.desktop} module
+ * nor a display, so it can be used on headless servers and in runtime images without AWT.
+ * 
+ * <p>A supplier is asked for the screen resolution every time a converter is factoried, so it can
+ * follow changes such as a window moving to another monitor. A value supplied that isn't greater than
+ * zero causes an {@link IllegalArgumentException} when a converter is factoried.
+ * 
+ * <p>The {@code UnitConverter} s are taken from the {@link ConverterRegistry#getDefault() default registry}.
+ * 
+ * @since 1.1
+ */
+public final class DpiConverterFactory implements ScreenResolutionBasedUnitConverterFactory {
+	
+	private final IntSupplier screenDpiSupplier;
+	
+	/**
+	 * @param screenDpi The screen resolution in DPIs, must be greater than zero.
+	 */
+	public DpiConverterFactory(int screenDpi) {
+		if (screenDpi <= 0) throw new IllegalArgumentException(
+				"The screen resolution must be greater than zero. The given resolution was " + screenDpi);
+		this.screenDpiSupplier = () -> screenDpi;
+	}
+	
+	/**
+	 * @param screenDpiSupplier The supplier of the screen resolution in DPIs.
+	 */
+	public DpiConverterFactory(IntSupplier screenDpiSupplier) {
+		this.screenDpiSupplier = Objects.requireNonNull(screenDpiSupplier);
+	}
+
+	@Override
+	public UnitConverter factory(UnitEnum goalUnit) {
+		Objects.requireNonNull(goalUnit);
+		return ConverterRegistry.getDefault().getConverter(goalUnit, getScreenResolution());
+	}
+
+	@Override
+	public int getScreenResolution() {
+		return screenDpiSupplier.getAsInt();
+	}
+
+}
@@ -0,0 +1,168 @@
+package com.github.pedroter7.digitalunits.converter;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityArray;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>An {@code UnitConverter} whose bulk conversions of very large arrays are split between the threads of
+ * a {@link ForkJoinPool}, for jobs that convert millions of values at once.
+ *
+ * <p>A bulk conversion of at least {@link ParallelUnitConverter#getThreshold()} values is split in halves until
+ * each part has at most {@link ParallelUnitConverter#getChunkSize()} values, small enough for the source and
+ * destination of a part to fit in the cache of a core, and each part is converted by the bulk conversion of
+ * the wrapped converter. Shorter conversions are made by the wrapped converter in the calling thread, as are
+ * the conversions of a single value. Every converted value is the same as the wrapped converter would produce,
+ * since bulk conversions convert each value independently.
+ *
+ * <p>A {@link DigitalQuantityArray} can be converted in parallel by passing this converter to
+ * {@link DigitalQuantityArray#convert(UnitConverter)}.
+ *
+ * <p>The wrapped converter is called from several threads at once, so it must be thread safe, as every converter
+ * of this library is. Objects of this class are immutable and can be shared between threads.
+ *
+ * @since 1.1
+ */
+public final class ParallelUnitConverter implements UnitConverter {
+
+	/**
+	 * <p>The default number of values from which bulk conversions are parallel.
+	 */
+	public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+	/**
+	 * <p>The default largest number of values converted by a single task, 128 KiB of source and destination.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 13;
+
+	private final UnitConverter converter;
+	private final ForkJoinPool pool;
+	private final int threshold;
+	private final int chunkSize;
+
+	/**
+	 * <p>Wraps {@code converter} to convert in the {@link ForkJoinPool#commonPool() common pool}, with the
+	 * default threshold and chunk size.
+	 *
+	 * @param converter The converter used for each part of the conversions.
+	 */
+	public ParallelUnitConverter(UnitConverter converter) {
+		this(converter, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param converter The converter used for each part of the conversions.
+	 * @param pool The pool the conversions are made in.
+	 * @param threshold The number of values from which bulk conversions are parallel, must be positive.
+	 * @param chunkSize The largest number of values converted by a single task, must be positive.
+	 */
+	public ParallelUnitConverter(UnitConverter converter, ForkJoinPool pool, int threshold, int chunkSize) {
+		this.converter = Objects.requireNonNull(converter);
+		this.pool = Objects.requireNonNull(pool);
+		if (threshold <= 0) throw new IllegalArgumentException(
+				"The threshold must be positive. The given threshold was " + threshold);
+		if (chunkSize <= 0) throw new IllegalArgumentException(
+				"The chunk size must be positive. The given chunk size was " + chunkSize);
+		this.threshold = threshold;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * <p>A part of a bulk conversion, split until it is at most a chunk long.
+	 */
+	private final class ConversionTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final UnitEnum fromUnit;
+		private final double[] source;
+		private final int sourceOffset;
+		private final double[] destination;
+		private final int destinationOffset;
+		private final int length;
+
+		private ConversionTask(UnitEnum fromUnit, double[] source, int sourceOffset,
+				double[] destination, int destinationOffset, int length) {
+			this.fromUnit = fromUnit;
+			this.source = source;
+			this.sourceOffset = sourceOffset;
+			this.destination = destination;
+			this.destinationOffset = destinationOffset;
+			this.length = length;
+		}
+
+		@Override
+		protected void compute() {
+			if (length <= chunkSize) {
+				converter.convertFrom(fromUnit, source, sourceOffset, destination, destinationOffset, length);
+				return;
+			}
+			int half = length >>> 1;
+			invokeAll(new ConversionTask(fromUnit, source, sourceOffset, destination, destinationOffset, half),
+					new ConversionTask(fromUnit, source, sourceOffset + half, destination, destinationOffset + half,
+							length - half));
+		}
+
+	}
+
+	@Override
+	public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+		return converter.convertFrom(digitalQuantity);
+	}
+
+	@Override
+	public double convertFrom(UnitEnum fromUnit, double value) {
+		return converter.convertFrom(fromUnit, value);
+	}
+
+	@Override
+	public void convertFrom(UnitEnum fromUnit, double[] source, int sourceOffset,
+			double[] destination, int destinationOffset, int length) {
+		Objects.requireNonNull(fromUnit);
+		Objects.checkFromIndexSize(sourceOffset, length, source.length);
+		Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+		if (length < threshold || length <= chunkSize) {
+			converter.convertFrom(fromUnit, source, sourceOffset, destination, destinationOffset, length);
+			return;
+		}
+		ConversionTask task = new ConversionTask(fromUnit, source, sourceOffset, destination, destinationOffset, length);
+		// A task of the same pool runs the conversion itself instead of waiting for another thread
+		if (ForkJoinTask.getPool() == pool) {
+			task.invoke();
+		} else {
+			pool.invoke(task);
+		}
+	}
+
+	@Override
+	public UnitEnum getGoalUnit() {
+		return converter.getGoalUnit();
+	}
+
+	/**
+	 * @return The pool the conversions are made in.
+	 */
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * @return The number of values from which bulk conversions are parallel.
+	 */
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * @return The largest number of values converted by a single task.
+	 */
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+}
@@ -0,0 +1,318 @@
+package com.github.pedroter7.digitalunits.converter;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityArray;
+
+/**
+ * <p>A {@link Flow.Processor} that parses fully qualified quantities, such as <i>"15 cm"</i>, with
+ * {@link DigitalQuantity#valueOf(String)} and publishes them converted to the goal unit of an {@code UnitConverter},
+ * for asynchronous streams of quantities.
+ *
+ * <p>Parsed quantities are grouped in batches, which are converted by a single bulk conversion and then published
+ * in the order they were received. A batch is flushed when it has {@link QuantityConversionProcessor#getBatchSize()}
+ * quantities, when the flush interval has passed since its first quantity was received, and when the upstream
+ * publisher completes or fails.
+ *
+ * <p>Demand is handled in batches too: a batch worth of quantities is requested from the upstream publisher when
+ * this processor subscribes, and as many quantities as a batch had are requested after it is published, so slow
+ * subscribers hold the upstream publisher back. Converted batches are published in order by one thread at a time,
+ * never while holding the lock that guards the batch being filled. The upstream publisher's threads publish through
+ * {@link SubmissionPublisher#submit(Object)}, which blocks while a subscriber's buffer is full. Batches flushed on
+ * time are published from the executor, which subscribers are delivered with too, so that thread never blocks:
+ * when a subscriber's buffer is full, it leaves the rest of the batch to the next call from upstream or to another
+ * try after the flush interval.
+ *
+ * <p>A quantity that can't be parsed or converted cancels the upstream subscription and the exception is sent to
+ * the subscribers through {@link SubmissionPublisher#closeExceptionally(Throwable)}. The quantities received
+ * before it are published first, but, as with any {@code SubmissionPublisher}, subscribers may get the exception
+ * before the ones still in their buffers.
+ *
+ * @since 1.1
+ */
+public final class QuantityConversionProcessor extends SubmissionPublisher<DigitalQuantity>
+		implements Flow.Processor<String, DigitalQuantity> {
+
+	/**
+	 * <p>The default number of quantities of a batch.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 256;
+
+	/**
+	 * <p>The default longest time a quantity waits for its batch to be flushed.
+	 */
+	public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofMillis(10);
+
+	// Queued after the last batch when the upstream publisher completes
+	private static final Object COMPLETE = new Object();
+
+	private final UnitConverter converter;
+	private final int batchSize;
+	private final Duration flushInterval;
+	private final Executor flushExecutor;
+	// Guards the batch, which the upstream publisher and the flush timer both reach. Never held while publishing.
+	private final ReentrantLock lock = new ReentrantLock();
+	private final DigitalQuantityArray batch;
+	private volatile Flow.Subscription subscription;
+	// Counts the flushed batches, so a timer only flushes the batch it was started for
+	private long flushCount;
+	private volatile boolean done;
+	// Converted batches, as DigitalQuantity arrays, and then the terminal signal, in the order they're published
+	private final ConcurrentLinkedQueue<Object> ready = new ConcurrentLinkedQueue<>();
+	// Counts the calls to drain, the thread that takes it from zero publishes until it's back to zero
+	private final AtomicInteger drainCalls = new AtomicInteger();
+	// The number of quantities of the head of ready already published, only used by the publishing thread
+	private int published;
+
+	/**
+	 * <p>Creates a processor with the default batch size and flush interval, that publishes with the
+	 * {@link ForkJoinPool#commonPool() common pool} and the default buffer capacity of {@code SubmissionPublisher}.
+	 *
+	 * @param converter The converter used to convert each batch.
+	 */
+	public QuantityConversionProcessor(UnitConverter converter) {
+		this(converter, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL);
+	}
+
+	/**
+	 * <p>Creates a processor that publishes with the {@link ForkJoinPool#commonPool() common pool} and the default
+	 * buffer capacity of {@code SubmissionPublisher}.
+	 *
+	 * @param converter The converter used to convert each batch.
+	 * @param batchSize The largest number of quantities of a batch, must be positive.
+	 * @param flushInterval The longest time a quantity waits for its batch to be flushed, must be positive.
+	 */
+	public QuantityConversionProcessor(UnitConverter converter, int batchSize, Duration flushInterval) {
+		this(converter, batchSize, flushInterval, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+	}
+
+	/**
+	 * @param converter The converter used to convert each batch.
+	 * @param batchSize The largest number of quantities of a batch, must be positive.
+	 * @param flushInterval The longest time a quantity waits for its batch to be flushed, must be positive.
+	 * @param executor The executor used to publish quantities and to flush batches on time.
+	 * @param maxBufferCapacity The largest number of quantities buffered for each subscriber,
+	 * see {@link SubmissionPublisher#SubmissionPublisher(Executor, int)}.
+	 */
+	public QuantityConversionProcessor(UnitConverter converter, int batchSize, Duration flushInterval,
+			Executor executor, int maxBufferCapacity) {
+		super(executor, maxBufferCapacity);
+		this.converter = Objects.requireNonNull(converter);
+		Objects.requireNonNull(converter.getGoalUnit());
+		if (batchSize <= 0) throw new IllegalArgumentException(
+				"The batch size must be positive. The given batch size was " + batchSize);
+		if (flushInterval.isNegative() || flushInterval.isZero()) throw new IllegalArgumentException(
+				"The flush interval must be positive. The given flush interval was " + flushInterval);
+		this.batchSize = batchSize;
+		this.flushInterval = flushInterval;
+		this.flushExecutor = CompletableFuture.delayedExecutor(
+				saturatedNanos(flushInterval), TimeUnit.NANOSECONDS, executor);
+		this.batch = new DigitalQuantityArray(batchSize);
+	}
+
+	private static long saturatedNanos(Duration duration) {
+		try {
+			return duration.toNanos();
+		} catch (ArithmeticException e) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	@Override
+	public void onSubscribe(Flow.Subscription subscription) {
+		Objects.requireNonNull(subscription);
+		lock.lock();
+		try {
+			// A processor can only have one upstream publisher
+			if (this.subscription != null || done) {
+				subscription.cancel();
+				return;
+			}
+			this.subscription = subscription;
+		} finally {
+			lock.unlock();
+		}
+		subscription.request(batchSize);
+	}
+
+	@Override
+	public void onNext(String item) {
+		Objects.requireNonNull(item);
+		lock.lock();
+		try {
+			if (done) return;
+			DigitalQuantity quantity = null;
+			try {
+				quantity = DigitalQuantity.valueOf(item);
+			} catch (RuntimeException e) {
+				// The quantities before the failure still have to be published
+				fail(e);
+			}
+			if (quantity != null) add(quantity);
+		} finally {
+			lock.unlock();
+		}
+		drain(true);
+	}
+
+	/**
+	 * <p>Adds a quantity to the batch, flushing it when full. Must be called holding the lock.
+	 */
+	private void add(DigitalQuantity quantity) {
+		batch.add(quantity);
+		if (batch.size() == 1) {
+			long batchNumber = flushCount;
+			flushExecutor.execute(() -> flushOnTime(batchNumber));
+		}
+		if (batch.size() >= batchSize) flush();
+	}
+
+	@Override
+	public void onError(Throwable throwable) {
+		Objects.requireNonNull(throwable);
+		lock.lock();
+		try {
+			if (done) return;
+			done = true;
+			if (flush()) ready.add(throwable);
+		} finally {
+			lock.unlock();
+		}
+		drain(true);
+	}
+
+	@Override
+	public void onComplete() {
+		lock.lock();
+		try {
+			if (done) return;
+			done = true;
+			if (flush()) ready.add(COMPLETE);
+		} finally {
+			lock.unlock();
+		}
+		drain(true);
+	}
+
+	/**
+	 * @return The converter used to convert each batch.
+	 */
+	public UnitConverter getConverter() {
+		return converter;
+	}
+
+	/**
+	 * @return The largest number of quantities of a batch.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @return The longest time a quantity waits for its batch to be flushed.
+	 */
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	private void flushOnTime(long batchNumber) {
+		// The lock is only held to parse or convert, never to publish, so this doesn't wait for subscribers
+		lock.lock();
+		try {
+			if (!done && flushCount == batchNumber) flush();
+		} finally {
+			lock.unlock();
+		}
+		drain(false);
+	}
+
+	/**
+	 * <p>Converts the batch and queues it to be published. Must be called holding the lock.
+	 *
+	 * @return Whether the batch was flushed, {@code false} if it failed and this processor was closed.
+	 */
+	private boolean flush() {
+		flushCount++;
+		int size = batch.size();
+		if (size == 0) return true;
+		try {
+			batch.convert(converter);
+		} catch (RuntimeException e) {
+			batch.clear();
+			fail(e);
+			return false;
+		}
+		DigitalQuantity[] quantities = new DigitalQuantity[size];
+		for (int i = 0; i < size; i++) {
+			quantities[i] = batch.get(i);
+		}
+		batch.clear();
+		ready.add(quantities);
+		return true;
+	}
+
+	/**
+	 * <p>Queues what was received before the failure to be published, and then the failure. Must be called
+	 * holding the lock.
+	 */
+	private void fail(RuntimeException exception) {
+		boolean wasDone = done;
+		done = true;
+		if (!wasDone && subscription != null) subscription.cancel();
+		if (flush()) ready.add(exception);
+	}
+
+	/**
+	 * <p>Publishes the queued batches and terminal signal, unless another thread already is, in which case that
+	 * thread publishes them. Must be called without holding the lock.
+	 *
+	 * @param mayBlock Whether this thread may wait for room in the subscribers' buffers. If not, what doesn't fit
+	 * is left to the next call, and another one is scheduled after the flush interval.
+	 */
+	private void drain(boolean mayBlock) {
+		if (drainCalls.getAndIncrement() != 0) return;
+		int calls = 1;
+		boolean blocked;
+		do {
+			blocked = !publishReady(mayBlock);
+			calls = drainCalls.addAndGet(-calls);
+		} while (calls != 0);
+		if (blocked) flushExecutor.execute(() -> drain(false));
+	}
+
+	/**
+	 * @return Whether everything queued was published, {@code false} if it would have to wait for room.
+	 */
+	private boolean publishReady(boolean mayBlock) {
+		for (Object head; (head = ready.peek()) != null; ) {
+			if (head instanceof DigitalQuantity[]) {
+				DigitalQuantity[] quantities = (DigitalQuantity[]) head;
+				while (published < quantities.length) {
+					// This is the only thread that submits, so the lag can only shrink until it does
+					if (!mayBlock && estimateMaximumLag() >= getMaxBufferCapacity()) return false;
+					submit(quantities[published++]);
+				}
+				published = 0;
+				ready.poll();
+				if (!done) subscription.request(quantities.length);
+			} else {
+				ready.poll();
+				if (head == COMPLETE) close();
+				else closeExceptionally((Throwable) head);
+			}
+		}
+		return true;
+	}
+
+}
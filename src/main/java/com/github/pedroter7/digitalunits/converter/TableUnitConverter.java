@@ -0,0 +1,66 @@
+package com.github.pedroter7.digitalunits.converter;
+
+import java.util.Objects;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.metrics.Metrics;
+
+/**
+ * <p>An {@code UnitConverter} implementation that converts a {@code DigitalQuantity} to its
+ * goal unit with a single multiplication by a factor taken from a {@link ConversionTable}.
+ * 
+ * <p>Bulk conversions look the factor up once and don't allocate.
+ * 
+ * @since 1.1
+ */
+final class TableUnitConverter implements UnitConverter {
+	
+	private final UnitEnum goalUnit;
+	private final ConversionTable conversionTable;
+	
+	TableUnitConverter(UnitEnum goalUnit, ConversionTable conversionTable) {
+		this.goalUnit = goalUnit;
+		this.conversionTable = conversionTable;
+	}
+
+	@Override
+	public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+		if (digitalQuantity == null) return null;
+		if (Metrics.isEnabled()) Metrics.recordConversions(digitalQuantity.getUnit(), goalUnit, 1);
+		if (digitalQuantity.getUnit() == this.goalUnit) return digitalQuantity;
+		double value = conversionTable.convert(digitalQuantity.getValue(), digitalQuantity.getUnit(), goalUnit);
+		return DigitalQuantity.valueOf(goalUnit, value);
+	}
+
+	@Override
+	public double convertFrom(UnitEnum fromUnit, double value) {
+		if (Metrics.isEnabled()) Metrics.recordConversions(fromUnit, goalUnit, 1);
+		return DigitalQuantity.round(value * conversionTable.getFactor(fromUnit, goalUnit));
+	}
+
+	@Override
+	public void convertFrom(UnitEnum fromUnit, double[] source, int sourceOffset,
+			double[] destination, int destinationOffset, int length) {
+		Objects.checkFromIndexSize(sourceOffset, length, source.length);
+		Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+		double factor = conversionTable.getFactor(fromUnit, goalUnit);
+		long start = Metrics.isEnabled() ? System.nanoTime() : 0;
+		if (fromUnit == goalUnit) {
+			for (int i = 0; i < length; i++) {
+				destination[destinationOffset + i] = DigitalQuantity.round(source[sourceOffset + i]);
+			}
+		} else {
+			for (int i = 0; i < length; i++) {
+				destination[destinationOffset + i] = DigitalQuantity.round(source[sourceOffset + i] * factor);
+			}
+		}
+		if (Metrics.isEnabled()) Metrics.recordConversions(fromUnit, goalUnit, length, start);
+	}
+
+	@Override
+	public UnitEnum getGoalUnit() {
+		return goalUnit;
+	}
+
+}
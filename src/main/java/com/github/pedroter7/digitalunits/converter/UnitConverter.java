@@ -1,5 +1,7 @@
 package com.github.pedroter7.digitalunits.converter;
 
+import java.util.Objects;
+
 import com.github.pedroter7.digitalunits.DigitalQuantity;
 import com.github.pedroter7.digitalunits.UnitEnum;
 
@@ -27,6 +29,85 @@ public interface UnitConverter {
 	 */
 	public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity);
 	
+	/**
+	 * <p>Converts a numerical value in units of {@code fromUnit} to the converter goal unit, without
+	 * creating a {@code DigitalQuantity}.
+	 * 
+	 * <p>The converted value is rounded to the {@code DigitalQuantity} precision and it is the same as
+	 * any of the bulk conversions would produce for {@code value}.
+	 * 
+	 * <p>The default implementation goes through {@link UnitConverter#convertFrom(DigitalQuantity)}.
+	 * 
+	 * <p>This method may cause a {@link UnsupportedOperationException} if the
+	 * implementation doesn't have the means to convert from the given unit and a
+	 * {@link NullPointerException} if {@code fromUnit} is {@code null}.
+	 * 
+	 * @param fromUnit The unit of {@code value}.
+	 * @param value The numerical value to be converted from.
+	 * 
+	 * @return The equivalent numerical value in the converter goal unit.
+	 */
+	public default double convertFrom(UnitEnum fromUnit, double value) {
+		Objects.requireNonNull(fromUnit);
+		return convertFrom(new DigitalQuantity(fromUnit, value)).getValue();
+	}
+	
+	/**
+	 * <p>Converts {@code length} numerical values in units of {@code fromUnit}, read from
+	 * {@code source} starting at {@code sourceOffset}, to the converter goal unit and writes
+	 * them to {@code destination} starting at {@code destinationOffset}.
+	 * 
+	 * <p>Converted values are rounded to the {@code DigitalQuantity} precision. For values that
+	 * already have that precision, as the value of any {@code DigitalQuantity} does, every converted
+	 * value is the same as {@code convertFrom(new DigitalQuantity(fromUnit, value)).getValue()}.
+	 * 
+	 * <p>{@code source} and {@code destination} may be the same array, but the converted
+	 * regions may only overlap if they start at the same offset.
+	 * 
+	 * <p>The default implementation converts the values one by one through
+	 * {@link UnitConverter#convertFrom(DigitalQuantity)}. Implementations are encouraged to
+	 * override it with a version that doesn't allocate a {@code DigitalQuantity} per value.
+	 * 
+	 * <p>This method may cause a {@link UnsupportedOperationException} if the
+	 * implementation doesn't have the means to convert from the given unit, a
+	 * {@link NullPointerException} if any parameter is {@code null} and an
+	 * {@link IndexOutOfBoundsException} if any of the regions is out of its array bounds.
+	 * 
+	 * @param fromUnit The unit of the values in {@code source}.
+	 * @param source The values to be converted from.
+	 * @param sourceOffset The index of the first value to be converted.
+	 * @param destination The array that receives the converted values.
+	 * @param destinationOffset The index that receives the first converted value.
+	 * @param length The number of values to be converted.
+	 */
+	public default void convertFrom(UnitEnum fromUnit, double[] source, int sourceOffset,
+			double[] destination, int destinationOffset, int length) {
+		Objects.requireNonNull(fromUnit);
+		Objects.checkFromIndexSize(sourceOffset, length, source.length);
+		Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+		for (int i = 0; i < length; i++) {
+			DigitalQuantity converted = convertFrom(new DigitalQuantity(fromUnit, source[sourceOffset + i]));
+			destination[destinationOffset + i] = converted.getValue();
+		}
+	}
+	
+	/**
+	 * <p>Converts, in place, {@code length} numerical values in units of {@code fromUnit}
+	 * stored in {@code values} starting at {@code offset} to the converter goal unit.
+	 * 
+	 * <p>This is the same as calling 
+	 * {@link UnitConverter#convertFrom(UnitEnum, double[], int, double[], int, int)} with
+	 * {@code values} as both source and destination.
+	 * 
+	 * @param fromUnit The unit of the values in {@code values}.
+	 * @param values The values to be converted, which are replaced by the converted values.
+	 * @param offset The index of the first value to be converted.
+	 * @param length The number of values to be converted.
+	 */
+	public default void convertFrom(UnitEnum fromUnit, double[] values, int offset, int length) {
+		convertFrom(fromUnit, values, offset, values, offset, length);
+	}
+	
 	/**
 	 * @return {@code UnitEnum} that this implementation is specialized in
 	 * coverting {@code DigitalQuantity} s to.
@@ -11,7 +11,8 @@ import com.github.pedroter7.digitalunits.UnitEnum;
 public interface UnitConverterFactory {
 
 	/**
-	 * <p>Factories a new {@code UnitConverter}.
+	 * <p>Factories a new {@code UnitConverter}. Implementations whose converters are immutable
+	 * may return the same object for the same goal unit every time.
 	 * 
 	 * <p>If it is not possible to factory a {@code UnitConverter} for the given {@code UnitEnum},
 	 * an {@link UnsupportedOperationException} must be thrown.
@@ -21,7 +22,7 @@ public interface UnitConverterFactory {
 	 * The goal unit is the unit that the converter converts units to.
 	 * A {@code null} value must cause a {@link NullPointerException}.
 	 * 
-	 * @return A new UnitConverter.
+	 * @return A UnitConverter to the given goal unit.
 	 */
 	public UnitConverter factory(UnitEnum goalUnit);
 	
@@ -0,0 +1,124 @@
+package com.github.pedroter7.digitalunits.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.pedroter7.digitalunits.ParseFailure;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>The default {@code MetricsRecorder}, which counts conversions by pair of units, failed reads by reason, and
+ * formatted quantities and the time spent formatting them. Every count is a {@link LongAdder}, so threads that
+ * record at the same time don't contend on a single counter.
+ *
+ * <p>Objects of this class are thread safe. Counts read while they're recorded may miss the latest ones.
+ *
+ * @since 1.1
+ */
+public final class CountingMetricsRecorder implements MetricsRecorder, DigitalUnitsMetricsMXBean {
+
+	private static final UnitEnum[] UNITS = UnitEnum.values();
+	private static final ParseFailure[] PARSE_FAILURES = ParseFailure.values();
+
+	private final LongAdder[] conversions = newAdders(UNITS.length * UNITS.length);
+	private final LongAdder[] parseFailures = newAdders(PARSE_FAILURES.length);
+	private final LongAdder formatCount = new LongAdder();
+	private final LongAdder formatNanos = new LongAdder();
+
+	private static LongAdder[] newAdders(int length) {
+		LongAdder[] adders = new LongAdder[length];
+		for (int i = 0; i < length; i++) {
+			adders[i] = new LongAdder();
+		}
+		return adders;
+	}
+
+	@Override
+	public void recordConversions(UnitEnum from, UnitEnum to, long count) {
+		conversions[from.ordinal() * UNITS.length + to.ordinal()].add(count);
+	}
+
+	@Override
+	public void recordParseFailure(ParseFailure reason) {
+		parseFailures[reason.ordinal()].increment();
+	}
+
+	@Override
+	public void recordFormat(long nanos) {
+		formatCount.increment();
+		formatNanos.add(nanos);
+	}
+
+	/**
+	 * @param from The unit values were converted from.
+	 * @param to The unit values were converted to.
+	 *
+	 * @return The number of values converted from {@code from} to {@code to}.
+	 */
+	public long getConversionCount(UnitEnum from, UnitEnum to) {
+		return conversions[from.ordinal() * UNITS.length + to.ordinal()].sum();
+	}
+
+	@Override
+	public long getConversionCount() {
+		long sum = 0;
+		for (LongAdder adder : conversions) {
+			sum += adder.sum();
+		}
+		return sum;
+	}
+
+	@Override
+	public Map<String, Long> getConversionCounts() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (UnitEnum from : UNITS) {
+			for (UnitEnum to : UNITS) {
+				long count = getConversionCount(from, to);
+				if (count != 0) counts.put(from.getSymbol() + "->" + to.getSymbol(), count);
+			}
+		}
+		return counts;
+	}
+
+	/**
+	 * @param reason A reason why characters can't be read.
+	 *
+	 * @return The number of reads that failed for {@code reason}.
+	 */
+	public long getParseFailureCount(ParseFailure reason) {
+		return parseFailures[reason.ordinal()].sum();
+	}
+
+	@Override
+	public Map<String, Long> getParseFailureCounts() {
+		Map<String, Long> counts = new LinkedHashMap<>();
+		for (ParseFailure reason : PARSE_FAILURES) {
+			counts.put(reason.name(), getParseFailureCount(reason));
+		}
+		return counts;
+	}
+
+	@Override
+	public long getFormatCount() {
+		return formatCount.sum();
+	}
+
+	@Override
+	public long getFormatNanos() {
+		return formatNanos.sum();
+	}
+
+	@Override
+	public void reset() {
+		for (LongAdder adder : conversions) {
+			adder.reset();
+		}
+		for (LongAdder adder : parseFailures) {
+			adder.reset();
+		}
+		formatCount.reset();
+		formatNanos.reset();
+	}
+
+}
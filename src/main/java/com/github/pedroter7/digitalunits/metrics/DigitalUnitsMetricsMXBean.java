@@ -0,0 +1,43 @@
+package com.github.pedroter7.digitalunits.metrics;
+
+import java.util.Map;
+
+/**
+ * <p>The management interface of {@link CountingMetricsRecorder}, registered by {@link Metrics#registerMBean()}.
+ *
+ * @since 1.1
+ */
+public interface DigitalUnitsMetricsMXBean {
+
+	/**
+	 * @return The number of converted values by pair of units, keyed as <i>"pt-&gt;px"</i>. Pairs without
+	 * conversions are left out.
+	 */
+	public Map<String, Long> getConversionCounts();
+
+	/**
+	 * @return The total number of converted values.
+	 */
+	public long getConversionCount();
+
+	/**
+	 * @return The number of failed reads by {@link com.github.pedroter7.digitalunits.ParseFailure} name.
+	 */
+	public Map<String, Long> getParseFailureCounts();
+
+	/**
+	 * @return The number of formatted quantities.
+	 */
+	public long getFormatCount();
+
+	/**
+	 * @return The total time spent formatting quantities, in nanoseconds.
+	 */
+	public long getFormatNanos();
+
+	/**
+	 * <p>Sets every count back to zero.
+	 */
+	public void reset();
+
+}
@@ -0,0 +1,194 @@
+package com.github.pedroter7.digitalunits.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ServiceLoader;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.github.pedroter7.digitalunits.ParseFailure;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Instruments the conversions, failed reads and formatting of the library. Metrics are disabled unless the
+ * system property {@value Metrics#ENABLED_PROPERTY} is {@code "true"} when this class is initialized, and they can't
+ * be enabled or disabled afterwards. Whether they're enabled is held in a {@code static final} field, so the JIT
+ * compiler removes every disabled measurement from the hot paths and they cost nothing.
+ *
+ * <p>When enabled, the measurements go to the first {@link MetricsRecorder} found through
+ * {@link ServiceLoader}, or to a {@link CountingMetricsRecorder} if there's none, which can be exposed through
+ * JMX with {@link Metrics#registerMBean()}. Bulk conversions and formatting calls that take at least
+ * {@value Metrics#SLOW_CALL_PROPERTY} nanoseconds, one millisecond by default, are also committed as
+ * {@code com.github.pedroter7.digitalunits.SlowCall} JFR events, if the {@code jdk.jfr} module is present.
+ *
+ * <p>The {@code record} methods are called by the converters, parsers and formatters of this library, and may be
+ * called by other implementations as well. Measurements are only taken when {@link Metrics#isEnabled()}:
+ * <pre>
+ * long start = Metrics.isEnabled() ? System.nanoTime() : 0;
+ * // Convert the values
+ * if (Metrics.isEnabled()) Metrics.recordConversions(from, to, length, start);
+ * </pre>
+ *
+ * @since 1.1
+ */
+public final class Metrics {
+
+	/**
+	 * <p>The name of the system property that enables metrics when it is {@code "true"}.
+	 */
+	public static final String ENABLED_PROPERTY = "com.github.pedroter7.digitalunits.metrics";
+
+	/**
+	 * <p>The name of the system property with the number of nanoseconds from which a call is committed as a
+	 * JFR event.
+	 */
+	public static final String SLOW_CALL_PROPERTY = "com.github.pedroter7.digitalunits.metrics.slowCallNanos";
+
+	/**
+	 * <p>The name the {@code MetricsRecorder} is registered with by {@link Metrics#registerMBean()}.
+	 */
+	public static final String OBJECT_NAME = "com.github.pedroter7.digitalunits:type=Metrics";
+
+	private static final long DEFAULT_SLOW_CALL_NANOS = 1_000_000;
+
+	private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+	private static final MetricsRecorder RECORDER = ENABLED ? loadRecorder() : null;
+	private static final long SLOW_CALL_NANOS = ENABLED ? slowCallNanos() : Long.MAX_VALUE;
+	private static final boolean JFR = ENABLED && isJfrPresent();
+
+	private Metrics() {
+	}
+
+	private static MetricsRecorder loadRecorder() {
+		return ServiceLoader.load(MetricsRecorder.class, Metrics.class.getClassLoader())
+				.findFirst().orElseGet(CountingMetricsRecorder::new);
+	}
+
+	private static long slowCallNanos() {
+		String property = System.getProperty(SLOW_CALL_PROPERTY);
+		if (property == null) return DEFAULT_SLOW_CALL_NANOS;
+		try {
+			return Long.parseLong(property.trim());
+		} catch (NumberFormatException e) {
+			return DEFAULT_SLOW_CALL_NANOS;
+		}
+	}
+
+	private static boolean isJfrPresent() {
+		try {
+			Class.forName("jdk.jfr.Event", false, Metrics.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * @return Whether metrics are enabled.
+	 */
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * @return The recorder that receives the measurements, {@code null} if metrics are disabled.
+	 */
+	public static MetricsRecorder getRecorder() {
+		return RECORDER;
+	}
+
+	/**
+	 * <p>Records values converted one at a time, which aren't timed.
+	 *
+	 * @param from The unit the values were converted from.
+	 * @param to The unit the values were converted to.
+	 * @param count The number of values converted.
+	 */
+	public static void recordConversions(UnitEnum from, UnitEnum to, long count) {
+		if (ENABLED) RECORDER.recordConversions(from, to, count);
+	}
+
+	/**
+	 * <p>Records a bulk conversion that started at {@code startNanos}.
+	 *
+	 * @param from The unit the values were converted from.
+	 * @param to The unit the values were converted to.
+	 * @param count The number of values converted.
+	 * @param startNanos The value of {@link System#nanoTime()} before the conversion.
+	 */
+	public static void recordConversions(UnitEnum from, UnitEnum to, long count, long startNanos) {
+		if (!ENABLED) return;
+		RECORDER.recordConversions(from, to, count);
+		long nanos = System.nanoTime() - startNanos;
+		if (nanos >= SLOW_CALL_NANOS && JFR) commitSlowCall("conversion", from.getSymbol() + "->" + to.getSymbol(),
+				count, nanos);
+	}
+
+	/**
+	 * @param reason Why the characters couldn't be read.
+	 */
+	public static void recordParseFailure(ParseFailure reason) {
+		if (ENABLED) RECORDER.recordParseFailure(reason);
+	}
+
+	/**
+	 * <p>Records formatting a quantity that started at {@code startNanos}.
+	 *
+	 * @param startNanos The value of {@link System#nanoTime()} before formatting.
+	 */
+	public static void recordFormat(long startNanos) {
+		if (!ENABLED) return;
+		long nanos = System.nanoTime() - startNanos;
+		RECORDER.recordFormat(nanos);
+		if (nanos >= SLOW_CALL_NANOS && JFR) commitSlowCall("format", "", 1, nanos);
+	}
+
+	private static void commitSlowCall(String operation, String detail, long count, long nanos) {
+		SlowCallEvent event = new SlowCallEvent();
+		if (!event.shouldCommit()) return;
+		event.operation = operation;
+		event.detail = detail;
+		event.count = count;
+		event.time = nanos;
+		event.commit();
+	}
+
+	/**
+	 * <p>Registers the recorder in the platform {@code MBeanServer} with the name {@value Metrics#OBJECT_NAME}.
+	 * Metrics must be enabled and the recorder must be a compliant MBean, as {@code CountingMetricsRecorder} is.
+	 * No JMX type is part of this method, so it can be called without the {@code java.management} module, which is
+	 * an optional dependency of this library. It fails if the module is absent, though.
+	 *
+	 * @return The name the recorder was registered with.
+	 *
+	 * @throws IllegalStateException If metrics are disabled or the recorder can't be registered, e.g. because it
+	 * already is.
+	 * @throws UnsupportedOperationException If the {@code java.management} module isn't present.
+	 */
+	public static String registerMBean() {
+		if (!ENABLED) throw new IllegalStateException(
+				"Metrics are disabled, set the system property " + ENABLED_PROPERTY + " to true to enable them.");
+		try {
+			Jmx.register(RECORDER, OBJECT_NAME);
+		} catch (LinkageError e) {
+			throw new UnsupportedOperationException("Registering an MBean requires the java.management module.", e);
+		}
+		return OBJECT_NAME;
+	}
+
+	/**
+	 * <p>Holds every reference to JMX types, so they're only loaded when an MBean is registered.
+	 */
+	private static final class Jmx {
+
+		static void register(Object mbean, String name) {
+			try {
+				ManagementFactory.getPlatformMBeanServer().registerMBean(mbean, new ObjectName(name));
+			} catch (JMException e) {
+				throw new IllegalStateException("The metrics recorder couldn't be registered as " + name, e);
+			}
+		}
+
+	}
+
+}
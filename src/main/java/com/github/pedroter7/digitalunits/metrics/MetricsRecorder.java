@@ -0,0 +1,43 @@
+package com.github.pedroter7.digitalunits.metrics;
+
+import com.github.pedroter7.digitalunits.ParseFailure;
+import com.github.pedroter7.digitalunits.UnitEnum;
+
+/**
+ * <p>Receives the measurements of the library when {@link Metrics} are enabled. This is a service provider
+ * interface: an implementation found through {@link java.util.ServiceLoader} is used instead of the default
+ * {@link CountingMetricsRecorder}, e.g. to forward the measurements to a metrics library.
+ *
+ * <p>Methods are called from the threads that convert, parse and format, often on their hot paths, so they
+ * must be thread safe, cheap and must not throw.
+ *
+ * @since 1.1
+ */
+public interface MetricsRecorder {
+
+	/**
+	 * <p>Called after values are converted, once per bulk conversion.
+	 *
+	 * @param from The unit the values were converted from.
+	 * @param to The unit the values were converted to.
+	 * @param count The number of values converted.
+	 */
+	public void recordConversions(UnitEnum from, UnitEnum to, long count);
+
+	/**
+	 * <p>Called for every input rejected by {@link com.github.pedroter7.digitalunits.DigitalQuantity#valueOf(String)}
+	 * or a {@link com.github.pedroter7.digitalunits.DigitalQuantityParser}, whether it throws an exception, as
+	 * {@code parse} does, or not, as {@code tryParse} and {@code validate} do.
+	 *
+	 * @param reason Why the characters couldn't be read.
+	 */
+	public void recordParseFailure(ParseFailure reason);
+
+	/**
+	 * <p>Called after a quantity is formatted by a {@link com.github.pedroter7.digitalunits.QuantityFormatter}.
+	 *
+	 * @param nanos How long formatting took, in nanoseconds.
+	 */
+	public void recordFormat(long nanos);
+
+}
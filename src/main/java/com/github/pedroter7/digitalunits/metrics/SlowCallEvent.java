@@ -0,0 +1,37 @@
+package com.github.pedroter7.digitalunits.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * <p>A JFR event for a call slower than the threshold of {@link Metrics}, only committed while JFR records it.
+ *
+ * @since 1.1
+ */
+@Name("com.github.pedroter7.digitalunits.SlowCall")
+@Label("Slow Call")
+@Category("Digital Units")
+@Description("A conversion or formatting call slower than the threshold of the digital-units metrics")
+@StackTrace(true)
+final class SlowCallEvent extends Event {
+
+	@Label("Operation")
+	String operation;
+
+	@Label("Detail")
+	String detail;
+
+	@Label("Count")
+	@Description("The number of values handled by the call")
+	long count;
+
+	@Label("Time")
+	@Timespan(Timespan.NANOSECONDS)
+	long time;
+
+}
@@ -1,5 +1,11 @@
 module com.github.pedroter7.digitalunits {
-	requires java.desktop;
+	// Only needed by AwtConverterFactory
+	requires static java.desktop;
+	// Only needed when metrics are enabled
+	requires static java.management;
+	requires static jdk.jfr;
 	exports com.github.pedroter7.digitalunits;
 	exports com.github.pedroter7.digitalunits.converter;
-}
\ No newline at end of file
+	exports com.github.pedroter7.digitalunits.metrics;
+	uses com.github.pedroter7.digitalunits.metrics.MetricsRecorder;
+}
@@ -1,14 +1,52 @@
 package com.github.pedroter7.digitalunits;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.pedroter7.digitalunits.converter.ConversionTable;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
 
 @DisplayName("DigitalQuantity class tests")
 public class DigitalQuantityTests {
@@ -180,5 +218,964 @@ public class DigitalQuantityTests {
 		}
 		
 	}
+	
+	@DisplayName("Streaming parser tests")
+	@Nested
+	public class ParserTests {
+		
+		private final DigitalQuantityParser parser = new DigitalQuantityParser();
+		
+		private void assertSameQuantity(DigitalQuantity expected, String message) {
+			DigitalQuantity actual = parser.toDigitalQuantity();
+			assertEquals(expected.getUnit(), actual.getUnit(), message);
+			assertEquals(Double.doubleToLongBits(expected.getValue()), Double.doubleToLongBits(actual.getValue()), message);
+		}
+		
+		private void assertSameAsValueOf(String quantity) {
+			DigitalQuantity expected = DigitalQuantity.valueOf(quantity);
+			char[] chars = ("#" + quantity + "#").toCharArray();
+			byte[] bytes = ("#" + quantity + "#").getBytes(StandardCharsets.US_ASCII);
+			
+			assertEquals(quantity.trim().length(), parser.parse(quantity.trim(), 0, quantity.trim().length()));
+			assertSameQuantity(expected, "Parsing " + quantity);
+			parser.parse(chars, 1, chars.length - 1);
+			assertSameQuantity(expected, "Parsing " + quantity);
+			parser.parse(bytes, 1, bytes.length - 1);
+			assertSameQuantity(expected, "Parsing " + quantity);
+		}
+		
+		@DisplayName("Parse the same quantities as valueOf")
+		@Test
+		public void parseQuantities() {
+			String[] quantities = { "15px", "15 px", "  1.5cm ", "-3mm", "+2.25pt", "0in", "-0m", ".5in", "7.px",
+					"1e3mm", "1.5E-2 m", "145.2045678901px", "0.000000000000000000000000123456789pt",
+					"12345678901234567890123px", "1e300m", "3.14159265358979323846in", "15PX", "15 Cm" };
+			for (String quantity : quantities) assertSameAsValueOf(quantity);
+		}
+		
+		@DisplayName("Parse random quantities the same as valueOf")
+		@Test
+		public void parseRandomQuantities() {
+			Random random = new Random(31);
+			UnitEnum[] units = UnitEnum.values();
+			for (int i = 0; i < 20_000; i++) {
+				double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 8);
+				assertSameAsValueOf(value + units[random.nextInt(units.length)].getSymbol());
+			}
+		}
+		
+		@DisplayName("Keep scanning from the returned end index")
+		@Test
+		public void parseSequence() {
+			String text = "margin: 12pt 3.5mm -1in 2e1px;";
+			DigitalQuantity[] expected = { new DigitalQuantity(UnitEnum.POINT, 12), new DigitalQuantity(UnitEnum.MILLIMETER, 3.5),
+					new DigitalQuantity(UnitEnum.INCH, -1), new DigitalQuantity(UnitEnum.PIXEL, 20) };
+			int index = text.indexOf(':') + 1;
+			for (DigitalQuantity quantity : expected) {
+				index = parser.parse(text, index, text.length() - 1);
+				assertSameQuantity(quantity, text);
+				assertEquals(index, parser.getEndIndex());
+			}
+			assertEquals(text.length() - 1, index);
+		}
+		
+		@DisplayName("Parse malformed quantities")
+		@Test
+		public void parseMalformedQuantities_ShouldThrow() {
+			assertThrows(IllegalStateException.class, () -> parser.toDigitalQuantity());
+			assertThrows(IllegalArgumentException.class, () -> parser.parse("   ", 0, 3));
+			assertThrows(IllegalArgumentException.class, () -> parser.parse("15", 0, 2));
+			assertThrows(IllegalArgumentException.class, () -> parser.parse("15 ;", 0, 4));
+			assertThrows(NumberFormatException.class, () -> parser.parse("px", 0, 2));
+			assertThrows(NumberFormatException.class, () -> parser.parse("-.px", 0, 4));
+			assertThrows(NumberFormatException.class, () -> parser.parse("1e400px", 0, 7));
+			assertThrows(UnsupportedOperationException.class, () -> parser.parse("15em", 0, 4));
+			assertThrows(UnsupportedOperationException.class, () -> parser.parse("15pxx", 0, 5));
+			assertThrows(NullPointerException.class, () -> parser.parse((char[]) null, 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("15px", 2, 5));
+		}
+		
+		@DisplayName("Try to parse quantities without throwing")
+		@Test
+		public void tryParseQuantities() {
+			assertEquals(6, parser.tryParse("1.5 cm", 0, 6));
+			assertNull(parser.getFailure());
+			assertSameQuantity(new DigitalQuantity(UnitEnum.CENTIMETER, 1.5), "Parsing 1.5 cm");
+			byte[] bytes = "#-3mm#".getBytes(StandardCharsets.US_ASCII);
+			assertEquals(5, parser.tryParse(bytes, 1, 5));
+			assertEquals(5, parser.tryParse(ByteBuffer.wrap(bytes), 1, 5));
+			assertEquals(5, parser.tryParse("#-3mm#".toCharArray(), 1, 5));
+			assertSameQuantity(new DigitalQuantity(UnitEnum.MILLIMETER, -3), "Parsing -3mm");
+			
+			String[] malformed = { "   ", "15", "15 ;", "px", "-.px", "1e400px", "15em", "15pxx" };
+			ParseFailure[] reasons = { ParseFailure.EMPTY, ParseFailure.MISSING_UNIT, ParseFailure.MISSING_UNIT,
+					ParseFailure.MALFORMED_NUMBER, ParseFailure.MALFORMED_NUMBER, ParseFailure.OUT_OF_RANGE,
+					ParseFailure.UNSUPPORTED_UNIT, ParseFailure.UNSUPPORTED_UNIT };
+			for (int i = 0; i < malformed.length; i++) {
+				assertEquals(-1, parser.tryParse(malformed[i], 0, malformed[i].length()), "Parsing " + malformed[i]);
+				assertEquals(reasons[i], parser.getFailure(), "Parsing " + malformed[i]);
+			}
+			// The last read quantity is kept
+			assertSameQuantity(new DigitalQuantity(UnitEnum.MILLIMETER, -3), "Parsing -3mm");
+			assertThrows(NullPointerException.class, () -> parser.tryParse((CharSequence) null, 0, 0));
+			assertThrows(IndexOutOfBoundsException.class, () -> parser.tryParse("15px", 2, 5));
+		}
+		
+		@DisplayName("Validate many inputs at once")
+		@Test
+		public void validateQuantities() {
+			CharSequence[] inputs = { "12pt", " 1.5 cm ", "15", null, "12pt;", "3 em", new StringBuilder("-2in"),
+					"1e400px", "2px 3px", "px" };
+			int[] failedIndices = new int[inputs.length];
+			byte[] reasons = new byte[inputs.length];
+			assertEquals(7, parser.validate(inputs, 0, inputs.length, failedIndices, reasons));
+			assertArrayEquals(new int[] { 2, 3, 4, 5, 7, 8, 9 }, Arrays.copyOf(failedIndices, 7));
+			ParseFailure[] expected = { ParseFailure.MISSING_UNIT, ParseFailure.EMPTY, ParseFailure.TRAILING_CHARACTERS,
+					ParseFailure.UNSUPPORTED_UNIT, ParseFailure.OUT_OF_RANGE, ParseFailure.TRAILING_CHARACTERS,
+					ParseFailure.MALFORMED_NUMBER };
+			for (int i = 0; i < expected.length; i++) assertEquals(expected[i], ParseFailure.values()[reasons[i]]);
+			
+			// Every failure is counted, though only as many as fit are written
+			int[] fewIndices = new int[2];
+			assertEquals(6, parser.validate(inputs, 3, 7, fewIndices, new byte[2]));
+			assertArrayEquals(new int[] { 3, 4 }, fewIndices);
+			assertEquals(0, parser.validate(inputs, 0, 2, new int[0], new byte[0]));
+			assertThrows(IllegalArgumentException.class, () -> parser.validate(inputs, 0, 2, new int[2], new byte[1]));
+			assertThrows(IndexOutOfBoundsException.class, () -> parser.validate(inputs, 5, 6, failedIndices, reasons));
+		}
+		
+	}
+	
+	@DisplayName("Scanner tests")
+	@Nested
+	public class ScannerTests {
+		
+		private static final String STYLE = "h1 { margin: 12.5pt 3 mm -1in; width: 1.2px; }\n"
+				+ "p{font-size:10PT;line-height:1.5em;top:+2e1px;left:.5cm}h2px 7items 4 in";
+		
+		private final List<Long> offsets = new ArrayList<>();
+		private final List<DigitalQuantity> quantities = new ArrayList<>();
+		
+		private void record(long offset, UnitEnum unit, double value) {
+			offsets.add(offset);
+			quantities.add(new DigitalQuantity(unit, value));
+		}
+		
+		private void assertFoundStyleQuantities(long count) {
+			String[] expected = { "12.5pt", "3 mm", "-1in", "1.2px", "10PT", "+2e1px", ".5cm", "4 in" };
+			assertEquals(expected.length, count);
+			assertEquals(expected.length, quantities.size());
+			for (int i = 0; i < expected.length; i++) {
+				DigitalQuantity quantity = DigitalQuantity.valueOf(expected[i]);
+				assertEquals(STYLE.indexOf(expected[i]), offsets.get(i).intValue());
+				assertEquals(quantity.getUnit(), quantities.get(i).getUnit());
+				assertEquals(quantity.getValue(), quantities.get(i).getValue());
+			}
+		}
+		
+		@DisplayName("Scan a CharSequence")
+		@Test
+		public void scanCharSequence() {
+			assertFoundStyleQuantities(new DigitalQuantityScanner().scan(CharBuffer.wrap(STYLE), this::record));
+		}
+		
+		@DisplayName("Scan a ByteBuffer")
+		@Test
+		public void scanByteBuffer() {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(STYLE.length());
+			buffer.put(STYLE.getBytes(StandardCharsets.US_ASCII)).flip();
+			assertFoundStyleQuantities(new DigitalQuantityScanner().scan(buffer, this::record));
+			assertEquals(0, buffer.position());
+		}
+		
+		@DisplayName("Scan into arrays and resume when they are full")
+		@Test
+		public void scanIntoArrays() {
+			DigitalQuantityScanner scanner = new DigitalQuantityScanner();
+			int[] offsetArray = new int[3];
+			UnitEnum[] units = new UnitEnum[3];
+			double[] values = new double[3];
+			int index = 0;
+			long count = 0;
+			while (index < STYLE.length()) {
+				int found = scanner.scan(STYLE, index, STYLE.length(), offsetArray, units, values);
+				for (int i = 0; i < found; i++) record(offsetArray[i], units[i], values[i]);
+				count += found;
+				index = scanner.getNextIndex();
+			}
+			assertFoundStyleQuantities(count);
+		}
+		
+		@DisplayName("Scan a file mapped in windows smaller than some quantities")
+		@Test
+		public void scanFile(@TempDir Path directory) throws IOException {
+			StringBuilder text = new StringBuilder();
+			Random random = new Random(5);
+			UnitEnum[] units = UnitEnum.values();
+			List<DigitalQuantity> expected = new ArrayList<>();
+			for (int i = 0; i < 2_000; i++) {
+				DigitalQuantity quantity = new DigitalQuantity(units[random.nextInt(units.length)],
+						(random.nextDouble() - 0.5) * 1000);
+				expected.add(quantity);
+				text.append("x: ").append(quantity.getValue()).append(i % 3 == 0 ? "   " : "")
+						.append(quantity.getUnit().getSymbol()).append(i % 7 == 0 ? "\n" : "; 5em ");
+			}
+			Path file = directory.resolve("quantities.css");
+			Files.write(file, text.toString().getBytes(StandardCharsets.US_ASCII));
+			
+			for (int windowSize : new int[] { 4, 13, 4096, DigitalQuantityScanner.DEFAULT_WINDOW_SIZE }) {
+				quantities.clear();
+				assertEquals(expected.size(), new DigitalQuantityScanner(windowSize).scan(file, this::record));
+				for (int i = 0; i < expected.size(); i++) {
+					assertEquals(expected.get(i).getUnit(), quantities.get(i).getUnit());
+					assertEquals(expected.get(i).getValue(), quantities.get(i).getValue());
+				}
+			}
+		}
+		
+		@DisplayName("Create a scanner with an invalid window size")
+		@Test
+		public void createWithInvalidWindow_ShouldThrowIllegalArgument() {
+			assertThrows(IllegalArgumentException.class, () -> new DigitalQuantityScanner(0));
+		}
+		
+	}
+	
+	@DisplayName("Unit lookup tests")
+	@Nested
+	public class UnitLookupTests {
+		
+		@DisplayName("Look up every unit, regardless of case for ranges and chars")
+		@Test
+		public void lookUpUnits() {
+			for (UnitEnum unit : UnitEnum.values()) {
+				String symbol = unit.getSymbol();
+				String upperCase = symbol.toUpperCase(Locale.ROOT);
+				assertEquals(unit, UnitEnum.getUnit(symbol));
+				// The String lookup of 1.0 is case sensitive
+				assertEquals(null, UnitEnum.getUnit(upperCase));
+				assertEquals(unit, UnitEnum.getUnit("15 " + upperCase + ";", 3, 3 + symbol.length()));
+				if (symbol.length() == 1) {
+					assertEquals(unit, UnitEnum.getUnit(symbol.charAt(0)));
+					assertEquals(unit, UnitEnum.getUnit(upperCase.charAt(0)));
+				} else {
+					assertEquals(unit, UnitEnum.getUnit(symbol.charAt(0), symbol.charAt(1)));
+					assertEquals(unit, UnitEnum.getUnit(symbol.charAt(0), upperCase.charAt(1)));
+				}
+			}
+		}
+		
+		@DisplayName("Look up symbols without a unit")
+		@Test
+		public void lookUpUnknownSymbols() {
+			String[] symbols = { null, "", "em", "p", "pxx", "mmm", "p1", "1m", "@m", "m[", "\u00b5m", "\u212an" };
+			for (String symbol : symbols) assertEquals(null, UnitEnum.getUnit(symbol), symbol);
+			for (char first = 0; first < 512; first++) {
+				if (Character.toLowerCase(first) != 'm') assertEquals(null, UnitEnum.getUnit(first));
+			}
+			for (char first = 0; first < 128; first++) {
+				for (char second = 0; second < 128; second++) {
+					String symbol = new String(new char[] { first, second }).toLowerCase(Locale.ROOT);
+					UnitEnum expected = null;
+					for (UnitEnum unit : UnitEnum.values()) {
+						if (unit.getSymbol().equals(symbol)) expected = unit;
+					}
+					assertEquals(expected, UnitEnum.getUnit(first, second), symbol);
+				}
+			}
+			assertThrows(IndexOutOfBoundsException.class, () -> UnitEnum.getUnit("px", 1, 3));
+		}
+		
+	}
+	
+	@DisplayName("Column store tests")
+	@Nested
+	public class ArrayTests {
+		
+		private final ConversionTable table = ConversionTable.forScreenResolution(96);
+		
+		private UnitConverter converterTo(UnitEnum goalUnit) {
+			return new UnitConverter() {
+				
+				@Override
+				public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+					return new DigitalQuantity(goalUnit, table.convert(digitalQuantity.getValue(),
+							digitalQuantity.getUnit(), goalUnit));
+				}
+				
+				@Override
+				public UnitEnum getGoalUnit() {
+					return goalUnit;
+				}
+				
+			};
+		}
+		
+		private void assertSameQuantity(DigitalQuantity expected, DigitalQuantity actual) {
+			assertEquals(expected.getUnit(), actual.getUnit());
+			assertEquals(expected.getValue(), actual.getValue());
+		}
+		
+		@DisplayName("Keep a single unit until a different one is added")
+		@Test
+		public void addQuantities() {
+			DigitalQuantityArray array = new DigitalQuantityArray(1);
+			assertEquals(null, array.getUniformUnit());
+			array.add(UnitEnum.POINT, 12.123456789);
+			array.addAll(UnitEnum.POINT, new double[] { 1, 2, 3 }, 1, 2);
+			assertEquals(UnitEnum.POINT, array.getUniformUnit());
+			array.add(new DigitalQuantity(UnitEnum.INCH, 1));
+			array.set(1, UnitEnum.METER, 0.5);
+			assertEquals(null, array.getUniformUnit());
+			
+			DigitalQuantity[] expected = { new DigitalQuantity(UnitEnum.POINT, 12.123456789),
+					new DigitalQuantity(UnitEnum.METER, 0.5), new DigitalQuantity(UnitEnum.POINT, 3),
+					new DigitalQuantity(UnitEnum.INCH, 1) };
+			assertEquals(expected.length, array.size());
+			for (int i = 0; i < expected.length; i++) {
+				assertSameQuantity(expected[i], array.get(i));
+				assertEquals(expected[i].getUnit(), array.getUnit(i));
+				assertEquals(expected[i].getValue(), array.getValue(i));
+			}
+			DigitalQuantityArray copy = new DigitalQuantityArray(array);
+			array.clear();
+			assertEquals(0, array.size());
+			assertEquals(expected.length, copy.size());
+			assertSameQuantity(expected[3], copy.get(3));
+			assertThrows(IndexOutOfBoundsException.class, () -> copy.get(4));
+		}
+		
+		@DisplayName("Convert every quantity like the converter does")
+		@Test
+		public void convertQuantities() {
+			Random random = new Random(3);
+			UnitEnum[] units = UnitEnum.values();
+			for (UnitEnum goalUnit : units) {
+				UnitConverter converter = converterTo(goalUnit);
+				DigitalQuantityArray array = new DigitalQuantityArray();
+				for (int i = 0; i < 1_000; i++) {
+					array.add(units[random.nextInt(3) == 0 ? random.nextInt(units.length) : 0],
+							(random.nextDouble() - 0.5) * 1000);
+				}
+				DigitalQuantityArray original = new DigitalQuantityArray(array);
+				array.convert(converter);
+				assertEquals(goalUnit, array.getUniformUnit());
+				for (int i = 0; i < array.size(); i++) {
+					assertSameQuantity(converter.convertFrom(original.get(i)), array.get(i));
+				}
+			}
+		}
+		
+		@DisplayName("Sort and aggregate quantities with the same unit")
+		@Test
+		public void sortAndAggregate() {
+			DigitalQuantityArray array = new DigitalQuantityArray();
+			array.addAll(UnitEnum.MILLIMETER, new double[] { 3.5, -1, 10.25, 0.125 }, 0, 4);
+			assertSameQuantity(new DigitalQuantity(UnitEnum.MILLIMETER, -1), array.min());
+			assertSameQuantity(new DigitalQuantity(UnitEnum.MILLIMETER, 10.25), array.max());
+			assertSameQuantity(new DigitalQuantity(UnitEnum.MILLIMETER, 12.875), array.sum());
+			array.sort();
+			assertEquals(-1, array.getValue(0));
+			assertEquals(0.125, array.getValue(1));
+			assertEquals(3.5, array.getValue(2));
+			assertEquals(10.25, array.getValue(3));
+		}
+		
+		@DisplayName("Sort and aggregate quantities with different units")
+		@Test
+		public void aggregateDifferentUnits_ShouldThrow() {
+			DigitalQuantityArray array = new DigitalQuantityArray();
+			assertThrows(NoSuchElementException.class, () -> array.min());
+			assertThrows(NoSuchElementException.class, () -> array.sum());
+			array.add(UnitEnum.PIXEL, 1);
+			array.add(UnitEnum.POINT, 1);
+			assertThrows(UnsupportedOperationException.class, () -> array.sort());
+			assertThrows(UnsupportedOperationException.class, () -> array.max());
+			assertThrows(UnsupportedOperationException.class, () -> array.sum());
+			assertThrows(NullPointerException.class, () -> array.add(null, 1));
+		}
+		
+		@DisplayName("Sort and aggregate quantities set back to the same unit")
+		@Test
+		public void sortAfterSettingSameUnit() {
+			DigitalQuantityArray array = new DigitalQuantityArray();
+			array.addAll(UnitEnum.POINT, new double[] { 3, 1, 2 }, 0, 3);
+			array.set(1, UnitEnum.INCH, 1);
+			assertThrows(UnsupportedOperationException.class, () -> array.sort());
+			array.set(1, UnitEnum.POINT, 72);
+			array.add(UnitEnum.POINT, -4);
+			array.sort();
+			assertEquals(UnitEnum.POINT, array.getUniformUnit());
+			assertEquals(-4, array.getValue(0));
+			assertEquals(2, array.getValue(1));
+			assertEquals(3, array.getValue(2));
+			assertEquals(72, array.getValue(3));
+			assertSameQuantity(new DigitalQuantity(UnitEnum.POINT, 73), array.sum());
+			array.add(UnitEnum.PIXEL, 1);
+			assertEquals(null, array.getUniformUnit());
+			assertSameQuantity(new DigitalQuantity(UnitEnum.PIXEL, 1), array.get(4));
+			assertThrows(UnsupportedOperationException.class, () -> array.max());
+		}
+		
+	}
+	
+	@DisplayName("Off-heap buffer tests")
+	@Nested
+	public class BufferTests {
+		
+		private final UnitConverter converter = new UnitConverter() {
+			
+			private final ConversionTable table = ConversionTable.forScreenResolution(96);
+			
+			@Override
+			public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+				return new DigitalQuantity(UnitEnum.PIXEL, table.convert(digitalQuantity.getValue(),
+						digitalQuantity.getUnit(), UnitEnum.PIXEL));
+			}
+			
+			@Override
+			public UnitEnum getGoalUnit() {
+				return UnitEnum.PIXEL;
+			}
+			
+		};
+		
+		private void assertSameQuantity(DigitalQuantity expected, DigitalQuantity actual) {
+			assertEquals(expected.getUnit(), actual.getUnit());
+			assertEquals(expected.getValue(), actual.getValue());
+		}
+		
+		@DisplayName("View packed records and convert them in place")
+		@Test
+		public void viewRecords() {
+			ByteBuffer memory = ByteBuffer.allocateDirect(3 + 2 * DigitalQuantityBuffer.RECORD_BYTES + 4)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			memory.position(3);
+			memory.put((byte) UnitEnum.INCH.ordinal()).putDouble(1.5);
+			memory.put((byte) UnitEnum.POINT.ordinal()).putDouble(12);
+			memory.position(3);
+			DigitalQuantityBuffer buffer = DigitalQuantityBuffer.ofRecords(memory);
+			assertEquals(2, buffer.size());
+			assertEquals(null, buffer.getUniformUnit());
+			assertSameQuantity(new DigitalQuantity(UnitEnum.INCH, 1.5), buffer.get(0));
+			assertSameQuantity(new DigitalQuantity(UnitEnum.POINT, 12), buffer.get(1));
+			
+			buffer.convert(converter);
+			assertSameQuantity(new DigitalQuantity(UnitEnum.PIXEL, 144), buffer.get(0));
+			assertSameQuantity(new DigitalQuantity(UnitEnum.PIXEL, 16), buffer.get(1));
+			assertEquals(UnitEnum.PIXEL.ordinal(), memory.get(3));
+			assertEquals(144, memory.getDouble(4));
+			
+			buffer.set(1, UnitEnum.METER, 0.123456789);
+			assertSameQuantity(new DigitalQuantity(UnitEnum.METER, 0.123456789), buffer.get(1));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(2));
+		}
+		
+		@DisplayName("View raw values and convert them in place")
+		@Test
+		public void viewValues() {
+			ByteBuffer memory = ByteBuffer.allocateDirect(3 * Double.BYTES);
+			memory.asDoubleBuffer().put(new double[] { 1, 2.5, -0.5 });
+			DigitalQuantityBuffer buffer = DigitalQuantityBuffer.ofValues(memory, UnitEnum.INCH);
+			assertEquals(3, buffer.size());
+			assertSameQuantity(new DigitalQuantity(UnitEnum.INCH, 2.5), buffer.get(1));
+			
+			buffer.convert(converter);
+			assertEquals(UnitEnum.PIXEL, buffer.getUniformUnit());
+			assertEquals(96, memory.getDouble(0));
+			assertEquals(240, memory.getDouble(Double.BYTES));
+			assertEquals(-48, memory.getDouble(2 * Double.BYTES));
+			assertThrows(IllegalArgumentException.class, () -> buffer.set(0, UnitEnum.INCH, 1));
+		}
+		
+		@DisplayName("Map a file in several segments")
+		@Test
+		public void mapSegments(@TempDir Path directory) throws IOException {
+			Path file = directory.resolve("quantities.bin");
+			UnitEnum[] units = UnitEnum.values();
+			int count = 1_000;
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE)) {
+				DigitalQuantityBuffer buffer = DigitalQuantityBuffer.map(channel, FileChannel.MapMode.READ_WRITE, 7,
+						count, DigitalQuantityBuffer.RECORD_BYTES, null, 100);
+				for (int i = 0; i < count; i++) buffer.set(i, units[i % units.length], i / 8.0);
+				buffer.convert(converter);
+				
+				DigitalQuantityBuffer mapped = DigitalQuantityBuffer.mapRecords(channel, FileChannel.MapMode.READ_ONLY,
+						7, count);
+				for (int i = 0; i < count; i++) {
+					DigitalQuantity expected = converter.convertFrom(new DigitalQuantity(units[i % units.length], i / 8.0));
+					assertSameQuantity(expected, mapped.get(i));
+					assertSameQuantity(expected, buffer.get(i));
+				}
+			}
+		}
+		
+	}
+	
+	@DisplayName("Equality and interning tests")
+	@Nested
+	public class EqualityTests {
+		
+		@DisplayName("Quantities with the same unit and rounded value are equal")
+		@Test
+		public void equalQuantities() {
+			DigitalQuantity quantity = new DigitalQuantity(UnitEnum.POINT, 12.123456789);
+			DigitalQuantity same = new DigitalQuantity(UnitEnum.POINT, 12.123457);
+			assertEquals(quantity, same);
+			assertEquals(quantity.hashCode(), same.hashCode());
+			assertEquals(0, quantity.compareTo(same));
+			assertEquals(new DigitalQuantity(UnitEnum.PIXEL, 0), new DigitalQuantity(UnitEnum.PIXEL, -0.0));
+			assertEquals(DigitalQuantity.valueOf("15 cm"), DigitalQuantity.valueOf("15CM"));
+			
+			Set<DigitalQuantity> set = new HashSet<>();
+			set.add(quantity);
+			assertTrue(set.contains(same));
+		}
+		
+		@DisplayName("Quantities with different units or values aren't equal")
+		@Test
+		public void differentQuantities() {
+			DigitalQuantity quantity = new DigitalQuantity(UnitEnum.INCH, 1);
+			assertNotEquals(quantity, new DigitalQuantity(UnitEnum.POINT, 1));
+			assertNotEquals(quantity, new DigitalQuantity(UnitEnum.POINT, 72));
+			assertNotEquals(quantity, new DigitalQuantity(UnitEnum.INCH, 1.0000001));
+			assertNotEquals(quantity, null);
+			assertNotEquals(quantity, "1in");
+		}
+		
+		@DisplayName("Get shared objects for cached values")
+		@Test
+		public void internCachedValues() {
+			assertSame(DigitalQuantity.valueOf(UnitEnum.POINT, 12), DigitalQuantity.valueOf(UnitEnum.POINT, 12.000000001));
+			assertSame(DigitalQuantity.valueOf(UnitEnum.PIXEL, 0), DigitalQuantity.valueOf(UnitEnum.PIXEL, -0.0));
+			assertSame(DigitalQuantity.valueOf(UnitEnum.PIXEL, -128), DigitalQuantity.valueOf("-128px"));
+			assertSame(DigitalQuantity.valueOf(UnitEnum.INCH, 1023), DigitalQuantity.valueOf(UnitEnum.INCH, 1023));
+			assertNotSame(DigitalQuantity.valueOf(UnitEnum.PIXEL, 1), DigitalQuantity.valueOf(UnitEnum.INCH, 1));
+			assertEquals(UnitEnum.INCH, DigitalQuantity.valueOf(UnitEnum.INCH, 1).getUnit());
+			
+			DigitalQuantity notCached = DigitalQuantity.valueOf(UnitEnum.PIXEL, 1024);
+			assertNotSame(notCached, DigitalQuantity.valueOf(UnitEnum.PIXEL, 1024));
+			assertEquals(notCached, DigitalQuantity.valueOf(UnitEnum.PIXEL, 1024));
+			assertEquals(new DigitalQuantity(UnitEnum.PIXEL, 0.5), DigitalQuantity.valueOf(UnitEnum.PIXEL, 0.5));
+			assertThrows(NullPointerException.class, () -> DigitalQuantity.valueOf(null, 1));
+		}
+		
+	}
+	
+	@DisplayName("Arithmetic tests")
+	@Nested
+	public class ArithmeticTests {
+		
+		private final ConversionTable table = ConversionTable.forScreenResolution(96);
+		
+		@DisplayName("Add and subtract quantities in the same and in different units")
+		@Test
+		public void plusAndMinus() {
+			DigitalQuantity inch = DigitalQuantity.valueOf("1in");
+			assertEquals(DigitalQuantity.valueOf("3in"), inch.plus(DigitalQuantity.valueOf("2in")));
+			assertEquals(DigitalQuantity.valueOf("-1in"), inch.minus(DigitalQuantity.valueOf("2in")));
+			assertEquals(DigitalQuantity.valueOf("2in"), inch.plus(DigitalQuantity.valueOf("72pt"), table));
+			assertEquals(DigitalQuantity.valueOf("0.5in"), inch.minus(DigitalQuantity.valueOf("48px"), table));
+			DigitalQuantity sum = DigitalQuantity.valueOf("1cm").plus(DigitalQuantity.valueOf("1mm"), table);
+			assertEquals(UnitEnum.CENTIMETER, sum.getUnit());
+			assertEquals(1.1, sum.getValue());
+			assertThrows(UnsupportedOperationException.class, () -> inch.plus(DigitalQuantity.valueOf("72pt")));
+			assertThrows(NullPointerException.class, () -> inch.plus(DigitalQuantity.valueOf("72pt"), null));
+			assertThrows(NullPointerException.class, () -> inch.minus(null, table));
+		}
+		
+		@DisplayName("Multiply and divide quantities")
+		@Test
+		public void timesAndDividedBy() {
+			DigitalQuantity quantity = DigitalQuantity.valueOf("12pt");
+			assertEquals(DigitalQuantity.valueOf("18pt"), quantity.times(1.5));
+			assertEquals(DigitalQuantity.valueOf("4pt"), quantity.dividedBy(3));
+			assertEquals(new DigitalQuantity(UnitEnum.POINT, 12.0 / 7), quantity.dividedBy(7));
+			assertThrows(ArithmeticException.class, () -> quantity.dividedBy(0));
+			assertThrows(NumberFormatException.class, () -> quantity.times(Double.MAX_VALUE));
+		}
+		
+		@DisplayName("Get the minimum, the maximum and clamp quantities")
+		@Test
+		public void minMaxAndClamp() {
+			DigitalQuantity inch = DigitalQuantity.valueOf("1in");
+			DigitalQuantity small = DigitalQuantity.valueOf("50px");
+			DigitalQuantity large = DigitalQuantity.valueOf("3cm");
+			assertSame(inch, inch.min(large, table));
+			assertEquals(new DigitalQuantity(UnitEnum.INCH, 50.0 / 96), inch.min(small, table));
+			assertSame(inch, inch.max(small, table));
+			assertEquals(new DigitalQuantity(UnitEnum.INCH, 3 / 2.54), inch.max(large, table));
+			assertSame(inch, inch.max(DigitalQuantity.valueOf("72pt"), table));
+			DigitalQuantity two = DigitalQuantity.valueOf("2in");
+			assertSame(two, inch.max(two));
+			assertSame(inch, inch.min(two));
+			
+			assertSame(inch, inch.clamp(small, large, table));
+			assertEquals(new DigitalQuantity(UnitEnum.INCH, 50.0 / 96), DigitalQuantity.valueOf("0in").clamp(small, large, table));
+			assertEquals(new DigitalQuantity(UnitEnum.INCH, 3 / 2.54), two.clamp(small, large, table));
+			assertSame(two, DigitalQuantity.valueOf("5in").clamp(inch, two));
+			assertThrows(IllegalArgumentException.class, () -> inch.clamp(large, small, table));
+			assertThrows(UnsupportedOperationException.class, () -> inch.clamp(small, large));
+		}
+		
+		@DisplayName("Evaluate an expression rounding once")
+		@Test
+		public void evaluateExpression() {
+			DigitalQuantity a = DigitalQuantity.valueOf("1in");
+			DigitalQuantity b = DigitalQuantity.valueOf("12pt");
+			DigitalQuantity c = DigitalQuantity.valueOf("0.5cm");
+			QuantityExpression expression = new QuantityExpression(UnitEnum.PIXEL, table);
+			DigitalQuantity result = expression.plus(a).plus(b).minus(c, 2).toDigitalQuantity();
+			double expected = 96 + 12 * table.getFactor(UnitEnum.POINT, UnitEnum.PIXEL)
+					- 0.5 * table.getFactor(UnitEnum.CENTIMETER, UnitEnum.PIXEL) * 2;
+			assertEquals(UnitEnum.PIXEL, result.getUnit());
+			assertEquals(DigitalQuantity.round(expected), result.getValue());
+			assertEquals(expected, expression.getValue());
+			
+			expression.reset().plus(UnitEnum.INCH, 2).minus(UnitEnum.PIXEL, 32).times(3).dividedBy(4);
+			assertEquals(120, expression.getRoundedValue());
+			expression.max(DigitalQuantity.valueOf("2in")).min(DigitalQuantity.valueOf("500px"));
+			assertEquals(192, expression.getValue());
+			expression.clamp(DigitalQuantity.valueOf("0px"), DigitalQuantity.valueOf("1in"));
+			assertEquals(DigitalQuantity.valueOf("96px"), expression.toDigitalQuantity());
+			
+			assertThrows(ArithmeticException.class, () -> expression.dividedBy(0));
+			assertThrows(IllegalArgumentException.class, () -> expression.clamp(a, c));
+			assertThrows(NullPointerException.class, () -> new QuantityExpression(UnitEnum.PIXEL, null));
+		}
+		
+	}
+	
+	@DisplayName("Binary codec tests")
+	@Nested
+	public class CodecTests {
+		
+		private final double[] values = {
+				0, 1, -1, 12, 145.2, -0.5, 0.00035277778, 1023.9999, 12345678, 1.23456789e-11,
+				1e20, -3.4e38, 0.1f, Double.MAX_VALUE, Double.MIN_VALUE
+		};
+		
+		@DisplayName("Decode the same quantities that were encoded")
+		@Test
+		public void roundTrip() {
+			ByteBuffer buffer = ByteBuffer.allocate(values.length * UnitEnum.values().length * DigitalQuantityCodec.MAX_ENCODED_BYTES);
+			for (UnitEnum unit : UnitEnum.values()) {
+				for (double value : values) {
+					int position = buffer.position();
+					DigitalQuantityCodec.encode(unit, value, buffer);
+					assertEquals(DigitalQuantityCodec.encodedSize(unit, value), buffer.position() - position);
+				}
+			}
+			buffer.flip();
+			for (UnitEnum unit : UnitEnum.values()) {
+				for (double value : values) {
+					assertEquals(new DigitalQuantity(unit, value), DigitalQuantityCodec.decode(buffer));
+				}
+			}
+			assertEquals(0, buffer.remaining());
+		}
+		
+		@DisplayName("Encode usual values in a few bytes")
+		@Test
+		public void compactForms() {
+			assertEquals(2, DigitalQuantityCodec.encodedSize(UnitEnum.PIXEL, 0));
+			assertEquals(2, DigitalQuantityCodec.encodedSize(UnitEnum.PIXEL, -64));
+			assertEquals(3, DigitalQuantityCodec.encodedSize(UnitEnum.POINT, 145.2));
+			assertEquals(4, DigitalQuantityCodec.encodedSize(UnitEnum.MILLIMETER, 1023.99));
+			assertEquals(5, DigitalQuantityCodec.encodedSize(UnitEnum.MILLIMETER, 1023.9999));
+			assertEquals(5, DigitalQuantityCodec.encodedSize(UnitEnum.INCH, 0.1f));
+			assertEquals(9, DigitalQuantityCodec.encodedSize(UnitEnum.INCH, Math.PI));
+			
+			// Multi byte values are big endian whatever the order of the buffer
+			ByteBuffer buffer = ByteBuffer.allocate(DigitalQuantityCodec.MAX_ENCODED_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			DigitalQuantityCodec.encode(UnitEnum.INCH, Math.PI, buffer);
+			buffer.flip().order(ByteOrder.BIG_ENDIAN);
+			assertEquals(UnitEnum.INCH.ordinal(), buffer.get() & 0x0F);
+			assertEquals(Math.PI, buffer.getDouble());
+		}
+		
+		@DisplayName("Encode arrays to buffers and data outputs alike")
+		@Test
+		public void arrays() throws IOException {
+			Random random = new Random(19);
+			DigitalQuantityArray array = new DigitalQuantityArray();
+			for (int i = 0; i < 5000; i++) {
+				UnitEnum unit = UnitEnum.values()[random.nextInt(UnitEnum.values().length)];
+				array.add(unit, random.nextInt(4) == 0 ? values[random.nextInt(values.length)] : random.nextDouble() * 2000);
+			}
+			
+			ByteBuffer buffer = ByteBuffer.allocate(array.size() * DigitalQuantityCodec.MAX_ENCODED_BYTES + 5);
+			DigitalQuantityCodec.encode(array, buffer);
+			buffer.flip();
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DigitalQuantityCodec.encode(array, new DataOutputStream(bytes));
+			assertEquals(buffer, ByteBuffer.wrap(bytes.toByteArray()));
+			
+			DigitalQuantityArray fromBuffer = DigitalQuantityCodec.decodeArray(buffer);
+			DigitalQuantityArray fromInput = DigitalQuantityCodec.decodeArray(
+					new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+			assertEquals(array.size(), fromBuffer.size());
+			assertEquals(array.size(), fromInput.size());
+			for (int i = 0; i < array.size(); i++) {
+				assertEquals(array.get(i), fromBuffer.get(i));
+				assertEquals(array.get(i), fromInput.get(i));
+			}
+			assertEquals(0, DigitalQuantityCodec.decodeArray(ByteBuffer.wrap(new byte[] { 0 })).size());
+		}
+		
+		@DisplayName("Reject full buffers and malformed input")
+		@Test
+		public void invalidInput() {
+			ByteBuffer small = ByteBuffer.allocate(4);
+			assertThrows(BufferOverflowException.class, () -> DigitalQuantityCodec.encode(UnitEnum.INCH, 0.1f, small));
+			assertEquals(0, small.position());
+			assertThrows(IllegalArgumentException.class, () -> DigitalQuantityCodec.decode(ByteBuffer.wrap(new byte[] { 0x0F, 0 })));
+			assertThrows(IllegalArgumentException.class, () -> DigitalQuantityCodec.decode(ByteBuffer.wrap(new byte[] { (byte) 0xF0, 0 })));
+			assertThrows(BufferUnderflowException.class, () -> DigitalQuantityCodec.decode(ByteBuffer.wrap(new byte[] { (byte) 0xE0, 0 })));
+			assertThrows(EOFException.class, () -> DigitalQuantityCodec.decode(
+					new DataInputStream(new ByteArrayInputStream(new byte[] { (byte) 0xD0 }))));
+		}
+		
+		@DisplayName("Serialize quantities in the compact form")
+		@Test
+		public void serialization() throws IOException, ClassNotFoundException {
+			List<DigitalQuantity> quantities = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				quantities.add(new DigitalQuantity(UnitEnum.values()[i % UnitEnum.values().length], i * 1.25));
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+				output.writeObject(quantities);
+			}
+			try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+				assertEquals(quantities, input.readObject());
+			}
+			try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+				List<?> read = (List<?>) input.readObject();
+				assertSame(DigitalQuantity.valueOf(UnitEnum.PIXEL, 0), read.get(0));
+			}
+		}
+		
+	}
+	
+	@DisplayName("Formatter tests")
+	@Nested
+	public class FormatterTests {
+		
+		private final Locale[] locales = {
+				Locale.US, Locale.ENGLISH, Locale.GERMANY, Locale.FRANCE, Locale.forLanguageTag("pt-BR"),
+				Locale.forLanguageTag("ar-EG"), Locale.forLanguageTag("th-TH-u-nu-thai"), Locale.ROOT, null
+		};
+		
+		private void assertSameAsFormat(double value, int decimalPlaces, Locale locale) {
+			String expected = String.format(locale, "%." + decimalPlaces + "f %s", value, "pt");
+			QuantityFormatter formatter = new QuantityFormatter(true, decimalPlaces, locale);
+			assertEquals(expected, formatter.appendTo(new StringBuilder(), UnitEnum.POINT, value).toString(),
+					() -> value + " with " + decimalPlaces + " decimal places for " + locale);
+		}
+		
+		@DisplayName("Format like String.format for every locale")
+		@Test
+		public void sameAsStringFormat() {
+			double[] values = {
+					0, -0.0, 0.5, 1.5, 2.5, -0.5, -0.001, 0.125, 0.0125, 20.5522, -32.533333, 15874.125, 999.9995,
+					0.00035277778, 1.23456789e-11, 12345678, 1e20, -3.4e38, 0.1 + 0.2, Double.MAX_VALUE, Double.MIN_VALUE
+			};
+			for (Locale locale : locales) {
+				for (int decimalPlaces = 0; decimalPlaces <= 12; decimalPlaces++) {
+					for (double value : values) {
+						assertSameAsFormat(value, decimalPlaces, locale);
+					}
+				}
+			}
+		}
+		
+		@DisplayName("Format random quantities like String.format")
+		@Test
+		public void randomQuantities() {
+			Random random = new Random(20);
+			for (int i = 0; i < 20000; i++) {
+				double value = Math.pow(10, random.nextInt(16) - 6) * (random.nextDouble() - 0.3);
+				if (random.nextBoolean()) value = DigitalQuantity.round(value);
+				assertSameAsFormat(value, random.nextInt(10), locales[random.nextInt(locales.length)]);
+			}
+		}
+		
+		@DisplayName("Append to a StringBuilder or an Appendable")
+		@Test
+		public void append() throws IOException {
+			DigitalQuantity quantity = new DigitalQuantity(UnitEnum.CENTIMETER, 20.5522);
+			QuantityFormatter formatter = new QuantityFormatter(false, 2, Locale.forLanguageTag("pt-BR"));
+			assertEquals("20,55cm", formatter.format(quantity));
+			assertEquals("width: 20,55cm", formatter.appendTo(new StringBuilder("width: "), quantity).toString());
+			StringWriter writer = new StringWriter();
+			formatter.appendTo(writer, quantity);
+			assertEquals("20,55cm", writer.toString());
+			assertEquals(quantity.getHumanRepresentation(true, -1, Locale.US),
+					new QuantityFormatter(true, -1, Locale.US).format(quantity));
+			assertEquals(0, new QuantityFormatter(true, -1, Locale.US).getDecimalPlaces());
+		}
+		
+	}
+	
+	@DisplayName("Fixed point length tests")
+	@Nested
+	public class FixedLengthTests {
+		
+		@DisplayName("Convert whole units exactly")
+		@Test
+		public void convertWholeUnits() {
+			assertEquals(FixedLength.UNITS_PER_INCH, FixedLength.of(UnitEnum.INCH, 1, 96));
+			assertEquals(812_800, FixedLength.of(UnitEnum.POINT, 1, 96));
+			assertEquals(2_304_000, FixedLength.of(UnitEnum.MILLIMETER, 1, 96));
+			assertEquals(23_040_000, FixedLength.of(UnitEnum.CENTIMETER, 1, 96));
+			assertEquals(2_304_000_000L, FixedLength.of(UnitEnum.METER, 1, 96));
+			assertEquals(609_600, FixedLength.of(UnitEnum.PIXEL, 1, 96));
+			assertEquals(9525, FixedLength.of(UnitEnum.PIXEL, 1.0 / 64, 96));
+			// 72pt = 1in = 25.4mm = 96px, with no rounding at all
+			assertEquals(FixedLength.of(UnitEnum.INCH, 1, 96), FixedLength.of(UnitEnum.POINT, 72, 96));
+			assertEquals(FixedLength.of(UnitEnum.INCH, 1, 96), FixedLength.of(UnitEnum.MILLIMETER, 25.4, 96));
+			assertEquals(FixedLength.of(UnitEnum.INCH, 1, 96), FixedLength.of(UnitEnum.PIXEL, 96, 96));
+			for (int dpi : new int[] { 72, 96, 120, 144, 192, 240, 288, 300, 384 }) {
+				assertEquals(FixedLength.UNITS_PER_INCH, FixedLength.of(UnitEnum.PIXEL, dpi, dpi), "At " + dpi + " DPI");
+			}
+			// 1px at 100 DPI is 585216 units
+			assertEquals(585_216, FixedLength.of(UnitEnum.PIXEL, 1, 100));
+			// 1px at 128 DPI is 457200 units, 1/3px is 152400 units, rounded up from 152399.67
+			assertEquals(152_400, FixedLength.of(UnitEnum.PIXEL, 1.0 / 3, 128));
+		}
+		
+		@DisplayName("Convert back to the same values")
+		@Test
+		public void convertBack() {
+			Random random = new Random(25);
+			for (UnitEnum unit : UnitEnum.values()) {
+				for (int i = 0; i < 1000; i++) {
+					// Hundredths of a point and micrometers are whole numbers of units
+					double value = unit == UnitEnum.PIXEL || unit == UnitEnum.INCH
+							? random.nextInt(1_000_000) / 64.0 : unit == UnitEnum.POINT
+							? random.nextInt(1_000_000) / 100.0 : unit == UnitEnum.METER
+							? random.nextInt(1_000_000) / 1e6 : random.nextInt(1_000_000) / 1000.0;
+					long length = FixedLength.of(unit, value, 96);
+					assertEquals(value, FixedLength.toUnit(length, unit, 96), value + unit.getSymbol());
+				}
+			}
+			assertEquals(new DigitalQuantity(UnitEnum.CENTIMETER, 2.54), FixedLength.toQuantity(
+					FixedLength.of(new DigitalQuantity(UnitEnum.PIXEL, 96), 96), UnitEnum.CENTIMETER, 96));
+			assertEquals(1.0 / 3, FixedLength.toUnit(FixedLength.of(UnitEnum.PIXEL, 1.0 / 3, 128), UnitEnum.PIXEL, 128), 1e-6);
+		}
+		
+		@DisplayName("Sum lengths without rounding errors")
+		@Test
+		public void sumExactly() {
+			long[] lengths = new long[10];
+			FixedLength.of(UnitEnum.MILLIMETER, new double[] { 0.1, 0.1, 0.1, 0.1, 0.1, 0.1, 0.1, 0.1, 0.1, 0.1 }, 0,
+					lengths, 0, 10, 96);
+			assertEquals(FixedLength.of(UnitEnum.MILLIMETER, 1, 96), FixedLength.sum(lengths, 0, 10));
+			assertEquals(1.0, FixedLength.toUnit(FixedLength.sum(lengths, 0, 10), UnitEnum.MILLIMETER, 96));
+			
+			long[] widths = { FixedLength.of(UnitEnum.PIXEL, 10, 96), FixedLength.of(UnitEnum.POINT, 12, 96) };
+			long[] margins = { FixedLength.of(UnitEnum.PIXEL, 2, 96), FixedLength.of(UnitEnum.POINT, 3, 96) };
+			long[] result = new long[2];
+			FixedLength.add(widths, 0, margins, 0, result, 0, 2);
+			assertEquals(FixedLength.of(UnitEnum.PIXEL, 12, 96), result[0]);
+			assertEquals(FixedLength.of(UnitEnum.POINT, 15, 96), result[1]);
+			FixedLength.subtract(result, 0, margins, 0, result, 0, 2);
+			assertArrayEquals(widths, result);
+			FixedLength.add(result, 1, 1, FixedLength.of(UnitEnum.POINT, 1, 96));
+			assertEquals(13.0, FixedLength.toUnit(result[1], UnitEnum.POINT, 96));
+			
+			double[] points = new double[2];
+			FixedLength.toUnit(UnitEnum.POINT, widths, 0, points, 0, 2, 96);
+			assertArrayEquals(new double[] { 7.5, 12 }, points);
+			double[] pixels = new double[2];
+			FixedLength.toUnit(UnitEnum.PIXEL, widths, 0, pixels, 0, 2, 100);
+			assertArrayEquals(new double[] { 10.0 * 100 / 96, 16.666666666666668 }, pixels);
+		}
+		
+		@DisplayName("Handle invalid parameters")
+		@Test
+		public void invalidParameters_ShouldThrow() {
+			assertThrows(IllegalArgumentException.class, () -> FixedLength.of(UnitEnum.POINT, Double.NaN, 96));
+			assertThrows(IllegalArgumentException.class, () -> FixedLength.of(UnitEnum.POINT, Double.POSITIVE_INFINITY, 96));
+			assertThrows(IllegalArgumentException.class, () -> FixedLength.of(UnitEnum.METER, 1e10, 96));
+			assertThrows(IllegalArgumentException.class, () -> FixedLength.of(UnitEnum.PIXEL, 1, 0));
+			assertThrows(IllegalArgumentException.class, () -> FixedLength.toUnit(1, UnitEnum.PIXEL, -96));
+			assertThrows(NullPointerException.class, () -> FixedLength.of(null, 1, 96));
+			long[] lengths = new long[2];
+			assertThrows(IllegalArgumentException.class,
+					() -> FixedLength.of(UnitEnum.INCH, new double[] { 1, Double.NaN }, 0, lengths, 0, 2, 96));
+			assertEquals(FixedLength.UNITS_PER_INCH, lengths[0]);
+			assertThrows(IndexOutOfBoundsException.class, () -> FixedLength.sum(lengths, 1, 2));
+			assertThrows(IndexOutOfBoundsException.class,
+					() -> FixedLength.add(lengths, 0, new long[1], 0, lengths, 0, 2));
+		}
+		
+	}
+	
+	@DisplayName("Rounding tests")
+	@Nested
+	public class RoundingTests {
+		
+		private final MathContext mathContext = new MathContext(8);
+		
+		private void assertSameAsBigDecimal(double value) {
+			double expected = new BigDecimal(value, mathContext).doubleValue();
+			assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(DigitalQuantity.round(value)),
+					"Rounding " + value);
+		}
+		
+		@DisplayName("Round values across the whole double range")
+		@Test
+		public void roundRandomBitPatterns() {
+			Random random = new Random(8472738932779828798L);
+			for (int i = 0; i < 200_000; i++) {
+				double value = Double.longBitsToDouble(random.nextLong());
+				if (Double.isFinite(value)) assertSameAsBigDecimal(value);
+			}
+		}
+		
+		@DisplayName("Round values in the usual layout range")
+		@Test
+		public void roundUsualValues() {
+			Random random = new Random(42);
+			for (int i = 0; i < 1_000_000; i++) {
+				assertSameAsBigDecimal((random.nextDouble() - 0.5) * 20000);
+			}
+		}
+		
+		@DisplayName("Round values lying on or next to rounding ties")
+		@Test
+		public void roundTies() {
+			for (int i = 0; i < 100_000; i++) {
+				double tie = (10_000_000 + i + 0.5) / 1e5;
+				assertSameAsBigDecimal(tie);
+				assertSameAsBigDecimal(Math.nextUp(tie));
+				assertSameAsBigDecimal(Math.nextDown(tie));
+				assertSameAsBigDecimal(-tie);
+			}
+			assertSameAsBigDecimal(99999999.5);
+			assertSameAsBigDecimal(9999999.95);
+			assertSameAsBigDecimal(0.999999995);
+		}
+		
+		@DisplayName("Round special values")
+		@Test
+		public void roundSpecialValues() {
+			double[] values = { 0.0, -0.0, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE,
+					-Double.MAX_VALUE, 1e-22, 1e22, 1e23, 1e-23, 1, -1, 1e7, 1e8, 145.20, 1.0 / 3 };
+			for (double value : values) assertSameAsBigDecimal(value);
+		}
+		
+		@DisplayName("Round NaN and infinite values")
+		@Test
+		public void roundNonFiniteValues_ShouldThrowNumberFormat() {
+			assertThrows(NumberFormatException.class, () -> DigitalQuantity.round(Double.NaN));
+			assertThrows(NumberFormatException.class, () -> DigitalQuantity.round(Double.POSITIVE_INFINITY));
+			assertThrows(NumberFormatException.class, () -> new DigitalQuantity(UnitEnum.PIXEL, Double.NEGATIVE_INFINITY));
+		}
+		
+	}
 
 }
@@ -1,12 +1,40 @@
 package com.github.pedroter7.digitalunits.converter;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityArray;
+import com.github.pedroter7.digitalunits.FixedLength;
 import com.github.pedroter7.digitalunits.UnitEnum;
 
 @DisplayName("UnitConverter tests")
@@ -184,7 +212,7 @@ public class UnitConverterTests {
 				DigitalQuantity digitalQuantity = DigitalQuantity.valueOf("12.01pt");
 				DigitalQuantity converted = converter.convertFrom(digitalQuantity);
 				// Calculate what should be the result
-				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.METER, 12.01 * 0.00035278);
+				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.METER, 12.01 * 0.0254 / 72);
 				assertEquals(0, converted.compareTo(shouldBe));
 			}
 			
@@ -273,7 +301,7 @@ public class UnitConverterTests {
 				DigitalQuantity digitalQuantity = DigitalQuantity.valueOf("12.01pt");
 				DigitalQuantity converted = converter.convertFrom(digitalQuantity);
 				// Calculate what should be the result
-				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.CENTIMETER, 12.01 * 0.035278);
+				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.CENTIMETER, 12.01 * 2.54 / 72);
 				assertEquals(0, converted.compareTo(shouldBe));
 			}
 			
@@ -320,7 +348,7 @@ public class UnitConverterTests {
 				DigitalQuantity digitalQuantity = DigitalQuantity.valueOf("5m");
 				DigitalQuantity converted = converter.convertFrom(digitalQuantity);
 				// Calculate what should be the result
-				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.POINT, 5.0 * 2834.64566929);
+				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.POINT, 5.0 * 72 / 0.0254);
 				assertEquals(0, converted.compareTo(shouldBe));
 			}
 			
@@ -331,7 +359,7 @@ public class UnitConverterTests {
 				DigitalQuantity digitalQuantity = DigitalQuantity.valueOf("50cm");
 				DigitalQuantity converted = converter.convertFrom(digitalQuantity);
 				// Calculate what should be the result
-				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.POINT, 50.0 * 28.34645669);
+				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.POINT, 50.0 * 72 / 2.54);
 				assertEquals(0, converted.compareTo(shouldBe));
 			}
 			
@@ -342,7 +370,7 @@ public class UnitConverterTests {
 				DigitalQuantity digitalQuantity = DigitalQuantity.valueOf("100mm");
 				DigitalQuantity converted = converter.convertFrom(digitalQuantity);
 				// Calculate what should be the result
-				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.POINT, 100.0 * 2.83464567);
+				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.POINT, 100.0 * 72 / 25.4);
 				assertEquals(0, converted.compareTo(shouldBe));
 			}
 			
@@ -373,7 +401,7 @@ public class UnitConverterTests {
 				DigitalQuantity digitalQuantity = DigitalQuantity.valueOf("-50.54mm");
 				DigitalQuantity converted = converter.convertFrom(digitalQuantity);
 				// Calculate what should be the result
-				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.POINT, -50.54 * 2.83464567);
+				DigitalQuantity shouldBe = new DigitalQuantity(UnitEnum.POINT, -50.54 * 72 / 25.4);
 				assertEquals(0, converted.compareTo(shouldBe));
 			}
 			
@@ -469,5 +497,965 @@ public class UnitConverterTests {
 		}
 		
 	}
+	
+	@DisplayName("ConversionTable tests")
+	@Nested
+	public class ConversionTableTests {
+		
+		private final ConversionTable table = ConversionTable.forScreenResolution(96);
+		
+		@DisplayName("Converting to the same unit keeps the value")
+		@Test
+		public void convertToSameUnit() {
+			for (UnitEnum unit : UnitEnum.values()) {
+				assertEquals(1, table.getFactor(unit, unit));
+				assertEquals(12.01, table.convert(12.01, unit, unit));
+			}
+		}
+		
+		@DisplayName("Converting with a screen resolution dependent factor")
+		@Test
+		public void convertWithScreenResolution() {
+			assertEquals(96, table.getScreenResolution());
+			assertEquals(2, table.convert(192, UnitEnum.PIXEL, UnitEnum.INCH));
+			assertEquals(96, table.convert(72, UnitEnum.POINT, UnitEnum.PIXEL));
+		}
+		
+		@DisplayName("Create a ConversionTable with an invalid screen resolution")
+		@Test
+		public void createWithInvalidScreenResolution_ShouldThrowIllegalArgument() {
+			assertThrows(IllegalArgumentException.class, () -> ConversionTable.forScreenResolution(0));
+			assertThrows(IllegalArgumentException.class, () -> ConversionTable.forScreenResolution(-96));
+		}
+		
+		@DisplayName("Get a factor for a null unit")
+		@Test
+		public void getFactorWithNullUnit_ShouldThrowNullPointer() {
+			assertThrows(NullPointerException.class, () -> table.getFactor(null, UnitEnum.PIXEL));
+			assertThrows(NullPointerException.class, () -> table.getFactor(UnitEnum.PIXEL, null));
+		}
+		
+	}
+	
+	@DisplayName("Consistency of conversions between every pair of units")
+	@Nested
+	public class ConversionConsistencyTests {
+		
+		private static final int SAMPLES = 2_000;
+		
+		private final UnitEnum[] units = UnitEnum.values();
+		private final Random random = new Random(20);
+		
+		private int[] screenResolutions() {
+			int[] dpis = { 1, 72, 96, 110, 144, 300, 600, 0, 0, 0 };
+			for (int i = 7; i < dpis.length; i++) dpis[i] = 1 + random.nextInt(10_000);
+			return dpis;
+		}
+		
+		private double randomValue() {
+			return DigitalQuantity.round((random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12) - 4));
+		}
+		
+		// The length of an inch in each unit, after 1in = 2.54cm = 25.4mm = 0.0254m = 72pt = dpi px
+		private BigDecimal unitsPerInch(UnitEnum unit, int dpi) {
+			switch (unit) {
+			case PIXEL: return BigDecimal.valueOf(dpi);
+			case METER: return new BigDecimal("0.0254");
+			case CENTIMETER: return new BigDecimal("2.54");
+			case MILLIMETER: return new BigDecimal("25.4");
+			case POINT: return BigDecimal.valueOf(72);
+			default: return BigDecimal.ONE;
+			}
+		}
+		
+		private void assertClose(double expected, double actual, double relativeTolerance, String message) {
+			double tolerance = Math.abs(expected) * relativeTolerance;
+			assertEquals(expected, actual, tolerance, message);
+		}
+		
+		@DisplayName("Every factor is the exact ratio between the units, correctly rounded")
+		@Test
+		public void factorsAreExactRatios() {
+			for (int dpi : screenResolutions()) {
+				ConversionTable table = ConversionTable.forScreenResolution(dpi);
+				for (UnitEnum from : units) {
+					for (UnitEnum to : units) {
+						BigDecimal exact = unitsPerInch(to, dpi).divide(unitsPerInch(from, dpi), MathContext.DECIMAL128);
+						assertEquals(exact.doubleValue(), table.getFactor(from, to), from + " to " + to + " at " + dpi);
+					}
+				}
+			}
+		}
+		
+		@DisplayName("Converting there and back gives the original value")
+		@Test
+		public void roundTrips() {
+			for (int dpi : screenResolutions()) {
+				ConversionTable table = ConversionTable.forScreenResolution(dpi);
+				for (UnitEnum from : units) {
+					for (UnitEnum to : units) {
+						UnitConverter forth = new TableUnitConverter(to, table);
+						UnitConverter back = new TableUnitConverter(from, table);
+						assertClose(1, table.getFactor(from, to) * table.getFactor(to, from), 0x1p-51, from + " to " + to);
+						for (int i = 0; i < SAMPLES; i++) {
+							double value = randomValue();
+							double converted = forth.convertFrom(from, value);
+							assertClose(value, back.convertFrom(to, converted), 1e-7, value + " " + from + " to " + to);
+						}
+					}
+				}
+			}
+		}
+		
+		@DisplayName("Converting through any unit gives the direct conversion")
+		@Test
+		public void conversionsCompose() {
+			for (int dpi : screenResolutions()) {
+				ConversionTable table = ConversionTable.forScreenResolution(dpi);
+				for (UnitEnum from : units) {
+					for (UnitEnum through : units) {
+						for (UnitEnum to : units) {
+							double composed = table.getFactor(from, through) * table.getFactor(through, to);
+							assertClose(table.getFactor(from, to), composed, 0x1p-50, from + " to " + through + " to " + to);
+							for (int i = 0; i < SAMPLES / 10; i++) {
+								double value = randomValue();
+								double direct = table.convert(value, from, to);
+								assertClose(direct, table.convert(table.convert(value, from, through), through, to), 0x1p-50,
+										value + " " + from + " to " + through + " to " + to);
+							}
+						}
+					}
+				}
+			}
+		}
+		
+		@DisplayName("Every conversion is a single multiplication and a single rounding")
+		@Test
+		public void conversionsAreSingleHop() {
+			for (int dpi : screenResolutions()) {
+				ConversionTable table = ConversionTable.forScreenResolution(dpi);
+				for (UnitEnum from : units) {
+					for (UnitEnum to : units) {
+						UnitConverter converter = new TableUnitConverter(to, table);
+						for (int i = 0; i < SAMPLES; i++) {
+							double value = randomValue();
+							double expected = DigitalQuantity.round(value * table.getFactor(from, to));
+							DigitalQuantity converted = converter.convertFrom(new DigitalQuantity(from, value));
+							assertEquals(to, converted.getUnit());
+							assertEquals(expected, converted.getValue(), value + " " + from + " to " + to);
+						}
+					}
+				}
+			}
+		}
+		
+	}
+	
+	@DisplayName("ConverterRegistry tests")
+	@Nested
+	public class ConverterRegistryTests {
+		
+		@DisplayName("Get the same converter for the same unit and resolution")
+		@Test
+		public void getSameConverter() {
+			ConverterRegistry registry = new ConverterRegistry();
+			for (int dpi : new int[] { 1, 96, ConverterRegistry.MAX_INDEXED_RESOLUTION, ConverterRegistry.MAX_INDEXED_RESOLUTION + 1, 4800 }) {
+				ConversionTable table = registry.getConversionTable(dpi);
+				assertEquals(dpi, table.getScreenResolution());
+				assertSame(table, registry.getConversionTable(dpi));
+				for (UnitEnum goalUnit : UnitEnum.values()) {
+					UnitConverter converter = registry.getConverter(goalUnit, dpi);
+					assertEquals(goalUnit, converter.getGoalUnit());
+					assertSame(converter, registry.getConverter(goalUnit, dpi));
+					for (UnitEnum fromUnit : UnitEnum.values()) {
+						assertEquals(DigitalQuantity.round(table.getFactor(fromUnit, goalUnit) * 10), converter.convertFrom(fromUnit, 10));
+					}
+				}
+			}
+			assertNotSame(registry.getConverter(UnitEnum.PIXEL, 96), registry.getConverter(UnitEnum.PIXEL, 72));
+			assertSame(ConverterRegistry.getDefault(), ConverterRegistry.getDefault());
+		}
+		
+		@DisplayName("Get converters from many threads at once")
+		@Test
+		public void getConvertersConcurrently() throws Exception {
+			ConverterRegistry registry = new ConverterRegistry();
+			int threads = 8;
+			ExecutorService executor = Executors.newFixedThreadPool(threads);
+			try {
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<UnitConverter[]>> results = new ArrayList<>();
+				for (int t = 0; t < threads; t++) {
+					results.add(executor.submit(() -> {
+						start.await();
+						UnitConverter[] converters = new UnitConverter[2];
+						converters[0] = registry.getConverter(UnitEnum.POINT, 110);
+						converters[1] = registry.getConverter(UnitEnum.POINT, 2400);
+						return converters;
+					}));
+				}
+				start.countDown();
+				UnitConverter[] first = results.get(0).get();
+				for (Future<UnitConverter[]> result : results) {
+					assertSame(first[0], result.get()[0]);
+					assertSame(first[1], result.get()[1]);
+				}
+			} finally {
+				executor.shutdown();
+			}
+		}
+		
+		@DisplayName("Keep a bounded number of resolutions above the indexed ones")
+		@Test
+		public void boundOtherResolutions() {
+			ConverterRegistry registry = new ConverterRegistry();
+			int first = ConverterRegistry.MAX_INDEXED_RESOLUTION + 1;
+			int last = first + ConverterRegistry.MAX_OTHER_RESOLUTIONS * 2;
+			List<UnitConverter> converters = new ArrayList<>();
+			for (int dpi = first; dpi < last; dpi++) {
+				converters.add(registry.getConverter(UnitEnum.PIXEL, dpi));
+			}
+			for (int dpi = first; dpi < last; dpi++) {
+				UnitConverter converter = registry.getConverter(UnitEnum.PIXEL, dpi);
+				assertEquals(dpi, converter.convertFrom(UnitEnum.INCH, 1));
+				if (dpi - first < ConverterRegistry.MAX_OTHER_RESOLUTIONS) {
+					assertSame(converters.get(dpi - first), converter);
+				} else {
+					assertNotSame(converters.get(dpi - first), converter);
+				}
+			}
+		}
+		
+		@DisplayName("Get converters with invalid parameters")
+		@Test
+		public void getInvalid_ShouldThrow() {
+			ConverterRegistry registry = ConverterRegistry.getDefault();
+			assertThrows(IllegalArgumentException.class, () -> registry.getConverter(UnitEnum.PIXEL, 0));
+			assertThrows(IllegalArgumentException.class, () -> registry.getConversionTable(-96));
+			assertThrows(NullPointerException.class, () -> registry.getConverter(null, 96));
+		}
+		
+	}
+	
+	@DisplayName("ConversionEngine tests")
+	@Nested
+	public class ConversionEngineTests {
+		
+		@DisplayName("Convert with integer and fractional screen resolutions")
+		@Test
+		public void convertWithFractionalResolution() {
+			ConversionEngine engine = new ConversionEngine();
+			// 96 DPI scaled by 1.25 is an integer resolution
+			ConversionTable scaled = engine.getConversionTable(96 * 1.25);
+			ConversionTable integer = ConversionTable.forScreenResolution(120);
+			for (UnitEnum from : UnitEnum.values()) {
+				for (UnitEnum to : UnitEnum.values()) {
+					assertEquals(integer.getFactor(from, to), scaled.getFactor(from, to));
+				}
+			}
+			ConversionTable fractional = engine.getConversionTable(110.5);
+			assertEquals(110.5, fractional.getFractionalScreenResolution());
+			assertEquals(111, fractional.getScreenResolution());
+			assertEquals(221, engine.convert(2, UnitEnum.INCH, UnitEnum.PIXEL, 110.5));
+			double exact = new BigDecimal("2.54").divide(new BigDecimal("110.5"), MathContext.DECIMAL128).doubleValue();
+			assertEquals(exact, fractional.getFactor(UnitEnum.PIXEL, UnitEnum.CENTIMETER));
+			DigitalQuantity converted = engine.convert(DigitalQuantity.valueOf("13px"), UnitEnum.CENTIMETER, 110.5);
+			assertEquals(UnitEnum.CENTIMETER, converted.getUnit());
+			assertEquals(DigitalQuantity.round(13 * exact), converted.getValue());
+		}
+		
+		@DisplayName("Bulk conversion matches scalar conversion")
+		@Test
+		public void bulkMatchesScalar() {
+			ConversionEngine engine = ConversionEngine.getDefault();
+			double[] source = { -3.5, 0, 1, 17.25, 1234.5678 };
+			double[] destination = new double[source.length];
+			engine.convert(UnitEnum.POINT, UnitEnum.MILLIMETER, 141.75, source, 0, destination, 0, source.length);
+			for (int i = 0; i < source.length; i++) {
+				assertEquals(engine.convert(source[i], UnitEnum.POINT, UnitEnum.MILLIMETER, 141.75), destination[i]);
+			}
+		}
+		
+		@DisplayName("Keep a bounded number of resolutions")
+		@Test
+		public void cacheIsBounded() {
+			ConversionEngine engine = new ConversionEngine(6);
+			assertEquals(8, engine.getMaximumSize());
+			UnitConverter converter = engine.getConverter(UnitEnum.PIXEL, 72.5);
+			assertSame(converter, engine.getConverter(UnitEnum.PIXEL, 72.5));
+			for (int i = 1; i <= 1000; i++) {
+				double dpi = 72 + i * 0.25;
+				UnitConverter other = engine.getConverter(UnitEnum.PIXEL, dpi);
+				assertEquals(dpi, other.convertFrom(UnitEnum.INCH, 1));
+				assertTrue(engine.cachedCount() <= engine.getMaximumSize());
+			}
+			assertEquals(72.5, engine.getConverter(UnitEnum.PIXEL, 72.5).convertFrom(UnitEnum.INCH, 1));
+		}
+		
+		@DisplayName("Keep every resolution while they fit in the cache")
+		@Test
+		public void keepResolutionsThatFit() {
+			ConversionEngine engine = new ConversionEngine(256);
+			List<UnitConverter> converters = new ArrayList<>();
+			// Scalings in steps of 0.25 only differ in a few high bits
+			for (int i = 1; i <= 32; i++) {
+				converters.add(engine.getConverter(UnitEnum.PIXEL, 96 * i * 0.25));
+			}
+			for (int i = 1; i <= 32; i++) {
+				assertSame(converters.get(i - 1), engine.getConverter(UnitEnum.PIXEL, 96 * i * 0.25));
+			}
+		}
+		
+		@DisplayName("Convert with invalid parameters")
+		@Test
+		public void invalid_ShouldThrow() {
+			ConversionEngine engine = ConversionEngine.getDefault();
+			assertThrows(IllegalArgumentException.class, () -> new ConversionEngine(0));
+			assertThrows(IllegalArgumentException.class, () -> engine.getConverter(UnitEnum.PIXEL, 0));
+			assertThrows(IllegalArgumentException.class, () -> engine.getConverter(UnitEnum.PIXEL, -96.5));
+			assertThrows(IllegalArgumentException.class, () -> engine.getConverter(UnitEnum.PIXEL, Double.NaN));
+			assertThrows(IllegalArgumentException.class, () -> engine.getConversionTable(Double.POSITIVE_INFINITY));
+			assertThrows(NullPointerException.class, () -> engine.getConverter(null, 96));
+			assertThrows(NullPointerException.class, () -> engine.convert(1, null, UnitEnum.PIXEL, 96));
+		}
+		
+	}
+	
+	@DisplayName("CachingUnitConverter tests")
+	@Nested
+	public class CachingUnitConverterTests {
+		
+		private final UnitConverter converter = new DpiConverterFactory(96).factory(UnitEnum.PIXEL);
+		private int conversions;
+		
+		private final UnitConverter countingConverter = new UnitConverter() {
+			
+			@Override
+			public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+				conversions++;
+				return converter.convertFrom(digitalQuantity);
+			}
+			
+			@Override
+			public double convertFrom(UnitEnum fromUnit, double value) {
+				conversions++;
+				return converter.convertFrom(fromUnit, value);
+			}
+			
+			@Override
+			public UnitEnum getGoalUnit() {
+				return converter.getGoalUnit();
+			}
+			
+		};
+		
+		@DisplayName("Cached results are the same as the wrapped converter ones")
+		@Test
+		public void sameResults() {
+			CachingUnitConverter caching = new CachingUnitConverter(converter, 1024, true);
+			Random random = new Random(16);
+			for (int i = 0; i < 10_000; i++) {
+				UnitEnum from = UnitEnum.values()[random.nextInt(UnitEnum.values().length)];
+				// A small set of values, so most conversions are hits
+				double value = random.nextInt(40) * 0.5 - 4;
+				assertEquals(converter.convertFrom(from, value), caching.convertFrom(from, value));
+			}
+			assertEquals(10_000, caching.getHitCount() + caching.getMissCount());
+			assertTrue(caching.getHitCount() > caching.getMissCount());
+			
+			double[] values = { 12, 12.5, -3, 12, 0 };
+			double[] expected = new double[values.length];
+			converter.convertFrom(UnitEnum.POINT, values, 0, expected, 0, values.length);
+			caching.convertFrom(UnitEnum.POINT, values, 0, values.length);
+			for (int i = 0; i < values.length; i++) {
+				assertEquals(expected[i], values[i]);
+			}
+			
+			DigitalQuantity converted = caching.convertFrom(DigitalQuantity.valueOf("12pt"));
+			assertEquals(converter.convertFrom(DigitalQuantity.valueOf("12pt")), converted);
+			assertEquals(UnitEnum.PIXEL, caching.getGoalUnit());
+			assertEquals(null, caching.convertFrom(null));
+		}
+		
+		@DisplayName("Count hits and misses")
+		@Test
+		public void countHitsAndMisses() {
+			CachingUnitConverter caching = new CachingUnitConverter(countingConverter, 16, true);
+			caching.convertFrom(UnitEnum.POINT, 12);
+			caching.convertFrom(UnitEnum.POINT, 12);
+			caching.convertFrom(UnitEnum.INCH, 12);
+			caching.convertFrom(UnitEnum.POINT, 12);
+			assertEquals(2, caching.getHitCount());
+			assertEquals(2, caching.getMissCount());
+			assertEquals(2, conversions);
+			
+			double[] values = { 12, 13, 12, 14 };
+			caching.convertFrom(UnitEnum.POINT, values, 0, values.length);
+			assertEquals(4, caching.getHitCount());
+			assertEquals(4, caching.getMissCount());
+			assertEquals(4, conversions);
+			
+			CachingUnitConverter notRecording = new CachingUnitConverter(countingConverter, 16);
+			notRecording.convertFrom(UnitEnum.POINT, 12);
+			notRecording.convertFrom(UnitEnum.POINT, 12);
+			assertEquals(0, notRecording.getHitCount());
+			assertEquals(0, notRecording.getMissCount());
+			assertEquals(5, conversions);
+		}
+		
+		@DisplayName("Keep the results that are used while evicting the others")
+		@Test
+		public void evictUnusedResults() {
+			CachingUnitConverter caching = new CachingUnitConverter(countingConverter, 8, true);
+			assertEquals(8, caching.getCapacity());
+			double hot = caching.convertFrom(UnitEnum.POINT, 12);
+			for (int i = 0; i < 1000; i++) {
+				assertEquals(converter.convertFrom(UnitEnum.MILLIMETER, i), caching.convertFrom(UnitEnum.MILLIMETER, i));
+				assertEquals(hot, caching.convertFrom(UnitEnum.POINT, 12));
+			}
+			assertEquals(1001, caching.getMissCount());
+			assertEquals(1001, conversions);
+		}
+		
+		@DisplayName("Create caching converters with invalid parameters")
+		@Test
+		public void invalid_ShouldThrow() {
+			assertThrows(NullPointerException.class, () -> new CachingUnitConverter(null, 16));
+			assertThrows(IllegalArgumentException.class, () -> new CachingUnitConverter(converter, 0));
+			CachingUnitConverter caching = new CachingUnitConverter(converter, 16);
+			assertThrows(NullPointerException.class, () -> caching.convertFrom(null, 1));
+			assertThrows(NumberFormatException.class, () -> caching.convertFrom(UnitEnum.POINT, Double.NaN));
+			assertThrows(IndexOutOfBoundsException.class, () -> caching.convertFrom(UnitEnum.POINT, new double[2], 1, 2));
+		}
+		
+	}
+	
+	@DisplayName("CrossUnitComparator tests")
+	@Nested
+	public class CrossUnitComparatorTests {
+		
+		private final CrossUnitComparator comparator = CrossUnitComparator.forScreenResolution(96);
+		
+		private List<DigitalQuantity> randomQuantities(int size) {
+			Random random = new Random(size);
+			List<DigitalQuantity> quantities = new ArrayList<>();
+			for (int i = 0; i < size; i++) {
+				UnitEnum unit = UnitEnum.values()[random.nextInt(UnitEnum.values().length)];
+				// Some repeated values, so there are ties in the same unit
+				double value = random.nextInt(8) == 0 ? 12 : (random.nextDouble() - 0.3) * Math.pow(10, random.nextInt(8) - 3);
+				quantities.add(new DigitalQuantity(unit, value));
+			}
+			return quantities;
+		}
+		
+		@DisplayName("Compare quantities in different units")
+		@Test
+		public void compareAcrossUnits() {
+			UnitEnum[] units = UnitEnum.values();
+			for (int dpi : new int[] { 72, 96, 120, 144, 150, 192, 300 }) {
+				CrossUnitComparator comparator = CrossUnitComparator.forScreenResolution(dpi);
+				// Lengths in sixteenths of an inch, which every unit measures with at most 8 significant digits
+				for (int sixteenths = -64; sixteenths <= 1600; sixteenths += 7) {
+					for (UnitEnum first : units) {
+						DigitalQuantity length = inches(first, sixteenths / 16.0, dpi);
+						DigitalQuantity longer = inches(first, (sixteenths + 1) / 16.0, dpi);
+						for (UnitEnum second : units) {
+							DigitalQuantity same = inches(second, sixteenths / 16.0, dpi);
+							String message = length + " and " + same + " at " + dpi + " DPI";
+							assertEquals(0, comparator.compare(length, same), message);
+							assertEquals(comparator.key(first, length.getValue()), comparator.key(second, same.getValue()), message);
+							assertTrue(comparator.compare(same, longer) < 0, message);
+							assertTrue(comparator.compare(longer, same) > 0, message);
+						}
+					}
+				}
+			}
+			assertTrue(CrossUnitComparator.forScreenResolution(192)
+					.compare(DigitalQuantity.valueOf("100px"), DigitalQuantity.valueOf("1in")) < 0);
+			assertTrue(comparator.compare(DigitalQuantity.valueOf("100px"), DigitalQuantity.valueOf("1in")) > 0);
+			// The quantities of each pair are about 58, 23, 8.1 and 2.3 canonical units apart
+			String[][] apart = { { "12.000001in", "12.000002in" }, { "12.000001cm", "12.000002cm" },
+					{ "12.00001pt", "12.00002pt" }, { "12.000001mm", "12.000002mm" } };
+			for (String[] pair : apart) {
+				DigitalQuantity first = DigitalQuantity.valueOf(pair[0]);
+				DigitalQuantity second = DigitalQuantity.valueOf(pair[1]);
+				assertTrue(comparator.compare(first, second) < 0, pair[0]);
+				assertTrue(comparator.compare(second, first) > 0, pair[0]);
+			}
+			// 0.6096 and 1.2192 canonical units past 12px both round to the same unit
+			DigitalQuantity first = DigitalQuantity.valueOf("12.000001px");
+			DigitalQuantity second = DigitalQuantity.valueOf("12.000002px");
+			assertTrue(first.compareTo(second) < 0);
+			assertEquals(0, comparator.compare(first, second));
+			assertEquals(FixedLength.UNITS_PER_INCH, comparator.key(UnitEnum.PIXEL, 96));
+		}
+		
+		private DigitalQuantity inches(UnitEnum unit, double inches, int dpi) {
+			return new DigitalQuantity(unit, ConversionTable.forScreenResolution(dpi).convert(inches, UnitEnum.INCH, unit));
+		}
+		
+		@DisplayName("Sorting gives the same order as List.sort with the comparator")
+		@Test
+		public void sortLikeListSort() {
+			for (int size : new int[] { 0, 1, 2, 100, 20_000 }) {
+				List<DigitalQuantity> expected = randomQuantities(size);
+				List<DigitalQuantity> sorted = new ArrayList<>(expected);
+				List<DigitalQuantity> linked = new LinkedList<>(expected);
+				DigitalQuantityArray array = new DigitalQuantityArray();
+				UnitEnum[] units = new UnitEnum[size];
+				double[] values = new double[size];
+				for (int i = 0; i < size; i++) {
+					array.add(expected.get(i));
+					units[i] = expected.get(i).getUnit();
+					values[i] = expected.get(i).getValue();
+				}
+				int[] indexes = comparator.sortedIndexes(units, values, size);
+				expected.sort(comparator);
+				comparator.sort(sorted);
+				comparator.sort(linked);
+				comparator.sort(array);
+				assertEquals(expected, sorted);
+				assertEquals(expected, linked);
+				for (int i = 0; i < size; i++) {
+					assertEquals(expected.get(i), array.get(i));
+					assertSame(expected.get(i).getUnit(), units[indexes[i]]);
+					assertEquals(expected.get(i).getValue(), values[indexes[i]]);
+				}
+			}
+		}
+		
+		@DisplayName("Sort keys of every sign and magnitude")
+		@Test
+		public void sortIndexesOfAnyKeys() {
+			double[] keys = { 3, -0.5, Double.POSITIVE_INFINITY, 0, -1e300, 1e-300, -2, Double.NEGATIVE_INFINITY, 3, Double.MIN_VALUE };
+			long[] sortKeys = new long[keys.length];
+			for (int i = 0; i < keys.length; i++) {
+				sortKeys[i] = CrossUnitComparator.sortKey(keys[i]);
+			}
+			int[] indexes = CrossUnitComparator.sortIndexes(sortKeys, keys.length);
+			assertArrayEquals(new int[] { 7, 4, 6, 1, 3, 9, 5, 0, 8, 2 }, indexes);
+		}
+		
+		@DisplayName("Compare and sort with invalid parameters")
+		@Test
+		public void invalid_ShouldThrow() {
+			assertThrows(NullPointerException.class, () -> new CrossUnitComparator(null));
+			assertThrows(IllegalArgumentException.class, () -> CrossUnitComparator.forScreenResolution(0));
+			assertThrows(NullPointerException.class, () -> comparator.compare(null, DigitalQuantity.valueOf("1in")));
+			assertThrows(IndexOutOfBoundsException.class, () -> comparator.sortedIndexes(new UnitEnum[1], new double[2], 2));
+		}
+		
+	}
+	
+	@DisplayName("ParallelUnitConverter tests")
+	@Nested
+	public class ParallelUnitConverterTests {
+		
+		private final UnitConverter converter = new DpiConverterFactory(96).factory(UnitEnum.PIXEL);
+		
+		@DisplayName("Parallel results are the same as the wrapped converter ones")
+		@Test
+		public void sameResults() {
+			ForkJoinPool pool = new ForkJoinPool(4);
+			try {
+				ParallelUnitConverter parallel = new ParallelUnitConverter(converter, pool, 1000, 100);
+				Random random = new Random(21);
+				double[] source = new double[100_003];
+				for (int i = 0; i < source.length; i++) {
+					source[i] = DigitalQuantity.round(random.nextDouble() * 2000 - 500);
+				}
+				for (UnitEnum from : UnitEnum.values()) {
+					for (int length : new int[] { 0, 99, 999, 1000, 4097, 100_000 }) {
+						double[] expected = new double[source.length];
+						double[] actual = new double[source.length];
+						converter.convertFrom(from, source, 3, expected, 1, length);
+						parallel.convertFrom(from, source, 3, actual, 1, length);
+						assertArrayEquals(expected, actual);
+					}
+				}
+				
+				double[] values = source.clone();
+				double[] expected = new double[source.length];
+				converter.convertFrom(UnitEnum.POINT, source, 0, expected, 0, source.length);
+				parallel.convertFrom(UnitEnum.POINT, values, 0, values.length);
+				assertArrayEquals(expected, values);
+				
+				DigitalQuantityArray array = new DigitalQuantityArray();
+				array.addAll(UnitEnum.POINT, source, 0, source.length);
+				array.convert(parallel);
+				assertArrayEquals(expected, array.toValueArray());
+				
+				assertEquals(converter.convertFrom(UnitEnum.INCH, 2.5), parallel.convertFrom(UnitEnum.INCH, 2.5));
+				assertEquals(UnitEnum.PIXEL, parallel.getGoalUnit());
+				assertEquals(null, parallel.convertFrom(null));
+			} finally {
+				pool.shutdown();
+			}
+		}
+		
+		@DisplayName("Convert from a task of the same pool")
+		@Test
+		public void nestedConversion() {
+			ParallelUnitConverter parallel = new ParallelUnitConverter(converter, ForkJoinPool.commonPool(), 10, 10);
+			double[] values = new double[1000];
+			Arrays.fill(values, 72);
+			ForkJoinPool.commonPool().submit(() -> parallel.convertFrom(UnitEnum.POINT, values, 0, values.length)).join();
+			for (double value : values) {
+				assertEquals(96, value);
+			}
+		}
+		
+		@DisplayName("Reject invalid arguments and propagate exceptions of the wrapped converter")
+		@Test
+		public void invalidArguments() {
+			assertThrows(IllegalArgumentException.class,
+					() -> new ParallelUnitConverter(converter, ForkJoinPool.commonPool(), 0, 10));
+			assertThrows(IllegalArgumentException.class,
+					() -> new ParallelUnitConverter(converter, ForkJoinPool.commonPool(), 10, 0));
+			assertThrows(NullPointerException.class, () -> new ParallelUnitConverter(null));
+			
+			ParallelUnitConverter parallel = new ParallelUnitConverter(converter, ForkJoinPool.commonPool(), 10, 10);
+			double[] values = new double[100];
+			assertThrows(IndexOutOfBoundsException.class, () -> parallel.convertFrom(UnitEnum.POINT, values, 1, values.length));
+			assertThrows(NullPointerException.class, () -> parallel.convertFrom(null, values, 0, values.length));
+			
+			UnitConverter failing = new UnitConverter() {
+				
+				@Override
+				public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+					throw new UnsupportedOperationException();
+				}
+				
+				@Override
+				public UnitEnum getGoalUnit() {
+					return UnitEnum.PIXEL;
+				}
+				
+			};
+			ParallelUnitConverter parallelFailing = new ParallelUnitConverter(failing, ForkJoinPool.commonPool(), 10, 10);
+			assertThrows(UnsupportedOperationException.class,
+					() -> parallelFailing.convertFrom(UnitEnum.POINT, values, 0, values.length));
+		}
+		
+	}
+	
+	@DisplayName("QuantityConversionProcessor tests")
+	@Nested
+	public class QuantityConversionProcessorTests {
+		
+		private final UnitConverter converter = new DpiConverterFactory(96).factory(UnitEnum.PIXEL);
+		
+		/**
+		 * <p>An upstream subscription that records the demand and whether it was cancelled.
+		 */
+		private class RecordingSubscription implements Flow.Subscription {
+			
+			private final AtomicLong requested = new AtomicLong();
+			private volatile boolean cancelled;
+			
+			@Override
+			public void request(long n) {
+				requested.addAndGet(n);
+			}
+			
+			@Override
+			public void cancel() {
+				cancelled = true;
+			}
+			
+		}
+		
+		@DisplayName("Publish every quantity converted and in order")
+		@Test
+		public void convertInOrder() throws Exception {
+			QuantityConversionProcessor processor = new QuantityConversionProcessor(converter, 7, Duration.ofMinutes(1));
+			List<DigitalQuantity> received = Collections.synchronizedList(new ArrayList<>());
+			CompletableFuture<Void> consumed = processor.consume(received::add);
+			List<String> sent = new ArrayList<>();
+			try (SubmissionPublisher<String> upstream = new SubmissionPublisher<>()) {
+				upstream.subscribe(processor);
+				Random random = new Random(22);
+				for (int i = 0; i < 1000; i++) {
+					UnitEnum unit = UnitEnum.values()[random.nextInt(UnitEnum.values().length)];
+					String quantity = DigitalQuantity.round(random.nextDouble() * 100) + unit.getSymbol();
+					sent.add(quantity);
+					upstream.submit(quantity);
+				}
+			}
+			consumed.get(10, TimeUnit.SECONDS);
+			assertEquals(sent.size(), received.size());
+			for (int i = 0; i < sent.size(); i++) {
+				assertEquals(converter.convertFrom(DigitalQuantity.valueOf(sent.get(i))), received.get(i));
+			}
+		}
+		
+		@DisplayName("Flush a partial batch when the flush interval passes")
+		@Test
+		public void flushOnTime() throws Exception {
+			QuantityConversionProcessor processor = new QuantityConversionProcessor(converter, 100, Duration.ofMillis(20));
+			CountDownLatch latch = new CountDownLatch(3);
+			List<DigitalQuantity> received = Collections.synchronizedList(new ArrayList<>());
+			processor.consume(quantity -> {
+				received.add(quantity);
+				latch.countDown();
+			});
+			RecordingSubscription subscription = new RecordingSubscription();
+			processor.onSubscribe(subscription);
+			processor.onNext("72pt");
+			processor.onNext("1in");
+			processor.onNext("0.5in");
+			assertTrue(latch.await(10, TimeUnit.SECONDS));
+			assertEquals(List.of(DigitalQuantity.valueOf("96px"), DigitalQuantity.valueOf("96px"),
+					DigitalQuantity.valueOf("48px")), received);
+			// The flushed quantities are requested again
+			assertEquals(103, subscription.requested.get());
+			processor.close();
+		}
+		
+		@DisplayName("Request from upstream a batch at a time")
+		@Test
+		public void demand() throws Exception {
+			QuantityConversionProcessor processor = new QuantityConversionProcessor(converter, 4, Duration.ofMinutes(1));
+			CompletableFuture<Void> consumed = processor.consume(quantity -> { });
+			RecordingSubscription subscription = new RecordingSubscription();
+			processor.onSubscribe(subscription);
+			assertEquals(4, subscription.requested.get());
+			for (int i = 0; i < 3; i++) processor.onNext("1cm");
+			assertEquals(4, subscription.requested.get());
+			processor.onNext("1cm");
+			assertEquals(8, subscription.requested.get());
+			
+			RecordingSubscription second = new RecordingSubscription();
+			processor.onSubscribe(second);
+			assertTrue(second.cancelled);
+			assertEquals(0, second.requested.get());
+			
+			processor.onComplete();
+			consumed.get(10, TimeUnit.SECONDS);
+			assertTrue(processor.isClosed());
+		}
+		
+		@DisplayName("Flush on time with a single thread and a slow subscriber")
+		@Test
+		public void slowSubscriber() throws Exception {
+			ExecutorService executor = Executors.newSingleThreadExecutor();
+			try {
+				// Keeps the only thread busy, like a slow subscriber, until the flush timer is queued behind it
+				CountDownLatch slow = new CountDownLatch(1);
+				executor.execute(() -> {
+					try {
+						slow.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+				QuantityConversionProcessor processor = new QuantityConversionProcessor(converter, 2, Duration.ofMillis(1),
+						executor, 1);
+				List<DigitalQuantity> received = Collections.synchronizedList(new ArrayList<>());
+				CompletableFuture<Void> consumed = processor.consume(received::add);
+				processor.onSubscribe(new RecordingSubscription());
+				processor.onNext("1pt");
+				Thread.sleep(50);
+				// The second quantity fills the batch, and publishing it waits for room in the buffer of one quantity
+				Thread upstream = new Thread(() -> {
+					for (int i = 2; i <= 6; i++) processor.onNext(i + "pt");
+					processor.onComplete();
+				});
+				upstream.setDaemon(true);
+				upstream.start();
+				Thread.sleep(50);
+				slow.countDown();
+				consumed.get(10, TimeUnit.SECONDS);
+				upstream.join(10_000);
+				assertEquals(6, received.size());
+				for (int i = 0; i < 6; i++) {
+					assertEquals(converter.convertFrom(DigitalQuantity.valueOf((i + 1) + "pt")), received.get(i));
+				}
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+		
+		@DisplayName("Fail on malformed quantities")
+		@Test
+		public void malformedQuantity() throws Exception {
+			QuantityConversionProcessor processor = new QuantityConversionProcessor(converter, 10, Duration.ofMinutes(1));
+			List<DigitalQuantity> received = Collections.synchronizedList(new ArrayList<>());
+			CompletableFuture<Void> consumed = processor.consume(received::add);
+			RecordingSubscription subscription = new RecordingSubscription();
+			processor.onSubscribe(subscription);
+			processor.onNext("12pt");
+			processor.onNext("12.5.3pt");
+			processor.onNext("13pt");
+			ExecutionException exception = assertThrows(ExecutionException.class, () -> consumed.get(10, TimeUnit.SECONDS));
+			assertTrue(exception.getCause() instanceof IllegalArgumentException);
+			assertTrue(subscription.cancelled);
+			// The error may overtake the quantities still buffered, but never the ones after it
+			assertTrue(received.size() <= 1);
+			if (!received.isEmpty()) assertEquals(DigitalQuantity.valueOf("16px"), received.get(0));
+			
+			assertThrows(IllegalArgumentException.class,
+					() -> new QuantityConversionProcessor(converter, 0, Duration.ofSeconds(1)));
+			assertThrows(IllegalArgumentException.class,
+					() -> new QuantityConversionProcessor(converter, 10, Duration.ZERO));
+		}
+		
+	}
+	
+	@DisplayName("UnitConverters built using the DpiConverterFactory")
+	@Nested
+	public class DpiConverterFactoryTests {
+		
+		@DisplayName("Convert with a fixed screen resolution")
+		@Test
+		public void convertWithFixedResolution() {
+			ScreenResolutionBasedUnitConverterFactory factory = new DpiConverterFactory(144);
+			assertEquals(144, factory.getScreenResolution());
+			UnitConverter converter = factory.factory(UnitEnum.PIXEL);
+			assertEquals(UnitEnum.PIXEL, converter.getGoalUnit());
+			assertSame(ConverterRegistry.getDefault().getConverter(UnitEnum.PIXEL, 144), converter);
+			DigitalQuantity converted = converter.convertFrom(DigitalQuantity.valueOf("2in"));
+			assertEquals(UnitEnum.PIXEL, converted.getUnit());
+			assertEquals(288, converted.getValue());
+		}
+		
+		@DisplayName("Read the screen resolution from the supplier every time")
+		@Test
+		public void convertWithSuppliedResolution() {
+			int[] dpi = { 72 };
+			ScreenResolutionBasedUnitConverterFactory factory = new DpiConverterFactory(() -> dpi[0]);
+			assertEquals(72, factory.factory(UnitEnum.PIXEL).convertFrom(UnitEnum.INCH, 1));
+			dpi[0] = 300;
+			assertEquals(300, factory.getScreenResolution());
+			assertEquals(300, factory.factory(UnitEnum.PIXEL).convertFrom(UnitEnum.INCH, 1));
+		}
+		
+		@DisplayName("Create factories and converters with invalid parameters")
+		@Test
+		public void invalid_ShouldThrow() {
+			assertThrows(IllegalArgumentException.class, () -> new DpiConverterFactory(0));
+			assertThrows(NullPointerException.class, () -> new DpiConverterFactory(null));
+			assertThrows(IllegalArgumentException.class, () -> new DpiConverterFactory(() -> -1).factory(UnitEnum.PIXEL));
+			assertThrows(NullPointerException.class, () -> new DpiConverterFactory(96).factory(null));
+		}
+		
+	}
+	
+	@DisplayName("Bulk conversion tests")
+	@Nested
+	public class BulkConversionTests {
+		
+		private final ConversionTable table = ConversionTable.forScreenResolution(96);
+		
+		private double[] randomValues(int length) {
+			Random random = new Random(length);
+			double[] values = new double[length];
+			for (int i = 0; i < length; i++) values[i] = DigitalQuantity.round((random.nextDouble() - 0.5) * 2000);
+			return values;
+		}
+		
+		@DisplayName("Bulk conversion matches scalar conversion for every pair of units")
+		@Test
+		public void bulkMatchesScalar() {
+			double[] source = randomValues(1000);
+			double[] destination = new double[source.length + 10];
+			for (UnitEnum goalUnit : UnitEnum.values()) {
+				UnitConverter converter = new TableUnitConverter(goalUnit, table);
+				for (UnitEnum fromUnit : UnitEnum.values()) {
+					converter.convertFrom(fromUnit, source, 0, destination, 10, source.length);
+					for (int i = 0; i < source.length; i++) {
+						DigitalQuantity converted = converter.convertFrom(new DigitalQuantity(fromUnit, source[i]));
+						assertEquals(converted.getValue(), destination[i + 10]);
+					}
+				}
+			}
+		}
+		
+		@DisplayName("Primitive scalar conversion matches bulk conversion")
+		@Test
+		public void primitiveMatchesBulk() {
+			double[] source = randomValues(1000);
+			double[] destination = new double[source.length];
+			for (UnitEnum goalUnit : UnitEnum.values()) {
+				UnitConverter converter = new TableUnitConverter(goalUnit, table);
+				UnitConverter defaultConverter = new UnitConverter() {
+					
+					@Override
+					public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+						return converter.convertFrom(digitalQuantity);
+					}
+					
+					@Override
+					public UnitEnum getGoalUnit() {
+						return goalUnit;
+					}
+					
+				};
+				for (UnitEnum fromUnit : UnitEnum.values()) {
+					converter.convertFrom(fromUnit, source, 0, destination, 0, source.length);
+					for (int i = 0; i < source.length; i++) {
+						assertEquals(destination[i], converter.convertFrom(fromUnit, source[i]));
+						assertEquals(destination[i], defaultConverter.convertFrom(fromUnit, source[i]));
+					}
+				}
+			}
+		}
+		
+		@DisplayName("In place bulk conversion only touches the given region")
+		@Test
+		public void convertInPlace() {
+			UnitConverter converter = new TableUnitConverter(UnitEnum.PIXEL, table);
+			double[] values = { 1, 2, 3, 4 };
+			converter.convertFrom(UnitEnum.INCH, values, 1, 2);
+			assertEquals(1, values[0]);
+			assertEquals(192, values[1]);
+			assertEquals(288, values[2]);
+			assertEquals(4, values[3]);
+		}
+		
+		@DisplayName("Default bulk conversion goes through the scalar conversion")
+		@Test
+		public void defaultBulkConversion() {
+			UnitConverter tableConverter = new TableUnitConverter(UnitEnum.CENTIMETER, table);
+			UnitConverter converter = new UnitConverter() {
+				
+				@Override
+				public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+					return tableConverter.convertFrom(digitalQuantity);
+				}
+				
+				@Override
+				public UnitEnum getGoalUnit() {
+					return tableConverter.getGoalUnit();
+				}
+				
+			};
+			double[] source = randomValues(100);
+			double[] expected = new double[source.length];
+			double[] destination = new double[source.length];
+			tableConverter.convertFrom(UnitEnum.POINT, source, 0, expected, 0, source.length);
+			converter.convertFrom(UnitEnum.POINT, source, 0, destination, 0, source.length);
+			for (int i = 0; i < source.length; i++) assertEquals(expected[i], destination[i]);
+		}
+		
+		@DisplayName("Bulk conversion with regions out of bounds")
+		@Test
+		public void convertOutOfBounds_ShouldThrowIndexOutOfBounds() {
+			UnitConverter converter = new TableUnitConverter(UnitEnum.PIXEL, table);
+			double[] values = new double[4];
+			assertThrows(IndexOutOfBoundsException.class, () -> converter.convertFrom(UnitEnum.INCH, values, 2, 3));
+			assertThrows(IndexOutOfBoundsException.class, () -> converter.convertFrom(UnitEnum.INCH, values, 0, new double[2], 0, 3));
+			assertThrows(IndexOutOfBoundsException.class, () -> converter.convertFrom(UnitEnum.INCH, values, -1, 2));
+		}
+		
+		@DisplayName("Bulk conversion with null parameters")
+		@Test
+		public void convertNull_ShouldThrowNullPointer() {
+			UnitConverter converter = new TableUnitConverter(UnitEnum.PIXEL, table);
+			assertThrows(NullPointerException.class, () -> converter.convertFrom(null, new double[1], 0, 1));
+			assertThrows(NullPointerException.class, () -> converter.convertFrom(UnitEnum.INCH, null, 0, 1));
+		}
+		
+	}
 
 }
@@ -0,0 +1,63 @@
+package com.github.pedroter7.digitalunits.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityParser;
+import com.github.pedroter7.digitalunits.ParseFailure;
+import com.github.pedroter7.digitalunits.QuantityFormatter;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>The tests run with metrics disabled, as the rest of the suite and the library by default.
+ */
+@DisplayName("Disabled metrics tests")
+public class MetricsDisabledTests {
+
+	@DisplayName("Disabled by default")
+	@Test
+	public void disabled() {
+		assertFalse(Metrics.isEnabled());
+		assertNull(Metrics.getRecorder());
+	}
+
+	@DisplayName("Ignore every measurement")
+	@Test
+	public void ignoreMeasurements() {
+		Metrics.recordConversions(UnitEnum.POINT, UnitEnum.PIXEL, 1);
+		Metrics.recordConversions(UnitEnum.POINT, UnitEnum.PIXEL, 100, System.nanoTime());
+		Metrics.recordParseFailure(ParseFailure.EMPTY);
+		Metrics.recordFormat(System.nanoTime());
+		UnitConverter converter = new DpiConverterFactory(96).factory(UnitEnum.PIXEL);
+		assertEquals(16, converter.convertFrom(UnitEnum.POINT, 12));
+		double[] values = { 1 };
+		converter.convertFrom(UnitEnum.INCH, values, 0, 1);
+		assertEquals(96, values[0]);
+		assertThrows(IllegalArgumentException.class, () -> DigitalQuantity.valueOf("1e400px"));
+		assertThrows(UnsupportedOperationException.class, () -> DigitalQuantity.valueOf("12xy"));
+		assertEquals(-1, new DigitalQuantityParser().tryParse("12", 0, 2));
+		assertEquals("12.50 pt", new QuantityFormatter(true, 2, Locale.US).format(DigitalQuantity.valueOf("12.5pt")));
+		assertNull(Metrics.getRecorder());
+	}
+
+	@DisplayName("Refuse to register the MBean")
+	@Test
+	public void registerMBean() throws Exception {
+		assertThrows(IllegalStateException.class, Metrics::registerMBean);
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(new ObjectName(Metrics.OBJECT_NAME)));
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.github.pedroter7.digitalunits.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.DigitalQuantityParser;
+import com.github.pedroter7.digitalunits.ParseFailure;
+import com.github.pedroter7.digitalunits.QuantityFormatter;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.DpiConverterFactory;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * <p>The tests run with metrics enabled, in a surefire execution of their own, see {@link MetricsDisabledTests} for
+ * the default.
+ */
+@DisplayName("Metrics tests")
+public class MetricsTests {
+
+	private final UnitConverter converter = new DpiConverterFactory(96).factory(UnitEnum.PIXEL);
+
+	private CountingMetricsRecorder recorder() {
+		assertTrue(Metrics.isEnabled());
+		return (CountingMetricsRecorder) Metrics.getRecorder();
+	}
+
+	@DisplayName("Count conversions by pair of units")
+	@Test
+	public void countConversions() {
+		CountingMetricsRecorder recorder = recorder();
+		long pointToPixel = recorder.getConversionCount(UnitEnum.POINT, UnitEnum.PIXEL);
+		long inchToPixel = recorder.getConversionCount(UnitEnum.INCH, UnitEnum.PIXEL);
+		long total = recorder.getConversionCount();
+		converter.convertFrom(DigitalQuantity.valueOf("12pt"));
+		converter.convertFrom(UnitEnum.POINT, 12);
+		converter.convertFrom(UnitEnum.INCH, new double[100], 0, 100);
+		assertEquals(pointToPixel + 2, recorder.getConversionCount(UnitEnum.POINT, UnitEnum.PIXEL));
+		assertEquals(inchToPixel + 100, recorder.getConversionCount(UnitEnum.INCH, UnitEnum.PIXEL));
+		assertEquals(total + 102, recorder.getConversionCount());
+		assertTrue(recorder.getConversionCounts().get("pt->px") >= 2);
+	}
+
+	@DisplayName("Count failed reads by reason")
+	@Test
+	public void countParseFailures() {
+		CountingMetricsRecorder recorder = recorder();
+		assertFailure(recorder, ParseFailure.EMPTY, () -> DigitalQuantity.valueOf("  "));
+		assertFailure(recorder, ParseFailure.MALFORMED_NUMBER, () -> DigitalQuantity.valueOf("12.5.3pt"));
+		assertFailure(recorder, ParseFailure.MISSING_UNIT, () -> DigitalQuantity.valueOf("12"));
+		assertFailure(recorder, ParseFailure.UNSUPPORTED_UNIT, () -> DigitalQuantity.valueOf("12xy"));
+		assertFailure(recorder, ParseFailure.OUT_OF_RANGE, () -> DigitalQuantity.valueOf("1e400px"));
+		DigitalQuantityParser parser = new DigitalQuantityParser();
+		assertFailure(recorder, ParseFailure.MALFORMED_NUMBER, () -> parser.parse("px", 0, 2));
+		assertFailure(recorder, ParseFailure.UNSUPPORTED_UNIT, () -> parser.parse("12 xy", 0, 5));
+		assertEquals(ParseFailure.values().length, recorder.getParseFailureCounts().size());
+	}
+
+	private void assertFailure(CountingMetricsRecorder recorder, ParseFailure reason, Executable read) {
+		long before = recorder.getParseFailureCount(reason);
+		assertThrows(RuntimeException.class, read::execute);
+		assertEquals(before + 1, recorder.getParseFailureCount(reason));
+	}
+
+	private interface Executable {
+
+		void execute();
+
+	}
+
+	@DisplayName("Count formatted quantities")
+	@Test
+	public void countFormatting() {
+		CountingMetricsRecorder recorder = recorder();
+		long count = recorder.getFormatCount();
+		long nanos = recorder.getFormatNanos();
+		new QuantityFormatter(true, 2, Locale.US).format(DigitalQuantity.valueOf("12.5pt"));
+		DigitalQuantity.valueOf("12.5pt").getHumanRepresentation(false);
+		assertEquals(count + 2, recorder.getFormatCount());
+		assertTrue(recorder.getFormatNanos() > nanos);
+	}
+
+	@DisplayName("Expose the counts through JMX")
+	@Test
+	public void registerMBean() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(Metrics.registerMBean());
+		try {
+			assertThrows(IllegalStateException.class, Metrics::registerMBean);
+			converter.convertFrom(UnitEnum.POINT, 12);
+			assertEquals(recorder().getConversionCount(), server.getAttribute(name, "ConversionCount"));
+			assertTrue((Long) server.getAttribute(name, "FormatCount") >= 0);
+			assertTrue(server.getAttribute(name, "ConversionCounts") instanceof javax.management.openmbean.TabularData);
+		} finally {
+			server.unregisterMBean(name);
+		}
+	}
+
+	@DisplayName("Commit slow calls as JFR events")
+	@Test
+	public void slowCallEvents(@TempDir Path directory) throws Exception {
+		double[] values = new double[4_000_000];
+		Path file = directory.resolve("slow-calls.jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("com.github.pedroter7.digitalunits.SlowCall");
+			recording.start();
+			converter.convertFrom(UnitEnum.POINT, values, 0, values.length);
+			recording.stop();
+			recording.dump(file);
+		}
+		List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+		assertTrue(events.stream().anyMatch(event -> "conversion".equals(event.getString("operation"))
+				&& "pt->px".equals(event.getString("detail")) && event.getLong("count") == values.length));
+	}
+
+	@DisplayName("Reset every count")
+	@Test
+	public void reset() {
+		CountingMetricsRecorder recorder = new CountingMetricsRecorder();
+		recorder.recordConversions(UnitEnum.POINT, UnitEnum.INCH, 3);
+		recorder.recordParseFailure(ParseFailure.EMPTY);
+		recorder.recordFormat(10);
+		assertEquals(Map.of("pt->in", 3L), recorder.getConversionCounts());
+		recorder.reset();
+		assertEquals(0, recorder.getConversionCount());
+		assertEquals(0, recorder.getParseFailureCount(ParseFailure.EMPTY));
+		assertEquals(0, recorder.getFormatCount());
+		assertEquals(0, recorder.getFormatNanos());
+	}
+
+}
@@ -0,0 +1,43 @@
+package com.github.pedroter7.digitalunits.vector;
+
+import java.util.Objects;
+
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.ConversionTable;
+import com.github.pedroter7.digitalunits.converter.ScreenResolutionBasedUnitConverterFactory;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+/**
+ * <p>A {@code UnitConverter} factory whose converters perform bulk conversions with
+ * the incubating JDK Vector API. Bulk conversion results are bit for bit the same as
+ * the ones of the converters in the core library.
+ * 
+ * <p>The {@code jdk.incubator.vector} module must be resolved, e.g. by running the JVM
+ * with {@code --add-modules jdk.incubator.vector}.
+ * 
+ * @since 1.1
+ */
+public final class VectorConverterFactory implements ScreenResolutionBasedUnitConverterFactory {
+	
+	private final ConversionTable conversionTable;
+	
+	/**
+	 * @param conversionTable The {@code ConversionTable} whose factors the converters use.
+	 * A {@code null} value causes a {@link NullPointerException}.
+	 */
+	public VectorConverterFactory(ConversionTable conversionTable) {
+		this.conversionTable = Objects.requireNonNull(conversionTable);
+	}
+
+	@Override
+	public UnitConverter factory(UnitEnum goalUnit) {
+		Objects.requireNonNull(goalUnit);
+		return new VectorUnitConverter(goalUnit, conversionTable);
+	}
+
+	@Override
+	public int getScreenResolution() {
+		return conversionTable.getScreenResolution();
+	}
+
+}
@@ -0,0 +1,139 @@
+package com.github.pedroter7.digitalunits.vector;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * <p>Multiplies arrays of values by a factor and rounds the products to the
+ * {@code DigitalQuantity} precision, several lanes at a time.
+ * 
+ * <p>Every lane is scaled by the same exact power of ten and rounded at the same digit as in
+ * {@link DigitalQuantity#round(double)}, so the results are bit for bit the same. Lanes that {@code DigitalQuantity#round(double)}
+ * would hand to {@code BigDecimal}, that is, values too close to a rounding tie, zero,
+ * subnormal, non-finite or out of the exactly scalable range, are rounded one by one
+ * with {@link DigitalQuantity#round(double)}.
+ * 
+ * @since 1.1
+ */
+final class VectorRounding {
+	
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+	
+	private static final double MAX_SCALE = 22;
+	private static final double TIE_MARGIN = 1e-7;
+	private static final double LOG10_OF_2 = 0.30102999566398120;
+	
+	private static final int EXPONENT_SHIFT = 52;
+	private static final long EXPONENT_MASK = 0x7ff;
+	private static final double EXPONENT_BIAS = 1023;
+	private static final double MAX_BIASED_EXPONENT = 2046;
+	private static final long SIGN_MASK = Long.MIN_VALUE;
+	private static final long MAGNITUDE_MASK = Long.MAX_VALUE;
+	
+	// Adding and subtracting 2^52 rounds a double below 2^51 to the nearest integer
+	private static final double TWO_TO_52 = 0x1p52;
+	private static final long TWO_TO_52_BITS = Double.doubleToRawLongBits(TWO_TO_52);
+	
+	private static final DoubleVector ONES = DoubleVector.broadcast(SPECIES, 1);
+	
+	private VectorRounding() {}
+	
+	/**
+	 * <p>Writes {@code DigitalQuantity.round(source[sourceOffset + i] * factor)} to
+	 * {@code destination[destinationOffset + i]} for every {@code i} below {@code length}.
+	 * Bounds must have been checked by the caller.
+	 * 
+	 * <p>The whole lane computation is kept in the loop body so that C2 can inline it and
+	 * keep the vectors in registers.
+	 */
+	static void multiplyAndRound(double[] source, int sourceOffset, double factor,
+			double[] destination, int destinationOffset, int length) {
+		int bound = SPECIES.loopBound(length);
+		int i = 0;
+		for (; i < bound; i += SPECIES.length()) {
+			DoubleVector values = DoubleVector.fromArray(SPECIES, source, sourceOffset + i).mul(factor);
+			LongVector bits = values.reinterpretAsLongs();
+			DoubleVector magnitudes = bits.and(MAGNITUDE_MASK).reinterpretAsDoubles();
+			
+			// Moves the biased exponent into the mantissa of 2^52 to read it as a double
+			DoubleVector biasedExponents = bits.lanewise(VectorOperators.LSHR, EXPONENT_SHIFT)
+					.and(EXPONENT_MASK)
+					.or(TWO_TO_52_BITS)
+					.reinterpretAsDoubles()
+					.sub(TWO_TO_52);
+			// Same estimate as the scalar rounding, floor(binaryExponent * log10(2))
+			DoubleVector estimates = biasedExponents.sub(EXPONENT_BIAS).mul(LOG10_OF_2);
+			DoubleVector nearestEstimates = estimates.add(1.5 * TWO_TO_52).sub(1.5 * TWO_TO_52);
+			DoubleVector scales = nearestEstimates.sub(1, nearestEstimates.compare(VectorOperators.GT, estimates))
+					.neg().add(7);
+			
+			DoubleVector powers = powersOfTen(scales);
+			DoubleVector scaled = magnitudes.mul(powers).blend(magnitudes.div(powers), scales.compare(VectorOperators.LT, 0));
+			
+			// The estimate may be one below the decimal exponent, which one scale down fixes
+			VectorMask<Double> over = scaled.compare(VectorOperators.GE, 1e8);
+			scales = scales.sub(1, over);
+			VectorMask<Double> positiveScales = scales.compare(VectorOperators.GE, 0);
+			powers = powers.blend(powers.div(10).blend(powers.mul(10), positiveScales.not()), over);
+			scaled = magnitudes.div(powers).blend(magnitudes.mul(powers), positiveScales);
+			
+			// Away from ties the nearest integer is the same as floor(scaled + 0.5)
+			DoubleVector rounded = scaled.add(TWO_TO_52).sub(TWO_TO_52);
+			rounded.mul(powers).blend(rounded.div(powers), positiveScales)
+					.reinterpretAsLongs()
+					.or(bits.and(SIGN_MASK))
+					.reinterpretAsDoubles()
+					.intoArray(destination, destinationOffset + i);
+			
+			// Zero, subnormal, non-finite and NaN values all have an exponent out of range
+			VectorMask<Double> handled = biasedExponents.compare(VectorOperators.GE, 1)
+					.and(biasedExponents.compare(VectorOperators.LE, MAX_BIASED_EXPONENT))
+					.and(scales.compare(VectorOperators.GE, -MAX_SCALE))
+					.and(scales.compare(VectorOperators.LE, MAX_SCALE))
+					.and(scaled.sub(rounded).abs().compare(VectorOperators.LE, 0.5 - TIE_MARGIN));
+			if (!handled.allTrue()) {
+				roundLanes(source, sourceOffset + i, factor, destination, destinationOffset + i, handled);
+			}
+		}
+		for (; i < length; i++) {
+			destination[destinationOffset + i] = DigitalQuantity.round(source[sourceOffset + i] * factor);
+		}
+	}
+	
+	private static void roundLanes(double[] source, int sourceOffset, double factor,
+			double[] destination, int destinationOffset, VectorMask<Double> handled) {
+		for (int lane = 0; lane < SPECIES.length(); lane++) {
+			if (!handled.laneIsSet(lane)) {
+				destination[destinationOffset + lane] = DigitalQuantity.round(source[sourceOffset + lane] * factor);
+			}
+		}
+	}
+	
+	/**
+	 * <p>Computes 10^|scale| by multiplying exact powers of ten picked from the binary
+	 * representation of |scale|. Every partial product is a power of ten not above 10^22,
+	 * so it is exact. Scales out of range give wrong powers, those lanes fall back anyway.
+	 */
+	private static DoubleVector powersOfTen(DoubleVector scales) {
+		DoubleVector exponents = scales.abs();
+		VectorMask<Double> set = exponents.compare(VectorOperators.GE, 16);
+		DoubleVector powers = ONES.blend(1e16, set);
+		exponents = exponents.sub(16, set);
+		set = exponents.compare(VectorOperators.GE, 8);
+		powers = powers.mul(1e8, set);
+		exponents = exponents.sub(8, set);
+		set = exponents.compare(VectorOperators.GE, 4);
+		powers = powers.mul(1e4, set);
+		exponents = exponents.sub(4, set);
+		set = exponents.compare(VectorOperators.GE, 2);
+		powers = powers.mul(1e2, set);
+		exponents = exponents.sub(2, set);
+		return powers.mul(1e1, exponents.compare(VectorOperators.GE, 1));
+	}
+
+}
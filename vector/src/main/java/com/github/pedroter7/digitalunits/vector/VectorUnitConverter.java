@@ -0,0 +1,58 @@
+package com.github.pedroter7.digitalunits.vector;
+
+import java.util.Objects;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.ConversionTable;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+import com.github.pedroter7.digitalunits.metrics.Metrics;
+
+/**
+ * <p>An {@code UnitConverter} implementation that converts with the factors of a
+ * {@link ConversionTable} and performs bulk conversions with the JDK Vector API.
+ * 
+ * @since 1.1
+ */
+final class VectorUnitConverter implements UnitConverter {
+	
+	private final UnitEnum goalUnit;
+	private final ConversionTable conversionTable;
+	
+	VectorUnitConverter(UnitEnum goalUnit, ConversionTable conversionTable) {
+		this.goalUnit = goalUnit;
+		this.conversionTable = conversionTable;
+	}
+
+	@Override
+	public DigitalQuantity convertFrom(DigitalQuantity digitalQuantity) {
+		if (digitalQuantity == null) return null;
+		if (Metrics.isEnabled()) Metrics.recordConversions(digitalQuantity.getUnit(), goalUnit, 1);
+		if (digitalQuantity.getUnit() == this.goalUnit) return digitalQuantity;
+		double value = conversionTable.convert(digitalQuantity.getValue(), digitalQuantity.getUnit(), goalUnit);
+		return DigitalQuantity.valueOf(goalUnit, value);
+	}
+
+	@Override
+	public double convertFrom(UnitEnum fromUnit, double value) {
+		if (Metrics.isEnabled()) Metrics.recordConversions(fromUnit, goalUnit, 1);
+		return DigitalQuantity.round(value * conversionTable.getFactor(fromUnit, goalUnit));
+	}
+
+	@Override
+	public void convertFrom(UnitEnum fromUnit, double[] source, int sourceOffset,
+			double[] destination, int destinationOffset, int length) {
+		Objects.checkFromIndexSize(sourceOffset, length, source.length);
+		Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+		double factor = conversionTable.getFactor(fromUnit, goalUnit);
+		long start = Metrics.isEnabled() ? System.nanoTime() : 0;
+		VectorRounding.multiplyAndRound(source, sourceOffset, factor, destination, destinationOffset, length);
+		if (Metrics.isEnabled()) Metrics.recordConversions(fromUnit, goalUnit, length, start);
+	}
+
+	@Override
+	public UnitEnum getGoalUnit() {
+		return goalUnit;
+	}
+
+}
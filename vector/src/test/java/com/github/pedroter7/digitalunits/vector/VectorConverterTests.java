@@ -0,0 +1,109 @@
+package com.github.pedroter7.digitalunits.vector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.github.pedroter7.digitalunits.DigitalQuantity;
+import com.github.pedroter7.digitalunits.UnitEnum;
+import com.github.pedroter7.digitalunits.converter.ConversionTable;
+import com.github.pedroter7.digitalunits.converter.UnitConverter;
+
+@DisplayName("Vector UnitConverter tests")
+public class VectorConverterTests {
+	
+	private final ConversionTable table = ConversionTable.forScreenResolution(96);
+	private final VectorConverterFactory factory = new VectorConverterFactory(table);
+	
+	private void assertSameAsScalar(UnitEnum fromUnit, UnitEnum goalUnit, double[] source) {
+		UnitConverter converter = factory.factory(goalUnit);
+		double[] destination = new double[source.length];
+		converter.convertFrom(fromUnit, source, 0, destination, 0, source.length);
+		double factor = table.getFactor(fromUnit, goalUnit);
+		for (int i = 0; i < source.length; i++) {
+			double expected = DigitalQuantity.round(source[i] * factor);
+			assertEquals(Double.doubleToRawLongBits(expected), Double.doubleToRawLongBits(destination[i]),
+					"Converting " + source[i] + " from " + fromUnit + " to " + goalUnit);
+		}
+	}
+	
+	@DisplayName("Bulk conversion matches scalar rounding for every pair of units")
+	@Test
+	public void bulkMatchesScalar() {
+		Random random = new Random(96);
+		double[] source = new double[10_003];
+		for (int i = 0; i < source.length; i++) source[i] = DigitalQuantity.round((random.nextDouble() - 0.5) * 20000);
+		for (UnitEnum fromUnit : UnitEnum.values()) {
+			for (UnitEnum goalUnit : UnitEnum.values()) {
+				assertSameAsScalar(fromUnit, goalUnit, source);
+			}
+		}
+	}
+	
+	@DisplayName("Bulk conversion matches scalar rounding across the whole double range")
+	@Test
+	public void bulkMatchesScalarForRandomBitPatterns() {
+		Random random = new Random(72);
+		double[] source = new double[100_000];
+		for (int i = 0; i < source.length; i++) {
+			double value;
+			do {
+				value = Double.longBitsToDouble(random.nextLong());
+			} while (!Double.isFinite(value) || Double.isInfinite(value * 3779.527559055118));
+			source[i] = value;
+		}
+		assertSameAsScalar(UnitEnum.INCH, UnitEnum.INCH, source);
+		assertSameAsScalar(UnitEnum.METER, UnitEnum.PIXEL, source);
+	}
+	
+	@DisplayName("Bulk conversion matches scalar rounding for special values and ties")
+	@Test
+	public void bulkMatchesScalarForSpecialValues() {
+		double[] source = { 0.0, -0.0, Double.MIN_VALUE, -Double.MIN_VALUE, Double.MIN_NORMAL, 1e-22, 1e22, 1e23,
+				1e-23, 1, -1, 1e7, 1e8, 99999999.5, 9999999.95, 0.999999995, 145.20, -145.20, 1.0 / 3, 100.000005,
+				123.456785, -123.456785, Double.MAX_VALUE / 10 };
+		assertSameAsScalar(UnitEnum.INCH, UnitEnum.INCH, source);
+	}
+	
+	@DisplayName("In place bulk conversion only touches the given region")
+	@Test
+	public void convertInPlace() {
+		UnitConverter converter = factory.factory(UnitEnum.PIXEL);
+		double[] values = new double[20];
+		for (int i = 0; i < values.length; i++) values[i] = i;
+		converter.convertFrom(UnitEnum.INCH, values, 1, 18);
+		assertEquals(0, values[0]);
+		for (int i = 1; i < 19; i++) assertEquals(i * 96, values[i]);
+		assertEquals(19, values[19]);
+	}
+	
+	@DisplayName("Bulk conversion of NaN")
+	@Test
+	public void convertNaN_ShouldThrowNumberFormat() {
+		UnitConverter converter = factory.factory(UnitEnum.PIXEL);
+		double[] values = new double[16];
+		values[5] = Double.NaN;
+		assertThrows(NumberFormatException.class, () -> converter.convertFrom(UnitEnum.INCH, values, 0, values.length));
+	}
+	
+	@DisplayName("Scalar conversion through a vector converter")
+	@Test
+	public void convertScalar() {
+		UnitConverter converter = factory.factory(UnitEnum.PIXEL);
+		assertEquals(null, converter.convertFrom(null));
+		assertEquals(192, converter.convertFrom(new DigitalQuantity(UnitEnum.INCH, 2)).getValue());
+		assertEquals(96, factory.getScreenResolution());
+	}
+	
+	@DisplayName("Bulk conversion with regions out of bounds")
+	@Test
+	public void convertOutOfBounds_ShouldThrowIndexOutOfBounds() {
+		UnitConverter converter = factory.factory(UnitEnum.PIXEL);
+		assertThrows(IndexOutOfBoundsException.class, () -> converter.convertFrom(UnitEnum.INCH, new double[4], 2, 3));
+	}
+
+}